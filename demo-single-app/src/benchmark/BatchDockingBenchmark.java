@@ -0,0 +1,187 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package benchmark;
+
+import io.github.andrewauclair.moderndocking.DockingRegion;
+import io.github.andrewauclair.moderndocking.app.Docking;
+import io.github.andrewauclair.moderndocking.app.RootDockingPanel;
+import io.github.andrewauclair.moderndocking.ext.ui.DockingUI;
+import java.awt.BorderLayout;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import javax.swing.JComponent;
+import javax.swing.JFrame;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+import picocli.CommandLine;
+
+/**
+ * Docks a large layout over and over, once with each dock as its own change and once with all the docks in a single
+ * Docking.batch, and reports the cost of each on the EDT.
+ * <p>
+ * The time includes the layout and painting that Swing runs once the docks are done. Needs a display, for example:
+ * <pre>
+ * xvfb-run -s "-screen 0 1920x1080x24" java -cp demo-single-app.jar benchmark.BatchDockingBenchmark --dockables 200
+ * </pre>
+ * Fails if the batched docks request more revalidations or repaints than the separate docks.
+ */
+@CommandLine.Command(name = "batch-docking", mixinStandardHelpOptions = true, description = "Compare docking a layout with and without a batch")
+public class BatchDockingBenchmark implements Callable<Integer> {
+    @CommandLine.Option(names = "--dockables", defaultValue = "200", description = "number of dockables to dock in each round")
+    int dockableCount;
+
+    @CommandLine.Option(names = "--rounds", defaultValue = "10", description = "number of rounds to measure for each mode")
+    int measuredRounds;
+
+    @CommandLine.Option(names = "--warmup", defaultValue = "3", description = "number of rounds to run for each mode before measuring")
+    int warmupRounds;
+
+    private static class Result {
+        private long nanos = 0;
+        private long revalidations = 0;
+        private long repaints = 0;
+        private long repaintArea = 0;
+    }
+
+    private static class CountingRepaintManager extends RepaintAreaRecorder {
+        private long revalidations = 0;
+
+        @Override
+        public void addInvalidComponent(JComponent invalidComponent) {
+            revalidations++;
+            super.addInvalidComponent(invalidComponent);
+        }
+    }
+
+    private JFrame mainFrame;
+    private final List<BenchmarkPanel> panels = new ArrayList<>();
+    private CountingRepaintManager repaintManager;
+
+    @Override
+    public Integer call() throws Exception {
+        onEDT(this::createWindow);
+        Thread.sleep(100);
+        onEDT(() -> {
+            repaintManager = new CountingRepaintManager();
+            RepaintManager.setCurrentManager(repaintManager);
+        });
+
+        Result separate = measure(false);
+        Result batched = measure(true);
+
+        System.out.printf("Layout: %d dockables, %d measured rounds%n", dockableCount, measuredRounds);
+        print("Separate docks", separate);
+        print("Batched docks", batched);
+
+        if (batched.revalidations > separate.revalidations || batched.repaints > separate.repaints) {
+            System.err.println("Batched docks requested more revalidations or repaints than separate docks");
+            return 1;
+        }
+        return 0;
+    }
+
+    private void createWindow() {
+        mainFrame = new JFrame("Batch Docking Benchmark");
+        mainFrame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        mainFrame.setSize(1600, 1000);
+
+        Docking.initialize(mainFrame);
+        DockingUI.initialize();
+
+        RootDockingPanel root = new RootDockingPanel(mainFrame);
+        mainFrame.add(root, BorderLayout.CENTER);
+
+        for (int i = 0; i < dockableCount; i++) {
+            panels.add(new BenchmarkPanel("dockable-" + i));
+        }
+
+        mainFrame.setVisible(true);
+    }
+
+    private Result measure(boolean batch) throws InterruptedException, InvocationTargetException {
+        Result result = new Result();
+
+        for (int round = 0; round < warmupRounds + measuredRounds; round++) {
+            boolean measured = round >= warmupRounds;
+
+            onEDT(() -> panels.forEach(Docking::undock));
+            onEDT(() -> {});
+
+            long[] start = new long[1];
+
+            onEDT(() -> {
+                repaintManager.reset();
+                repaintManager.revalidations = 0;
+
+                start[0] = System.nanoTime();
+
+                if (batch) {
+                    Docking.batch(this::dockAll);
+                }
+                else {
+                    dockAll();
+                }
+            });
+            // the layout and painting requested by the docks runs before this
+            onEDT(() -> {});
+
+            long nanos = System.nanoTime() - start[0];
+
+            if (measured) {
+                result.nanos += nanos;
+                result.revalidations += repaintManager.revalidations;
+                result.repaints += repaintManager.getRequests();
+                result.repaintArea += repaintManager.getArea();
+            }
+        }
+        return result;
+    }
+
+    private void dockAll() {
+        Docking.dock(panels.get(0), mainFrame);
+
+        // mix splits and tab groups the same way as the drag replay benchmark
+        for (int i = 1; i < panels.size(); i++) {
+            BenchmarkPanel target = panels.get((i - 1) / 2);
+            DockingRegion region = i % 5 == 0 ? DockingRegion.CENTER : i % 2 == 0 ? DockingRegion.SOUTH : DockingRegion.EAST;
+
+            Docking.dock(panels.get(i), target, region);
+        }
+    }
+
+    private void print(String name, Result result) {
+        int rounds = Math.max(1, measuredRounds);
+
+        System.out.printf("%s: %.2f ms per round, %d revalidations, %d repaints, %d px repainted per round%n", name,
+                result.nanos / 1_000_000.0 / rounds, result.revalidations / rounds, result.repaints / rounds, result.repaintArea / rounds);
+    }
+
+    private static void onEDT(Runnable runnable) throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(runnable);
+    }
+
+    public static void main(String[] args) {
+        System.exit(new CommandLine(new BatchDockingBenchmark()).execute(args));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package benchmark;
+
+import io.github.andrewauclair.moderndocking.Dockable;
+import io.github.andrewauclair.moderndocking.app.Docking;
+import java.awt.BorderLayout;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+
+/**
+ * Minimal dockable used to fill the benchmark layout
+ */
+public class BenchmarkPanel extends JPanel implements Dockable {
+    private final String persistentID;
+
+    public BenchmarkPanel(String persistentID) {
+        super(new BorderLayout());
+
+        this.persistentID = persistentID;
+
+        add(new JLabel(persistentID), BorderLayout.CENTER);
+
+        Docking.registerDockable(this);
+    }
+
+    @Override
+    public String getPersistentID() {
+        return persistentID;
+    }
+
+    @Override
+    public String getTabText() {
+        return persistentID;
+    }
+}
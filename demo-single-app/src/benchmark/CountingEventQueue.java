@@ -0,0 +1,54 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package benchmark;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Event queue that keeps track of how many events are waiting to be dispatched on the EDT
+ */
+public class CountingEventQueue extends EventQueue {
+    private final AtomicInteger depth = new AtomicInteger();
+
+    @Override
+    public void postEvent(AWTEvent theEvent) {
+        depth.incrementAndGet();
+        super.postEvent(theEvent);
+    }
+
+    @Override
+    protected void dispatchEvent(AWTEvent event) {
+        depth.decrementAndGet();
+        super.dispatchEvent(event);
+    }
+
+    /**
+     * Get the number of events that have been posted but not dispatched yet
+     *
+     * @return Current queue depth
+     */
+    public int getDepth() {
+        return Math.max(0, depth.get());
+    }
+}
@@ -0,0 +1,395 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package benchmark;
+
+import io.github.andrewauclair.moderndocking.DockingRegion;
+import io.github.andrewauclair.moderndocking.app.Docking;
+import io.github.andrewauclair.moderndocking.app.RootDockingPanel;
+import io.github.andrewauclair.moderndocking.event.DragMotionListener;
+import io.github.andrewauclair.moderndocking.ext.ui.DockingUI;
+import io.github.andrewauclair.moderndocking.internal.floating.DragReplay;
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.GraphicsEnvironment;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.LockSupport;
+import javax.swing.JFrame;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+import picocli.CommandLine;
+
+/**
+ * Replays drags over a large layout without a mouse and reports how well the docking handles and overlay keep up.
+ * <p>
+ * The drags go through the same float listener and utility frame code as a real drag, only the native drag and drop
+ * operation is skipped. This allows the benchmark to run under a virtual display, for example:
+ * <pre>
+ * xvfb-run -s "-screen 0 1920x1080x24" java -cp demo-single-app.jar benchmark.DragReplayBenchmark --windows 10 --dockables 50
+ * </pre>
+ * Fails if the EDT allocates more than {@code --max-alloc-per-event} bytes per drag event. With {@code --verbose}, also
+ * reports the latency of each drag event, the depth of the EDT event queue, the area repainted and the memory allocated
+ * on the EDT while dragging.
+ */
+@CommandLine.Command(name = "drag-replay", mixinStandardHelpOptions = true, description = "Replay drags over a docking layout and report the cost of each drag event")
+public class DragReplayBenchmark implements Callable<Integer> {
+    @CommandLine.Option(names = "--windows", defaultValue = "10", description = "number of docking windows to create")
+    int windowCount;
+
+    @CommandLine.Option(names = "--dockables", defaultValue = "50", description = "number of dockables to create in each window")
+    int dockablesPerWindow;
+
+    @CommandLine.Option(names = "--events", defaultValue = "2000", description = "number of drag events in each generated drag")
+    int eventsPerDrag;
+
+    @CommandLine.Option(names = "--rate", defaultValue = "1000", description = "drag events per second")
+    int eventsPerSecond;
+
+    @CommandLine.Option(names = "--drags", defaultValue = "5", description = "number of drags to measure")
+    int measuredDrags;
+
+    @CommandLine.Option(names = "--warmup", defaultValue = "2", description = "number of drags to run before measuring")
+    int warmupDrags;
+
+    @CommandLine.Option(names = "--path", description = "file of recorded mouse positions on screen, one 'x,y' per line. a path across all the windows is generated if not set")
+    File pathFile;
+
+    @CommandLine.Option(names = "--max-alloc-per-event", defaultValue = "2048", description = "fail if the EDT allocates more than this many bytes per drag event, including painting. disabled when negative")
+    long maxAllocPerEvent;
+
+    @CommandLine.Option(names = "--verbose", description = "report the latency, queue depth, repaint area and allocation of the drag events")
+    boolean verbose;
+
+    private final List<Window> windows = new ArrayList<>();
+    private final List<List<BenchmarkPanel>> panels = new ArrayList<>();
+
+    private BenchmarkPanel dragged;
+    private BenchmarkPanel restoreTarget;
+    private DockingRegion restoreRegion;
+
+    private CountingEventQueue eventQueue;
+    private RepaintAreaRecorder repaintRecorder;
+    private long edtThreadId;
+
+    // samples of the measured drags. written on the EDT, read once the EDT has caught up
+    private long[] dispatchLatencies;
+    private int dispatchCount = 0;
+    private long[] processLatencies;
+    private int processCount = 0;
+    private long coalescedEvents = 0;
+    private boolean recording = false;
+
+    private final DragMotionListener motionListener = this::motionProcessed;
+
+    @Override
+    public Integer call() throws Exception {
+        onEDT(this::createLayout);
+        settle();
+
+        Point[] path = pathFile != null ? readPath(pathFile) : generatePath();
+
+        if (path.length == 0) {
+            System.err.println("Drag path is empty");
+            return 1;
+        }
+
+        onEDT(() -> {
+            eventQueue = new CountingEventQueue();
+            Toolkit.getDefaultToolkit().getSystemEventQueue().push(eventQueue);
+        });
+        onEDT(() -> {
+            edtThreadId = Thread.currentThread().getId();
+            repaintRecorder = new RepaintAreaRecorder();
+            RepaintManager.setCurrentManager(repaintRecorder);
+            Docking.addDragMotionListener(motionListener);
+        });
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        dispatchLatencies = new long[measuredDrags * path.length];
+        processLatencies = new long[measuredDrags * path.length];
+
+        long postedEvents = 0;
+        long allocatedBytes = 0;
+        long repaintRequests = 0;
+        long repaintArea = 0;
+        long depthTotal = 0;
+        int depthMax = 0;
+
+        for (int drag = 0; drag < warmupDrags + measuredDrags; drag++) {
+            boolean measured = drag >= warmupDrags;
+
+            Point start = dragStartPosition();
+
+            onEDT(() -> {
+                if (!DragReplay.begin(Docking.getSingleInstance(), dragged, start)) {
+                    throw new IllegalStateException("Unable to start drag replay");
+                }
+            });
+            settle();
+
+            onEDT(() -> {
+                repaintRecorder.reset();
+                recording = measured;
+            });
+
+            long allocatedBefore = threads.getThreadAllocatedBytes(edtThreadId);
+
+            long period = 1_000_000_000L / Math.max(1, eventsPerSecond);
+            long startNanos = System.nanoTime();
+
+            for (int i = 0; i < path.length; i++) {
+                long deadline = startNanos + i * period;
+                long now;
+                while ((now = System.nanoTime()) < deadline) {
+                    LockSupport.parkNanos(deadline - now);
+                }
+
+                Point pos = path[i];
+                long postedAt = System.nanoTime();
+
+                // drag source events are delivered on the EDT, post each position the same way
+                SwingUtilities.invokeLater(() -> {
+                    if (recording && dispatchCount < dispatchLatencies.length) {
+                        dispatchLatencies[dispatchCount++] = System.nanoTime() - postedAt;
+                    }
+                    DragReplay.motion(pos);
+                });
+
+                if (measured) {
+                    int depth = eventQueue.getDepth();
+                    depthTotal += depth;
+                    depthMax = Math.max(depthMax, depth);
+                }
+            }
+
+            // wait for the EDT to catch up before we look at the totals
+            onEDT(() -> recording = false);
+
+            long allocatedAfter = threads.getThreadAllocatedBytes(edtThreadId);
+
+            if (measured) {
+                postedEvents += path.length;
+                allocatedBytes += allocatedAfter - allocatedBefore;
+                repaintRequests += repaintRecorder.getRequests();
+                repaintArea += repaintRecorder.getArea();
+            }
+
+            Point end = path[path.length - 1];
+
+            onEDT(() -> DragReplay.end(end));
+            settle();
+
+            // put the layout back the way it was so that every drag sees the same layout
+            onEDT(() -> Docking.dock(dragged, restoreTarget, restoreRegion));
+            settle();
+        }
+
+        onEDT(() -> Docking.removeDragMotionListener(motionListener));
+
+        long bytesPerEvent = postedEvents == 0 ? 0 : allocatedBytes / postedEvents;
+
+        if (verbose) {
+            System.out.printf("Layout: %d windows x %d dockables, %d measured drags of %d events at %d events/s%n",
+                    windowCount, dockablesPerWindow, measuredDrags, path.length, eventsPerSecond);
+            printLatencies("Dispatch latency", dispatchLatencies, dispatchCount);
+            printLatencies("Processing latency", processLatencies, processCount);
+            System.out.printf("Drag events: %d posted, %d processed, %d coalesced%n", postedEvents, processCount, coalescedEvents);
+            System.out.printf("EDT queue depth: mean %.1f, max %d%n", postedEvents == 0 ? 0.0 : depthTotal / (double) postedEvents, depthMax);
+            System.out.printf("Repaint: %d requests, %d px total, %d px per event%n", repaintRequests, repaintArea, postedEvents == 0 ? 0 : repaintArea / postedEvents);
+            System.out.printf("EDT allocation: %d bytes total, %d bytes per event%n", allocatedBytes, bytesPerEvent);
+            System.out.println("Drag frame pool: " + Docking.getDragFramePoolMetrics());
+        }
+
+        if (maxAllocPerEvent >= 0 && bytesPerEvent > maxAllocPerEvent) {
+            System.err.printf("EDT allocated %d bytes per drag event, limit is %d%n", bytesPerEvent, maxAllocPerEvent);
+            return 1;
+        }
+        return 0;
+    }
+
+    private void createLayout() {
+        Rectangle screen = GraphicsEnvironment.getLocalGraphicsEnvironment().getMaximumWindowBounds();
+
+        int columns = (int) Math.ceil(Math.sqrt(windowCount));
+        int rows = (int) Math.ceil(windowCount / (double) columns);
+        Dimension size = new Dimension(screen.width / columns, screen.height / rows);
+
+        JFrame mainFrame = new JFrame("Drag Replay Benchmark");
+        mainFrame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        mainFrame.setBounds(screen.x, screen.y, size.width, size.height);
+
+        Docking.initialize(mainFrame);
+        DockingUI.initialize();
+
+        RootDockingPanel root = new RootDockingPanel(mainFrame);
+        mainFrame.add(root, BorderLayout.CENTER);
+
+        for (int window = 0; window < windowCount; window++) {
+            List<BenchmarkPanel> windowPanels = new ArrayList<>();
+
+            for (int i = 0; i < dockablesPerWindow; i++) {
+                windowPanels.add(new BenchmarkPanel("window-" + window + "-dockable-" + i));
+            }
+            panels.add(windowPanels);
+
+            BenchmarkPanel first = windowPanels.get(0);
+
+            if (window == 0) {
+                Docking.dock(first, mainFrame);
+            }
+            else {
+                Point location = new Point(screen.x + (window % columns) * size.width, screen.y + (window / columns) * size.height);
+                Docking.newWindow(first, location, size);
+            }
+
+            // mix splits and tab groups so that the drag crosses both
+            for (int i = 1; i < windowPanels.size(); i++) {
+                BenchmarkPanel target = windowPanels.get((i - 1) / 2);
+                DockingRegion region = i % 5 == 0 ? DockingRegion.CENTER : i % 2 == 0 ? DockingRegion.SOUTH : DockingRegion.EAST;
+
+                Docking.dock(windowPanels.get(i), target, region);
+
+                restoreTarget = target;
+                restoreRegion = region;
+            }
+        }
+
+        mainFrame.setVisible(true);
+
+        for (List<BenchmarkPanel> windowPanels : panels) {
+            windows.add(SwingUtilities.getWindowAncestor(windowPanels.get(0)));
+        }
+
+        // drag the last dockable of the last window, it will be docked back in the same place after each drag
+        List<BenchmarkPanel> lastWindow = panels.get(panels.size() - 1);
+        dragged = lastWindow.get(lastWindow.size() - 1);
+    }
+
+    private Point dragStartPosition() throws InterruptedException, InvocationTargetException {
+        Point start = new Point();
+
+        onEDT(() -> {
+            // just above the top left of the dockable, where its header would be grabbed
+            start.setLocation(dragged.getLocationOnScreen());
+            start.translate(10, -10);
+        });
+        return start;
+    }
+
+    private Point[] generatePath() throws InterruptedException, InvocationTargetException {
+        Rectangle[] bounds = new Rectangle[windows.size()];
+
+        onEDT(() -> {
+            for (int i = 0; i < bounds.length; i++) {
+                bounds[i] = windows.get(i).getBounds();
+            }
+        });
+
+        Point[] path = new Point[eventsPerDrag];
+
+        // sweep a lissajous curve over each window in turn, crossing most of the dockables and handles
+        for (int i = 0; i < path.length; i++) {
+            double progress = i * bounds.length / (double) path.length;
+            Rectangle window = bounds[Math.min(bounds.length - 1, (int) progress)];
+            double t = 2 * Math.PI * (progress - Math.floor(progress));
+
+            int x = window.x + (int) (window.width * (0.5 + 0.45 * Math.sin(3 * t)));
+            int y = window.y + (int) (window.height * (0.5 + 0.45 * Math.sin(2 * t + Math.PI / 4)));
+
+            path[i] = new Point(x, y);
+        }
+        return path;
+    }
+
+    private static Point[] readPath(File file) throws IOException {
+        List<Point> path = new ArrayList<>();
+
+        for (String line : Files.readAllLines(file.toPath())) {
+            line = line.trim();
+
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split(",");
+
+            if (parts.length != 2) {
+                throw new IOException("Invalid mouse position '" + line + "' in " + file);
+            }
+            path.add(new Point(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())));
+        }
+        return path.toArray(new Point[0]);
+    }
+
+    private void motionProcessed(long latencyNanos, int coalesced) {
+        if (!recording) {
+            return;
+        }
+        if (processCount < processLatencies.length) {
+            processLatencies[processCount++] = latencyNanos;
+        }
+        coalescedEvents += coalesced - 1;
+    }
+
+    private static void printLatencies(String name, long[] samples, int count) {
+        if (count == 0) {
+            System.out.println(name + ": no samples");
+            return;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+
+        System.out.printf("%s (us): p50 %.1f, p90 %.1f, p99 %.1f, max %.1f%n", name,
+                percentile(sorted, 0.5), percentile(sorted, 0.9), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1000.0);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1000.0;
+    }
+
+    private static void onEDT(Runnable runnable) throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(runnable);
+    }
+
+    // give the window system a moment to show and move windows, then let the EDT catch up with the work that caused
+    private static void settle() throws InterruptedException, InvocationTargetException {
+        Thread.sleep(100);
+        onEDT(() -> {});
+    }
+
+    public static void main(String[] args) {
+        System.exit(new CommandLine(new DragReplayBenchmark()).execute(args));
+    }
+}
@@ -0,0 +1,178 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package benchmark;
+
+import com.formdev.flatlaf.FlatLightLaf;
+import io.github.andrewauclair.moderndocking.Dockable;
+import io.github.andrewauclair.moderndocking.api.DockingAPI;
+import io.github.andrewauclair.moderndocking.ext.ui.DockingUI;
+import io.github.andrewauclair.moderndocking.ui.DockingHeaderUI;
+import io.github.andrewauclair.moderndocking.ui.HeaderController;
+import io.github.andrewauclair.moderndocking.ui.HeaderModel;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Callable;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import picocli.CommandLine;
+
+/**
+ * Creates a large number of dockable headers and reports the heap retained and the memory allocated by each one.
+ * <p>
+ * Headers are created the same way as when a dockable is registered, without docking them, so the benchmark runs
+ * headless:
+ * <pre>
+ * java -Djava.awt.headless=true -cp demo-single-app.jar benchmark.HeaderFootprintBenchmark --headers 5000 --flatlaf
+ * </pre>
+ * Fails if a header retains more than {@code --max-retained-per-header} bytes. The retained size is the growth of the
+ * used heap after a full GC, so run it with a fixed heap size, e.g. -Xms512m -Xmx512m, for stable numbers.
+ */
+@CommandLine.Command(name = "header-footprint", mixinStandardHelpOptions = true, description = "Report the heap retained by each dockable header")
+public class HeaderFootprintBenchmark implements Callable<Integer> {
+    @CommandLine.Option(names = "--headers", defaultValue = "2000", description = "number of headers to create")
+    int headerCount;
+
+    @CommandLine.Option(names = "--flatlaf", description = "use FlatLaf and the headers of the Modern Docking UI extension")
+    boolean flatLaf;
+
+    @CommandLine.Option(names = "--max-retained-per-header", defaultValue = "8192", description = "fail if each header retains more than this many bytes. disabled when negative")
+    long maxRetainedPerHeader;
+
+    @CommandLine.Option(names = "--verbose", description = "report the retained size and allocation of the headers")
+    boolean verbose;
+
+    private static class FootprintDockable extends JPanel implements Dockable {
+        private final String persistentID;
+
+        private FootprintDockable(String persistentID) {
+            this.persistentID = persistentID;
+        }
+
+        @Override
+        public String getPersistentID() {
+            return persistentID;
+        }
+
+        @Override
+        public String getTabText() {
+            return persistentID;
+        }
+    }
+
+    private DockingAPI docking;
+
+    // everything a header needs, created before measuring so that only the headers are counted
+    private HeaderController[] controllers;
+    private HeaderModel[] models;
+    private DockingHeaderUI[] headers;
+
+    @Override
+    public Integer call() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            if (flatLaf) {
+                FlatLightLaf.setup();
+                DockingUI.initialize();
+            }
+            docking = new DockingAPI(null) {};
+
+            // load and initialize the header classes before measuring
+            createHeaders(Math.min(100, headerCount));
+            headers = null;
+
+            createModels(headerCount);
+        });
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        long[] allocated = new long[1];
+        long usedBefore = usedHeapAfterGC();
+
+        SwingUtilities.invokeAndWait(() -> {
+            long allocatedBefore = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            createHeaders(headerCount);
+            allocated[0] = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBefore;
+        });
+
+        long usedAfter = usedHeapAfterGC();
+
+        long retainedPerHeader = (usedAfter - usedBefore) / Math.max(1, headerCount);
+        long allocatedPerHeader = allocated[0] / Math.max(1, headerCount);
+
+        if (verbose) {
+            System.out.printf("Headers: %d %s headers%n", headerCount, flatLaf ? "FlatLaf" : "default");
+            System.out.printf("Retained: %d bytes total, %d bytes per header%n", usedAfter - usedBefore, retainedPerHeader);
+            System.out.printf("Allocated: %d bytes total, %d bytes per header%n", allocated[0], allocatedPerHeader);
+        }
+
+        // keep the headers reachable until they have been measured
+        SwingUtilities.invokeAndWait(() -> {
+            headers = null;
+            docking.uninitialize();
+        });
+
+        if (maxRetainedPerHeader >= 0 && retainedPerHeader > maxRetainedPerHeader) {
+            System.err.printf("Each header retained %d bytes, limit is %d%n", retainedPerHeader, maxRetainedPerHeader);
+            return 1;
+        }
+        return 0;
+    }
+
+    private void createModels(int count) {
+        controllers = new HeaderController[count];
+        models = new HeaderModel[count];
+
+        for (int i = 0; i < count; i++) {
+            Dockable dockable = new FootprintDockable("header-" + i);
+
+            models[i] = new HeaderModel(dockable, docking);
+            controllers[i] = new HeaderController(dockable, docking, models[i]);
+        }
+    }
+
+    private void createHeaders(int count) {
+        if (models == null || models.length < count) {
+            createModels(count);
+        }
+        headers = new DockingHeaderUI[count];
+
+        for (int i = 0; i < count; i++) {
+            headers[i] = models[i].dockable.createHeaderUI(controllers[i], models[i]);
+        }
+    }
+
+    private static long usedHeapAfterGC() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+
+        // a few rounds, until the used heap stops shrinking
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(50);
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+
+    public static void main(String[] args) {
+        System.exit(new CommandLine(new HeaderFootprintBenchmark()).execute(args));
+    }
+}
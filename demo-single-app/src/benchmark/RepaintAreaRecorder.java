@@ -0,0 +1,79 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package benchmark;
+
+import java.awt.Window;
+import javax.swing.JComponent;
+import javax.swing.RepaintManager;
+
+/**
+ * Repaint manager that adds up the area of every repaint request. Must only be used on the EDT
+ */
+public class RepaintAreaRecorder extends RepaintManager {
+    private long requests = 0;
+    private long area = 0;
+
+    @Override
+    public void addDirtyRegion(JComponent c, int x, int y, int w, int h) {
+        record(w, h);
+        super.addDirtyRegion(c, x, y, w, h);
+    }
+
+    @Override
+    public void addDirtyRegion(Window window, int x, int y, int w, int h) {
+        record(w, h);
+        super.addDirtyRegion(window, x, y, w, h);
+    }
+
+    private void record(int w, int h) {
+        if (w > 0 && h > 0) {
+            requests++;
+            area += (long) w * h;
+        }
+    }
+
+    /**
+     * Reset the counts to zero
+     */
+    public void reset() {
+        requests = 0;
+        area = 0;
+    }
+
+    /**
+     * Get the number of repaint requests since the last reset
+     *
+     * @return Repaint request count
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * Get the total area of the repaint requests since the last reset, in pixels
+     *
+     * @return Repaint area
+     */
+    public long getArea() {
+        return area;
+    }
+}
@@ -211,6 +211,10 @@ public interface Dockable {
 
 	/**
 	 * add the more options to the popup menu. defaults to an empty block to handle the case of hasMoreOptions() = false
+	 * <p>
+	 * The header creates its settings menu the first time it's opened, so this is called then, once per header, and
+	 * not when the dockable is registered or docked. Options that need to be updated before the menu is displayed
+	 * should be updated from a PopupMenuListener added to the menu here.
 	 *
 	 * @param menu The JPopupMenu to add options to
 	 */
@@ -25,28 +25,32 @@ import io.github.andrewauclair.moderndocking.Dockable;
 import io.github.andrewauclair.moderndocking.DockableStyle;
 import io.github.andrewauclair.moderndocking.DockingRegion;
 import io.github.andrewauclair.moderndocking.event.DockingListener;
+import io.github.andrewauclair.moderndocking.event.DragFramePoolMetrics;
+import io.github.andrewauclair.moderndocking.event.DragMotionListener;
 import io.github.andrewauclair.moderndocking.event.MaximizeListener;
 import io.github.andrewauclair.moderndocking.event.NewFloatingFrameListener;
 import io.github.andrewauclair.moderndocking.exception.NotDockedException;
 import io.github.andrewauclair.moderndocking.exception.RootDockingPanelNotFoundException;
+import io.github.andrewauclair.moderndocking.internal.floating.DragFramePool;
 import io.github.andrewauclair.moderndocking.internal.floating.Floating;
 import io.github.andrewauclair.moderndocking.internal.ActiveDockableHighlighter;
 import io.github.andrewauclair.moderndocking.internal.DisplayPanel;
 import io.github.andrewauclair.moderndocking.internal.DockableWrapper;
 import io.github.andrewauclair.moderndocking.internal.DockedTabbedPanel;
+import io.github.andrewauclair.moderndocking.internal.DockingBatch;
 import io.github.andrewauclair.moderndocking.internal.DockingComponentUtils;
 import io.github.andrewauclair.moderndocking.internal.DockingInternal;
 import io.github.andrewauclair.moderndocking.internal.DockingListeners;
 import io.github.andrewauclair.moderndocking.internal.DockingPanel;
 import io.github.andrewauclair.moderndocking.internal.FloatingFrame;
 import io.github.andrewauclair.moderndocking.internal.InternalRootDockingPanel;
+import io.github.andrewauclair.moderndocking.internal.LookAndFeelDispatcher;
 import io.github.andrewauclair.moderndocking.layouts.DynamicDockableCreationListener;
 import io.github.andrewauclair.moderndocking.layouts.WindowLayout;
 import io.github.andrewauclair.moderndocking.settings.Settings;
 import io.github.andrewauclair.moderndocking.ui.ToolbarLocation;
 
 import java.awt.*;
-import java.beans.PropertyChangeListener;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -57,7 +61,6 @@ import java.util.Set;
 import javax.swing.JDialog;
 import javax.swing.JFrame;
 import javax.swing.SwingUtilities;
-import javax.swing.UIManager;
 
 /**
  * Single instance of the docking framework. Useful when a single JVM is to host multiple instances of an application
@@ -77,12 +80,10 @@ public class DockingAPI {
 
     private final LayoutPersistenceAPI layoutPersistence = new LayoutPersistenceAPI(this);
 
+    private final DockingCommandQueueAPI commandQueue = new DockingCommandQueueAPI(this);
+
     // listen for L&F changes so that we can update dockable panels properly when not displayed
-    private final PropertyChangeListener propertyChangeListener = e -> {
-        if ("lookAndFeel".equals(e.getPropertyName())) {
-            SwingUtilities.invokeLater(internals::updateLAF);
-        }
-    };
+    private final LookAndFeelDispatcher.Listener lookAndFeelListener = internals::updateLAF;
 
     public AppStateAPI getAppState() {
         return appState;
@@ -96,6 +97,15 @@ public class DockingAPI {
         return layoutPersistence;
     }
 
+    /**
+     * Get the queue used to submit docking commands from threads other than the EDT
+     *
+     * @return The docking command queue of this instance
+     */
+    public DockingCommandQueueAPI getCommandQueue() {
+        return commandQueue;
+    }
+
     /**
      * Create a new instance of the DockingAPI. Applications will use the single-app or multi-app Docking class
      *
@@ -104,7 +114,7 @@ public class DockingAPI {
     protected DockingAPI(Window mainWindow) {
         this.mainWindow = mainWindow;
 
-        UIManager.addPropertyChangeListener(propertyChangeListener);
+        LookAndFeelDispatcher.addListener(lookAndFeelListener);
 
         if (!Settings.isUseExistingDragThreshold()) {
             System.setProperty("awt.dnd.drag.threshold", String.valueOf(Settings.getDragThreshold()));
@@ -124,7 +134,7 @@ public class DockingAPI {
 
         activeDockableHighlighter.removeListeners();
 
-        UIManager.removePropertyChangeListener(propertyChangeListener);
+        LookAndFeelDispatcher.removeListener(lookAndFeelListener);
 
         DockingInternal.remove(this);
     }
@@ -197,7 +207,7 @@ public class DockingAPI {
             Set<Window> windows = new HashSet<>(getRootPanels().keySet());
 
             for (Window window : windows) {
-                DockingComponentUtils.undockComponents(this, window);
+                DockingComponentUtils.undockComponents(this, internals.getRootPanels().get(window));
 
                 // only dispose this window if we created it
                 if (window instanceof FloatingFrame) {
@@ -952,6 +962,38 @@ public class DockingAPI {
         }
     }
 
+    /**
+     * Apply a group of docking operations, such as dock, undock, autoHideDockable and display, as a single change.
+     * Docking events are held back until all the operations have run and auto persistence is paused, persisting the
+     * layout once at the end.
+     * <p>
+     * Must be called on the EDT. The docking panels don't revalidate or repaint while the batch runs, each changed
+     * window is laid out and painted once when the outermost batch ends. Batches can be nested.
+     *
+     * @param operations The docking operations to apply
+     */
+    public void batch(Runnable operations) {
+        boolean wasPaused = appState.isPaused();
+
+        DockingBatch batch = internals.getBatch();
+
+        appState.setPaused(true);
+        batch.begin();
+
+        try {
+            operations.run();
+        }
+        finally {
+            appState.setPaused(wasPaused);
+
+            batch.end();
+
+            if (!wasPaused) {
+                appState.persist();
+            }
+        }
+    }
+
     /**
      * Add a new maximize listener. Will be called when a dockable is maximized
      *
@@ -988,6 +1030,43 @@ public class DockingAPI {
         DockingListeners.removeDockingListener(listener);
     }
 
+    /**
+     * Add a new drag motion listener. Will be called each time the docking handles and overlay are updated during a drag
+     *
+     * @param listener Listener to add
+     */
+    public void addDragMotionListener(DragMotionListener listener) {
+        DockingListeners.addDragMotionListener(listener);
+    }
+
+    /**
+     * Remove a drag motion listener
+     *
+     * @param listener Listener to remove
+     */
+    public void removeDragMotionListener(DragMotionListener listener) {
+        DockingListeners.removeDragMotionListener(listener);
+    }
+
+    /**
+     * Create the frames used for dragging dockables ahead of time. Creating native windows is slow on some platforms,
+     * calling this at startup keeps that cost out of the first drags. Limited to Settings.getDragFramePoolSize()
+     *
+     * @param count Number of frames to create
+     */
+    public void prewarmDragFramePool(int count) {
+        DragFramePool.prewarm(count);
+    }
+
+    /**
+     * Get the current metrics of the pool of frames used for dragging dockables
+     *
+     * @return Drag frame pool metrics
+     */
+    public DragFramePoolMetrics getDragFramePoolMetrics() {
+        return DragFramePool.getMetrics();
+    }
+
     /**
      * Add a new floating frame listener
      *
@@ -0,0 +1,260 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.api;
+
+import io.github.andrewauclair.moderndocking.DockingRegion;
+import io.github.andrewauclair.moderndocking.event.DockingCommandQueueMetrics;
+import java.awt.Window;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.swing.SwingUtilities;
+
+/**
+ * Queue of docking commands that can be submitted from any thread. The commands are run in order on the EDT, in
+ * batches that are limited in time so that the EDT stays responsive while a flood of commands is worked through.
+ * <p>
+ * Repeated calls to updateTabInfo are dropped while an update for the same dockable is still waiting. Undock and
+ * display are only dropped when the identical command is the last one in the queue, so that the order of commands for
+ * different dockables is kept.
+ */
+public class DockingCommandQueueAPI {
+	private static final Logger logger = Logger.getLogger(DockingCommandQueueAPI.class.getPackageName());
+	private static final long DEFAULT_MAX_DRAIN_MILLIS = 8;
+
+	private enum Kind {
+		DOCK,
+		UNDOCK,
+		DISPLAY,
+		UPDATE_TAB_INFO
+	}
+
+	private static class Command {
+		private final Kind kind;
+		private final String persistentID;
+		private final Consumer<DockingAPI> action;
+		private final long submittedNanos = System.nanoTime();
+
+		private Command(Kind kind, String persistentID, Consumer<DockingAPI> action) {
+			this.kind = kind;
+			this.persistentID = persistentID;
+			this.action = action;
+		}
+	}
+
+	private final DockingAPI docking;
+
+	private final ArrayDeque<Command> pending = new ArrayDeque<>();
+	// the newest waiting command for each persistent ID
+	private final Map<String, Command> newestPending = new HashMap<>();
+	private boolean drainQueued = false;
+
+	private long maxDrainNanos = DEFAULT_MAX_DRAIN_MILLIS * 1_000_000;
+
+	private int maxPendingCommands = 0;
+	private long commandsSubmitted = 0;
+	private long commandsCoalesced = 0;
+	private long commandsExecuted = 0;
+	private long commandsFailed = 0;
+	private long drains = 0;
+	private long longestDrainNanos = 0;
+
+	/**
+	 * Create a new command queue for the docking instance
+	 *
+	 * @param docking Docking instance
+	 */
+	protected DockingCommandQueueAPI(DockingAPI docking) {
+		this.docking = docking;
+	}
+
+	/**
+	 * Queue a dock into the specified region of the root of the window
+	 *
+	 * @param persistentID The persistentID of the dockable to dock
+	 * @param window The window to dock into
+	 * @param region The region to dock into
+	 * @param dividerProportion The proportion to use if docking in a split pane
+	 */
+	public void dock(String persistentID, Window window, DockingRegion region, double dividerProportion) {
+		submit(new Command(Kind.DOCK, persistentID, api -> api.dock(persistentID, window, region, dividerProportion)));
+	}
+
+	/**
+	 * Queue a dock into the specified region of another dockable
+	 *
+	 * @param sourcePersistentID The persistentID of the dockable to dock
+	 * @param targetPersistentID The persistentID of the dockable to dock to
+	 * @param region The region on the target dockable to dock into
+	 * @param dividerProportion The proportion to use if docking in a split pane
+	 */
+	public void dock(String sourcePersistentID, String targetPersistentID, DockingRegion region, double dividerProportion) {
+		submit(new Command(Kind.DOCK, sourcePersistentID, api -> api.dock(sourcePersistentID, targetPersistentID, region, dividerProportion)));
+	}
+
+	/**
+	 * Queue an undock
+	 *
+	 * @param persistentID The persistentID of the dockable to undock
+	 */
+	public void undock(String persistentID) {
+		submit(new Command(Kind.UNDOCK, persistentID, api -> api.undock(persistentID)));
+	}
+
+	/**
+	 * Queue a display, docking the dockable if it isn't already docked and bringing it to the front
+	 *
+	 * @param persistentID The persistentID of the dockable to display
+	 */
+	public void display(String persistentID) {
+		submit(new Command(Kind.DISPLAY, persistentID, api -> api.display(persistentID)));
+	}
+
+	/**
+	 * Queue an update of the tab text of a dockable
+	 *
+	 * @param persistentID The persistentID of the dockable to update
+	 */
+	public void updateTabInfo(String persistentID) {
+		submit(new Command(Kind.UPDATE_TAB_INFO, persistentID, api -> api.updateTabInfo(persistentID)));
+	}
+
+	/**
+	 * Set the maximum time spent running commands in a single pass on the EDT. Once the time is up the remaining
+	 * commands wait for the next pass, letting the EDT paint and handle input in between
+	 *
+	 * @param millis Maximum time in milliseconds
+	 */
+	public synchronized void setMaxDrainMillis(long millis) {
+		if (millis <= 0) {
+			throw new IllegalArgumentException("illegal max drain time: " + millis);
+		}
+		maxDrainNanos = millis * 1_000_000;
+	}
+
+	/**
+	 * Get the maximum time spent running commands in a single pass on the EDT
+	 *
+	 * @return Maximum time in milliseconds
+	 */
+	public synchronized long getMaxDrainMillis() {
+		return maxDrainNanos / 1_000_000;
+	}
+
+	/**
+	 * Take a snapshot of the queue. Can be called from any thread
+	 *
+	 * @return The current queue metrics
+	 */
+	public synchronized DockingCommandQueueMetrics getMetrics() {
+		long oldestPendingNanos = pending.isEmpty() ? 0 : System.nanoTime() - pending.peekFirst().submittedNanos;
+
+		return new DockingCommandQueueMetrics(pending.size(), maxPendingCommands, oldestPendingNanos, commandsSubmitted, commandsCoalesced,
+				commandsExecuted, commandsFailed, drains, longestDrainNanos);
+	}
+
+	private synchronized void submit(Command command) {
+		Objects.requireNonNull(command.persistentID);
+
+		commandsSubmitted++;
+
+		Command newest = newestPending.get(command.persistentID);
+
+		// updating the tab info reads the current state when it runs, any waiting update covers this one. undock and
+		// display can change the result of the commands queued after them, so they are only dropped at the tail.
+		// docks carry their own target and region and are never dropped
+		boolean duplicate = newest != null && newest.kind == command.kind &&
+				(command.kind == Kind.UPDATE_TAB_INFO || (command.kind != Kind.DOCK && pending.peekLast() == newest));
+
+		if (duplicate) {
+			commandsCoalesced++;
+			return;
+		}
+
+		pending.addLast(command);
+		newestPending.put(command.persistentID, command);
+
+		maxPendingCommands = Math.max(maxPendingCommands, pending.size());
+
+		if (!drainQueued) {
+			drainQueued = true;
+			SwingUtilities.invokeLater(this::drain);
+		}
+	}
+
+	private synchronized Command next() {
+		Command command = pending.pollFirst();
+
+		if (command != null && newestPending.get(command.persistentID) == command) {
+			newestPending.remove(command.persistentID);
+		}
+		return command;
+	}
+
+	private void drain() {
+		long start = System.nanoTime();
+		long maxNanos;
+
+		synchronized (this) {
+			drainQueued = false;
+			maxNanos = maxDrainNanos;
+		}
+
+		docking.batch(() -> {
+			Command command;
+
+			while (System.nanoTime() - start < maxNanos && (command = next()) != null) {
+				try {
+					command.action.accept(docking);
+
+					synchronized (this) {
+						commandsExecuted++;
+					}
+				}
+				catch (RuntimeException e) {
+					logger.log(Level.WARNING, "Docking command for '" + command.persistentID + "' failed", e);
+
+					synchronized (this) {
+						commandsFailed++;
+					}
+				}
+			}
+		});
+
+		long elapsed = System.nanoTime() - start;
+
+		synchronized (this) {
+			drains++;
+			longestDrainNanos = Math.max(longestDrainNanos, elapsed);
+
+			// out of time, let the EDT catch up before continuing
+			if (!pending.isEmpty() && !drainQueued) {
+				drainQueued = true;
+				SwingUtilities.invokeLater(this::drain);
+			}
+		}
+	}
+}
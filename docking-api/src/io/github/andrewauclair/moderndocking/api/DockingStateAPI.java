@@ -25,11 +25,14 @@ import io.github.andrewauclair.moderndocking.Dockable;
 import io.github.andrewauclair.moderndocking.DockableTabPreference;
 import io.github.andrewauclair.moderndocking.DynamicDockableParameters;
 import io.github.andrewauclair.moderndocking.Property;
+import io.github.andrewauclair.moderndocking.event.LayoutTimingListener;
+import io.github.andrewauclair.moderndocking.event.LayoutTimingReport;
 import io.github.andrewauclair.moderndocking.exception.DockableNotFoundException;
 import io.github.andrewauclair.moderndocking.exception.RootDockingPanelNotFoundException;
 import io.github.andrewauclair.moderndocking.internal.DockableProperties;
 import io.github.andrewauclair.moderndocking.internal.DockableWrapper;
 import io.github.andrewauclair.moderndocking.internal.DockedAnchorPanel;
+import io.github.andrewauclair.moderndocking.internal.DockedMultiSplitPanel;
 import io.github.andrewauclair.moderndocking.internal.DockedSimplePanel;
 import io.github.andrewauclair.moderndocking.internal.DockedSplitPanel;
 import io.github.andrewauclair.moderndocking.internal.DockedTabbedPanel;
@@ -40,11 +43,13 @@ import io.github.andrewauclair.moderndocking.internal.DockingPanel;
 import io.github.andrewauclair.moderndocking.internal.FailedDockable;
 import io.github.andrewauclair.moderndocking.internal.FloatingFrame;
 import io.github.andrewauclair.moderndocking.internal.InternalRootDockingPanel;
+import io.github.andrewauclair.moderndocking.internal.LayoutTimingRecorder;
 import io.github.andrewauclair.moderndocking.layouts.ApplicationLayout;
 import io.github.andrewauclair.moderndocking.layouts.DefaultDynamicDockableCreationListener;
 import io.github.andrewauclair.moderndocking.layouts.DockingAnchorPanelNode;
 import io.github.andrewauclair.moderndocking.layouts.DockingLayoutNode;
 import io.github.andrewauclair.moderndocking.layouts.DockingLayouts;
+import io.github.andrewauclair.moderndocking.layouts.DockingMultiSplitPanelNode;
 import io.github.andrewauclair.moderndocking.layouts.DockingSimplePanelNode;
 import io.github.andrewauclair.moderndocking.layouts.DockingSplitPanelNode;
 import io.github.andrewauclair.moderndocking.layouts.DockingTabPanelNode;
@@ -119,7 +124,15 @@ public class DockingStateAPI {
             return maxLayout;
         }
 
-        return DockingLayouts.layoutFromRoot(docking, root.getRootPanel());
+        LayoutTimingRecorder timings = timings();
+        timings.begin(LayoutTimingReport.Operation.SNAPSHOT_WINDOW);
+
+        try {
+            return DockingLayouts.layoutFromRoot(docking, root.getRootPanel());
+        }
+        finally {
+            timings.end();
+        }
     }
 
     /**
@@ -128,17 +141,25 @@ public class DockingStateAPI {
      * @return Layout of the application
      */
     public ApplicationLayout getApplicationLayout() {
-        ApplicationLayout layout = new ApplicationLayout();
+        LayoutTimingRecorder timings = timings();
+        timings.begin(LayoutTimingReport.Operation.SNAPSHOT_APPLICATION);
 
-        layout.setMainFrame(getWindowLayout(docking.getMainWindow()));
+        try {
+            ApplicationLayout layout = new ApplicationLayout();
+
+            layout.setMainFrame(getWindowLayout(docking.getMainWindow()));
 
-        for (Window frame : docking.getRootPanels().keySet()) {
-            if (frame != docking.getMainWindow()) {
-                layout.addFrame(getWindowLayout(frame));
+            for (Window frame : docking.getRootPanels().keySet()) {
+                if (frame != docking.getMainWindow()) {
+                    layout.addFrame(getWindowLayout(frame));
+                }
             }
-        }
 
-        return layout;
+            return layout;
+        }
+        finally {
+            timings.end();
+        }
     }
 
     /**
@@ -147,41 +168,59 @@ public class DockingStateAPI {
      * @param layout Application layout to restore
      */
     public void restoreApplicationLayout(ApplicationLayout layout) {
-        // get rid of all existing windows and undock all dockables
-        Set<Window> windows = new HashSet<>(docking.getRootPanels().keySet());
-        for (Window window : windows) {
-            DockingComponentUtils.clearAnchors(window);
+        LayoutTimingRecorder timings = timings();
+        timings.begin(LayoutTimingReport.Operation.RESTORE_APPLICATION);
+
+        try {
+            // get rid of all existing windows and undock all dockables
+            long undockStart = timings.start();
 
-            DockingComponentUtils.undockComponents(docking, window);
+            Set<Window> windows = new HashSet<>(docking.getRootPanels().keySet());
+            for (Window window : windows) {
+                InternalRootDockingPanel root = DockingInternal.get(docking).getRootPanels().get(window);
 
-            // only dispose this window if we created it
-            if (window instanceof FloatingFrame) {
-                window.dispose();
+                DockingComponentUtils.clearAnchors(root);
+
+                DockingComponentUtils.undockComponents(docking, root);
+
+                // only dispose this window if we created it
+                if (window instanceof FloatingFrame) {
+                    window.dispose();
+                }
             }
-        }
 
-        docking.getAppState().setPaused(true);
+            timings.phase(LayoutTimingReport.Phase.UNDOCK_EXISTING, undockStart);
 
-        // setup main frame
-        restoreWindowLayout(docking.getMainWindow(), layout.getMainFrameLayout());
+            docking.getAppState().setPaused(true);
 
-        // setup rest of floating windows from layout
-        for (WindowLayout frameLayout : layout.getFloatingFrameLayouts()) {
-            FloatingFrame frame = new FloatingFrame(docking, frameLayout.getLocation(), frameLayout.getSize(), frameLayout.getState());
+            // setup main frame
+            restoreWindowLayout(docking.getMainWindow(), layout.getMainFrameLayout());
 
-            restoreWindowLayout(frame, frameLayout);
+            // setup rest of floating windows from layout
+            for (WindowLayout frameLayout : layout.getFloatingFrameLayouts()) {
+                long frameStart = timings.start();
 
-            SwingUtilities.invokeLater(() -> {
-                DockingListeners.fireNewFloatingFrameEvent(frame, frame.getRoot());
-            });
-        }
+                FloatingFrame frame = new FloatingFrame(docking, frameLayout.getLocation(), frameLayout.getSize(), frameLayout.getState());
+
+                timings.phase(LayoutTimingReport.Phase.WINDOW_CREATION, frameStart);
+
+                restoreWindowLayout(frame, frameLayout);
+
+                SwingUtilities.invokeLater(() -> {
+                    DockingListeners.fireNewFloatingFrameEvent(frame, frame.getRoot());
+                });
+            }
 
-        docking.getAppState().setPaused(false);
-        docking.getAppState().persist();
+            docking.getAppState().setPaused(false);
+            docking.getAppState().persist();
 
-        DockingInternal.fireDockedEventForAll(docking);
+            DockingInternal.fireDockedEventForAll(docking);
 
-        DockingLayouts.layoutRestored(layout);
+            DockingLayouts.layoutRestored(layout);
+        }
+        finally {
+            timings.end();
+        }
     }
 
     /**
@@ -197,6 +236,18 @@ public class DockingStateAPI {
             throw new RootDockingPanelNotFoundException(window);
         }
 
+        LayoutTimingRecorder timings = timings();
+        timings.begin(LayoutTimingReport.Operation.RESTORE_WINDOW);
+
+        try {
+            restoreWindowLayout(window, layout, root, timings);
+        }
+        finally {
+            timings.end();
+        }
+    }
+
+    private void restoreWindowLayout(Window window, WindowLayout layout, InternalRootDockingPanel root, LayoutTimingRecorder timings) {
         if (layout.hasSizeAndLocationInformation()) {
             if (layout.getState() != Frame.MAXIMIZED_BOTH) {
                 GraphicsEnvironment env = GraphicsEnvironment.getLocalGraphicsEnvironment();
@@ -233,16 +284,26 @@ public class DockingStateAPI {
             }
         }
 
+        long undockStart = timings.start();
+
         DockingComponentUtils.clearAnchors(root);
 
         DockingComponentUtils.undockComponents(docking, root);
 
+        timings.phase(LayoutTimingReport.Phase.UNDOCK_EXISTING, undockStart);
+
         root.setPanel(restoreLayout(docking, layout.getRootNode(), window));
 
         // undock and destroy any failed dockables
         undockFailedComponents(docking, root);
 
-        restoreProperSplitLocations(root.getRootPanel());
+        long splitStart = timings.start();
+
+        restoreProperSplitLocations(root);
+
+        timings.phase(LayoutTimingReport.Phase.SPLIT_RESTORE, splitStart);
+
+        long autoHideStart = timings.start();
 
         for (String id : layout.getWestAutoHideToolbarIDs()) {
             DockableWrapper wrapper = DockingInternal.get(docking).getWrapper(getDockable(docking, id));
@@ -271,20 +332,24 @@ public class DockingStateAPI {
             root.setSlidePosition(wrapper.getDockable(), (int) (layout.slidePosition(id) * window.getHeight()));
         }
 
+        timings.phase(LayoutTimingReport.Phase.AUTO_HIDE_SETUP, autoHideStart);
+
         if (layout.getMaximizedDockable() != null) {
             docking.maximize(getDockable(docking, layout.getMaximizedDockable()));
         }
     }
 
-    private void findSplitPanels(Container container, List<DockedSplitPanel> panels) {
-        for (Component component : container.getComponents()) {
-            if (component instanceof DockedSplitPanel) {
-                panels.add((DockedSplitPanel) component);
-            }
+    private void findSplitPanels(DockingPanel panel, List<DockedSplitPanel> panels) {
+        if (panel == null) {
+            return;
+        }
 
-            if (component instanceof Container) {
-                findSplitPanels((Container) component, panels);
-            }
+        if (panel instanceof DockedSplitPanel) {
+            panels.add((DockedSplitPanel) panel);
+        }
+
+        for (DockingPanel child : panel.getChildren()) {
+            findSplitPanels(child, panels);
         }
     }
 
@@ -311,6 +376,11 @@ public class DockingStateAPI {
         else if (node instanceof DockingSplitPanelNode) {
             return restoreSplit(docking, (DockingSplitPanelNode) node, window);
         }
+        else if (node instanceof DockingMultiSplitPanelNode) {
+            DockingMultiSplitPanelNode multiSplit = (DockingMultiSplitPanelNode) node;
+
+            return restoreMultiSplit(docking, node, multiSplit.getOrientation(), multiSplit.getAnchor(), window);
+        }
         else if (node instanceof DockingTabPanelNode) {
             return restoreTabbed(docking, (DockingTabPanelNode) node, window);
         }
@@ -326,7 +396,15 @@ public class DockingStateAPI {
         }
     }
 
-    private DockedSplitPanel restoreSplit(DockingAPI docking, DockingSplitPanelNode node, Window window) {
+    private DockingPanel restoreSplit(DockingAPI docking, DockingSplitPanelNode node, Window window) {
+        // a chain of splits with the same orientation is restored as a single multi split
+        List<DockingLayoutNode> children = new ArrayList<>();
+        flattenSplit(node, node.getOrientation(), 1.0, children, new ArrayList<>());
+
+        if (children.size() > 2) {
+            return restoreMultiSplit(docking, node, node.getOrientation(), "", window);
+        }
+
         DockedSplitPanel panel = new DockedSplitPanel(docking, window, "");
 
         panel.setLeft(restoreLayout(docking, node.getLeft(), window));
@@ -337,14 +415,69 @@ public class DockingStateAPI {
         return panel;
     }
 
+    private DockedMultiSplitPanel restoreMultiSplit(DockingAPI docking, DockingLayoutNode node, int orientation, String anchor, Window window) {
+        DockedMultiSplitPanel panel = new DockedMultiSplitPanel(docking, window, anchor, orientation);
+
+        List<DockingLayoutNode> children = new ArrayList<>();
+        List<Double> proportions = new ArrayList<>();
+
+        flattenSplit(node, orientation, 1.0, children, proportions);
+
+        for (int i = 0; i < children.size(); i++) {
+            panel.addChild(restoreLayout(docking, children.get(i), window), proportions.get(i));
+        }
+        return panel;
+    }
+
+    /**
+     * Collect the children of nested split nodes that split along the same axis, along with the share of the
+     * outermost split that each child receives
+     */
+    static void flattenSplit(DockingLayoutNode node, int orientation, double share, List<DockingLayoutNode> children, List<Double> proportions) {
+        if (node instanceof DockingSplitPanelNode && ((DockingSplitPanelNode) node).getOrientation() == orientation) {
+            DockingSplitPanelNode split = (DockingSplitPanelNode) node;
+            double dividerProportion = split.getDividerProportion();
+
+            flattenSplit(split.getLeft(), orientation, share * dividerProportion, children, proportions);
+            flattenSplit(split.getRight(), orientation, share * (1.0 - dividerProportion), children, proportions);
+        }
+        else if (node instanceof DockingMultiSplitPanelNode && ((DockingMultiSplitPanelNode) node).getOrientation() == orientation) {
+            DockingMultiSplitPanelNode split = (DockingMultiSplitPanelNode) node;
+
+            double total = 0;
+
+            for (double proportion : split.getProportions()) {
+                total += proportion;
+            }
+
+            for (int i = 0; i < split.getChildren().size(); i++) {
+                double proportion = total > 0 ? split.getProportions().get(i) / total : 1.0 / split.getChildren().size();
+
+                flattenSplit(split.getChildren().get(i), orientation, share * proportion, children, proportions);
+            }
+        }
+        else if (node != null) {
+            children.add(node);
+            proportions.add(share);
+        }
+    }
+
     private DockingPanel restoreTabbed(DockingAPI docking, DockingTabPanelNode node, Window window) {
         DockedTabbedPanel panel = null;
 
+        LayoutTimingRecorder timings = timings();
+
         for (DockingSimplePanelNode simpleNode : node.getPersistentIDs()) {
+            long dockableStart = timings.start();
+
             Dockable dockable = getDockable(docking, simpleNode.getPersistentID());
 
             if (dockable instanceof FailedDockable) {
+                long createStart = timings.start();
+
                 dockable = createDynamicDockable(dockable, simpleNode.getPersistentID(), simpleNode.getClassName(), simpleNode.getTitleText(), simpleNode.getTabText(), simpleNode.getProperties());
+
+                timings.phase(LayoutTimingReport.Phase.DYNAMIC_DOCKABLE_CREATION, createStart);
             }
 
             if (dockable == null) {
@@ -353,17 +486,26 @@ public class DockingStateAPI {
 
             DockableWrapper wrapper = DockingInternal.get(docking).getWrapper(dockable);
 
+            long propertiesStart = timings.start();
+
             DockableProperties.configureProperties(wrapper, simpleNode.getProperties());
 
+            timings.phase(LayoutTimingReport.Phase.PROPERTY_CONFIGURATION, propertiesStart);
+
             docking.undock(dockable);
 
             wrapper.setWindow(window);
 
+            long panelStart = timings.start();
+
             if (panel == null) {
                 panel = new DockedTabbedPanel(docking, wrapper, node.getAnchor());
             } else {
                 panel.addPanel(wrapper);
             }
+
+            timings.phase(LayoutTimingReport.Phase.PANEL_CONSTRUCTION, panelStart);
+            timings.dockable(simpleNode.getPersistentID(), dockableStart);
         }
 
         if (panel == null) {
@@ -378,10 +520,17 @@ public class DockingStateAPI {
     }
 
     private DockingPanel restoreAnchor(DockingAPI docking, DockingAnchorPanelNode node, Window window) {
+        LayoutTimingRecorder timings = timings();
+        long dockableStart = timings.start();
+
         Dockable dockable = getDockable(docking, node.getPersistentID());
 
         if (dockable instanceof FailedDockable) {
+            long createStart = timings.start();
+
             dockable = createDynamicDockable(dockable, node.getPersistentID(), node.getClassName(), "", "", Collections.emptyMap());
+
+            timings.phase(LayoutTimingReport.Phase.DYNAMIC_DOCKABLE_CREATION, createStart);
         }
 
         if (dockable == null) {
@@ -395,14 +544,28 @@ public class DockingStateAPI {
 
         wrapper.setWindow(window);
 
-        return new DockedAnchorPanel(docking, wrapper);
+        long panelStart = timings.start();
+
+        DockedAnchorPanel panel = new DockedAnchorPanel(docking, wrapper);
+
+        timings.phase(LayoutTimingReport.Phase.PANEL_CONSTRUCTION, panelStart);
+        timings.dockable(node.getPersistentID(), dockableStart);
+
+        return panel;
     }
 
     private DockingPanel restoreSimple(DockingAPI docking, DockingSimplePanelNode node, Window window) {
+        LayoutTimingRecorder timings = timings();
+        long dockableStart = timings.start();
+
         Dockable dockable = getDockable(docking, node.getPersistentID());
 
         if (dockable instanceof FailedDockable) {
+            long createStart = timings.start();
+
             dockable = createDynamicDockable(dockable, node.getPersistentID(), node.getClassName(), node.getTitleText(), node.getTabText(), node.getProperties());
+
+            timings.phase(LayoutTimingReport.Phase.DYNAMIC_DOCKABLE_CREATION, createStart);
         }
 
         if (dockable == null) {
@@ -411,21 +574,35 @@ public class DockingStateAPI {
 
         DockableWrapper wrapper = DockingInternal.get(docking).getWrapper(dockable);
 
+        long propertiesStart = timings.start();
+
         DockableProperties.configureProperties(wrapper, node.getProperties());
 
+        timings.phase(LayoutTimingReport.Phase.PROPERTY_CONFIGURATION, propertiesStart);
+
         // undock the dockable in case it is currently docked somewhere else
         docking.undock(dockable);
 
         wrapper.setWindow(window);
 
+        long panelStart = timings.start();
+
+        DockingPanel panel;
+
         if (wrapper.isAnchor()) {
-            return new DockedAnchorPanel(docking, wrapper);
+            panel = new DockedAnchorPanel(docking, wrapper);
         }
-
-        if (Settings.alwaysDisplayTabsMode() || dockable.getTabPreference() == DockableTabPreference.TOP) {
-            return new DockedTabbedPanel(docking, wrapper, node.getAnchor());
+        else if (Settings.alwaysDisplayTabsMode() || dockable.getTabPreference() == DockableTabPreference.TOP) {
+            panel = new DockedTabbedPanel(docking, wrapper, node.getAnchor());
         }
-        return new DockedSimplePanel(docking, wrapper, node.getAnchor());
+        else {
+            panel = new DockedSimplePanel(docking, wrapper, node.getAnchor());
+        }
+
+        timings.phase(LayoutTimingReport.Phase.PANEL_CONSTRUCTION, panelStart);
+        timings.dockable(node.getPersistentID(), dockableStart);
+
+        return panel;
     }
 
     private Dockable createDynamicDockable(Dockable dockable, String persistentID, String className, String titleText, String tabText, Map<String, Property> properties) {
@@ -497,6 +674,10 @@ public class DockingStateAPI {
         return new FailedDockable(docking, persistentID);
     }
 
+    private LayoutTimingRecorder timings() {
+        return DockingInternal.get(docking).getLayoutTimings();
+    }
+
     private DockableWrapper getWrapper(Dockable dockable) {
         return DockingInternal.get(docking).getWrapper(dockable);
     }
@@ -513,7 +694,7 @@ public class DockingStateAPI {
         }
     }
 
-    private void restoreProperSplitLocations(RootDockingPanelAPI root) {
+    private void restoreProperSplitLocations(InternalRootDockingPanel root) {
         SwingUtilities.invokeLater(() -> {
             // find all the splits and restore their divider locations from the bottom up
             List<DockedSplitPanel> splitPanels = new ArrayList<>();
@@ -610,4 +791,32 @@ public class DockingStateAPI {
     public void setUserDynamicDockableCreationListener(DynamicDockableCreationListener userDynamicDockableCreation) {
         this.userDynamicDockableCreation = userDynamicDockableCreation;
     }
+
+    /**
+     * Add a listener that receives a timing report after every timed layout operation of this docking instance:
+     * restores, snapshots, loads and saves of layout files, and look and feel updates
+     *
+     * @param listener Listener to add
+     */
+    public void addLayoutTimingListener(LayoutTimingListener listener) {
+        timings().addListener(listener);
+    }
+
+    /**
+     * Remove a previously added layout timing listener
+     *
+     * @param listener Listener to remove
+     */
+    public void removeLayoutTimingListener(LayoutTimingListener listener) {
+        timings().removeListener(listener);
+    }
+
+    /**
+     * Get the timing report of the last timed layout operation of this docking instance
+     *
+     * @return Last timing report or null if no layout operation has completed
+     */
+    public LayoutTimingReport getLastLayoutTimingReport() {
+        return timings().getLastReport();
+    }
 }
@@ -23,15 +23,18 @@ package io.github.andrewauclair.moderndocking.api;
 
 import io.github.andrewauclair.moderndocking.Dockable;
 import io.github.andrewauclair.moderndocking.Property;
+import io.github.andrewauclair.moderndocking.event.LayoutTimingReport;
 import io.github.andrewauclair.moderndocking.exception.DockableNotFoundException;
 import io.github.andrewauclair.moderndocking.exception.DockableRegistrationFailureException;
 import io.github.andrewauclair.moderndocking.exception.DockingLayoutException;
 import io.github.andrewauclair.moderndocking.internal.DockableProperties;
 import io.github.andrewauclair.moderndocking.internal.DockableWrapper;
 import io.github.andrewauclair.moderndocking.internal.DockingInternal;
+import io.github.andrewauclair.moderndocking.internal.LayoutTimingRecorder;
 import io.github.andrewauclair.moderndocking.layouts.ApplicationLayout;
 import io.github.andrewauclair.moderndocking.layouts.DockingAnchorPanelNode;
 import io.github.andrewauclair.moderndocking.layouts.DockingLayoutNode;
+import io.github.andrewauclair.moderndocking.layouts.DockingMultiSplitPanelNode;
 import io.github.andrewauclair.moderndocking.layouts.DockingSimplePanelNode;
 import io.github.andrewauclair.moderndocking.layouts.DockingSplitPanelNode;
 import io.github.andrewauclair.moderndocking.layouts.DockingTabPanelNode;
@@ -82,6 +85,9 @@ public class LayoutPersistenceAPI {
     private static final String TAG_SPLIT = "split";
     private static final String TAG_RIGHT = "right";
     private static final String TAG_LEFT = "left";
+    private static final String TAG_MULTI_SPLIT = "multi-split";
+    private static final String TAG_CHILD = "child";
+    private static final String TAG_PROPORTION = "proportion";
 
     private final DockingAPI docking;
 
@@ -131,6 +137,21 @@ public class LayoutPersistenceAPI {
      * @throws XMLStreamException Thrown if there are any XML issues while saving
      */
     public void saveLayoutToOutputStream(final OutputStream out, final  ApplicationLayout layout) throws XMLStreamException {
+        LayoutTimingRecorder timings = timings();
+        timings.begin(LayoutTimingReport.Operation.SAVE);
+
+        long writeStart = timings.start();
+
+        try {
+            writeApplicationLayout(out, layout);
+        }
+        finally {
+            timings.phase(LayoutTimingReport.Phase.XML_WRITE, writeStart);
+            timings.end();
+        }
+    }
+
+    private void writeApplicationLayout(final OutputStream out, final ApplicationLayout layout) throws XMLStreamException {
         XMLStreamWriter writer = outputFactory.createXMLStreamWriter(out);
 
         writer.writeStartDocument();
@@ -187,6 +208,21 @@ public class LayoutPersistenceAPI {
      * @throws XMLStreamException Thrown if the XML is not properly formatted
      */
     public ApplicationLayout loadApplicationLayoutFromInputStream(final InputStream in) throws XMLStreamException {
+        LayoutTimingRecorder timings = timings();
+        timings.begin(LayoutTimingReport.Operation.LOAD);
+
+        long parseStart = timings.start();
+
+        try {
+            return readApplicationLayout(in);
+        }
+        finally {
+            timings.phase(LayoutTimingReport.Phase.XML_PARSE, parseStart);
+            timings.end();
+        }
+    }
+
+    private ApplicationLayout readApplicationLayout(final InputStream in) throws XMLStreamException {
         XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
         try {
             ApplicationLayout layout = new ApplicationLayout();
@@ -246,6 +282,21 @@ public class LayoutPersistenceAPI {
      * @return True if the file was successfully saved, false otherwise
      */
     public boolean saveWindowLayoutToFile(File file, WindowLayout layout) {
+        LayoutTimingRecorder timings = timings();
+        timings.begin(LayoutTimingReport.Operation.SAVE);
+
+        long writeStart = timings.start();
+
+        try {
+            return writeWindowLayout(file, layout);
+        }
+        finally {
+            timings.phase(LayoutTimingReport.Phase.XML_WRITE, writeStart);
+            timings.end();
+        }
+    }
+
+    private boolean writeWindowLayout(File file, WindowLayout layout) {
         //noinspection ResultOfMethodCallIgnored
         file.getParentFile().mkdirs();
 
@@ -348,6 +399,9 @@ public class LayoutPersistenceAPI {
         else if (node instanceof DockingSplitPanelNode) {
             writeSplitNodeToFile(writer, (DockingSplitPanelNode) node);
         }
+        else if (node instanceof DockingMultiSplitPanelNode) {
+            writeMultiSplitNodeToFile(writer, (DockingMultiSplitPanelNode) node);
+        }
         else if (node instanceof DockingTabPanelNode) {
             writeTabbedNodeToFile(writer, (DockingTabPanelNode) node);
         }
@@ -410,6 +464,25 @@ public class LayoutPersistenceAPI {
         writer.writeCharacters(NL);
     }
 
+    private void writeMultiSplitNodeToFile(XMLStreamWriter writer, DockingMultiSplitPanelNode node) throws XMLStreamException {
+        writer.writeStartElement(TAG_MULTI_SPLIT);
+        writer.writeAttribute("orientation", String.valueOf(node.getOrientation()));
+        writer.writeAttribute(TAG_ANCHOR, node.getAnchor());
+        writer.writeCharacters(NL);
+
+        for (int i = 0; i < node.getChildren().size(); i++) {
+            writer.writeStartElement(TAG_CHILD);
+            writer.writeAttribute(TAG_PROPORTION, String.valueOf(node.getProportions().get(i)));
+            writer.writeCharacters(NL);
+            writeNodeToFile(writer, node.getChildren().get(i));
+            writer.writeEndElement();
+            writer.writeCharacters(NL);
+        }
+
+        writer.writeEndElement();
+        writer.writeCharacters(NL);
+    }
+
     private void writeTabbedNodeToFile(XMLStreamWriter writer, DockingTabPanelNode node) throws XMLStreamException {
         writer.writeStartElement("tabbed");
         writer.writeCharacters(NL);
@@ -481,6 +554,21 @@ public class LayoutPersistenceAPI {
      * @return The loaded WindowLayout
      */
     public WindowLayout loadWindowLayoutFromFile(File file) {
+        LayoutTimingRecorder timings = timings();
+        timings.begin(LayoutTimingReport.Operation.LOAD);
+
+        long parseStart = timings.start();
+
+        try {
+            return readWindowLayout(file);
+        }
+        finally {
+            timings.phase(LayoutTimingReport.Phase.XML_PARSE, parseStart);
+            timings.end();
+        }
+    }
+
+    private WindowLayout readWindowLayout(File file) {
         XMLInputFactory factory = XMLInputFactory.newInstance();
         factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
         factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
@@ -594,6 +682,9 @@ public class LayoutPersistenceAPI {
                 else if (reader.getLocalName().equals(TAG_SPLIT)) {
                     node = readSplitNodeFromFile(reader);
                 }
+                else if (reader.getLocalName().equals(TAG_MULTI_SPLIT)) {
+                    node = readMultiSplitNodeFromFile(reader);
+                }
                 else if (reader.getLocalName().equals("tabbed")) {
                     node = readTabNodeFromFile(reader);
                 }
@@ -734,6 +825,38 @@ public class LayoutPersistenceAPI {
         return new DockingSplitPanelNode(docking, left, right, orientation, dividerProportion, anchor);
     }
 
+    private DockingMultiSplitPanelNode readMultiSplitNodeFromFile(XMLStreamReader reader) throws XMLStreamException {
+        List<DockingLayoutNode> children = new ArrayList<>();
+        List<Double> proportions = new ArrayList<>();
+
+        int orientation = Integer.parseInt(reader.getAttributeValue(null, "orientation"));
+        String anchor = reader.getAttributeValue(null, TAG_ANCHOR);
+
+        if (anchor == null) {
+            anchor = "";
+        }
+
+        while (reader.hasNext()) {
+            int next = reader.nextTag();
+
+            if (next == XMLStreamConstants.START_ELEMENT && reader.getLocalName().equals(TAG_CHILD)) {
+                double proportion = Double.parseDouble(reader.getAttributeValue(null, TAG_PROPORTION));
+
+                DockingLayoutNode child = readNodeFromFile(reader, TAG_CHILD);
+
+                // skip children that failed to load, the remaining children share their space
+                if (child != null) {
+                    children.add(child);
+                    proportions.add(Math.max(0.0, proportion));
+                }
+            }
+            else if (next == XMLStreamConstants.END_ELEMENT && reader.getLocalName().equals(TAG_MULTI_SPLIT)) {
+                break;
+            }
+        }
+        return new DockingMultiSplitPanelNode(docking, children, proportions, orientation, anchor);
+    }
+
     private DockingTabPanelNode readTabNodeFromFile(XMLStreamReader reader) throws XMLStreamException {
         DockingTabPanelNode node = null;
 
@@ -858,4 +981,8 @@ public class LayoutPersistenceAPI {
 
         return new DockingAnchorPanelNode(docking, persistentID, className);
     }
+
+    private LayoutTimingRecorder timings() {
+        return DockingInternal.get(docking).getLayoutTimings();
+    }
 }
@@ -0,0 +1,152 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.event;
+
+/**
+ * Snapshot of the docking command queue, used to watch how far the EDT is behind the threads submitting commands
+ */
+public class DockingCommandQueueMetrics {
+    private final int pendingCommands;
+    private final int maxPendingCommands;
+    private final long oldestPendingNanos;
+    private final long commandsSubmitted;
+    private final long commandsCoalesced;
+    private final long commandsExecuted;
+    private final long commandsFailed;
+    private final long drains;
+    private final long longestDrainNanos;
+
+    /**
+     * Create a new snapshot of the queue
+     *
+     * @param pendingCommands Number of commands waiting to run
+     * @param maxPendingCommands Largest number of commands that have been waiting at once
+     * @param oldestPendingNanos Time the oldest waiting command has been in the queue
+     * @param commandsSubmitted Total number of commands submitted
+     * @param commandsCoalesced Total number of commands dropped because an identical command was already waiting
+     * @param commandsExecuted Total number of commands run on the EDT without throwing an exception
+     * @param commandsFailed Total number of commands that threw an exception
+     * @param drains Total number of times the queue was drained on the EDT
+     * @param longestDrainNanos Longest time spent draining the queue in a single pass
+     */
+    public DockingCommandQueueMetrics(int pendingCommands, int maxPendingCommands, long oldestPendingNanos, long commandsSubmitted, long commandsCoalesced,
+                                      long commandsExecuted, long commandsFailed, long drains, long longestDrainNanos) {
+        this.pendingCommands = pendingCommands;
+        this.maxPendingCommands = maxPendingCommands;
+        this.oldestPendingNanos = oldestPendingNanos;
+        this.commandsSubmitted = commandsSubmitted;
+        this.commandsCoalesced = commandsCoalesced;
+        this.commandsExecuted = commandsExecuted;
+        this.commandsFailed = commandsFailed;
+        this.drains = drains;
+        this.longestDrainNanos = longestDrainNanos;
+    }
+
+    /**
+     * Get the number of commands waiting to run
+     *
+     * @return Pending commands
+     */
+    public int getPendingCommands() {
+        return pendingCommands;
+    }
+
+    /**
+     * Get the largest number of commands that have been waiting at once
+     *
+     * @return Maximum pending commands
+     */
+    public int getMaxPendingCommands() {
+        return maxPendingCommands;
+    }
+
+    /**
+     * Get the time the oldest waiting command has been in the queue
+     *
+     * @return Age of the oldest pending command in nanoseconds, 0 if the queue is empty
+     */
+    public long getOldestPendingNanos() {
+        return oldestPendingNanos;
+    }
+
+    /**
+     * Get the total number of commands submitted
+     *
+     * @return Commands submitted
+     */
+    public long getCommandsSubmitted() {
+        return commandsSubmitted;
+    }
+
+    /**
+     * Get the total number of commands dropped because an identical command was already waiting
+     *
+     * @return Commands coalesced
+     */
+    public long getCommandsCoalesced() {
+        return commandsCoalesced;
+    }
+
+    /**
+     * Get the total number of commands run on the EDT without throwing an exception. Failed commands are only
+     * counted by getCommandsFailed
+     *
+     * @return Commands executed
+     */
+    public long getCommandsExecuted() {
+        return commandsExecuted;
+    }
+
+    /**
+     * Get the total number of commands that threw an exception when run
+     *
+     * @return Commands failed
+     */
+    public long getCommandsFailed() {
+        return commandsFailed;
+    }
+
+    /**
+     * Get the total number of times the queue was drained on the EDT
+     *
+     * @return Drains
+     */
+    public long getDrains() {
+        return drains;
+    }
+
+    /**
+     * Get the longest time spent draining the queue in a single pass
+     *
+     * @return Longest drain in nanoseconds
+     */
+    public long getLongestDrainNanos() {
+        return longestDrainNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "DockingCommandQueueMetrics{pending=" + pendingCommands + ", maxPending=" + maxPendingCommands + ", oldestPendingNanos=" + oldestPendingNanos +
+                ", submitted=" + commandsSubmitted + ", coalesced=" + commandsCoalesced + ", executed=" + commandsExecuted + ", failed=" + commandsFailed +
+                ", drains=" + drains + ", longestDrainNanos=" + longestDrainNanos + "}";
+    }
+}
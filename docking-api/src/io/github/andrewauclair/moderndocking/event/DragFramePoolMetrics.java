@@ -0,0 +1,88 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.event;
+
+/**
+ * Snapshot of the pool of frames used to display dockables while they are dragged
+ */
+public class DragFramePoolMetrics {
+    private final int idleFrames;
+    private final int maxIdleFrames;
+    private final int framesCreated;
+    private final int framesReused;
+
+    /**
+     * Create a new snapshot of the pool
+     *
+     * @param idleFrames Number of frames waiting in the pool
+     * @param maxIdleFrames Maximum number of frames the pool will hold
+     * @param framesCreated Total number of frames created
+     * @param framesReused Total number of times a frame was taken from the pool instead of being created
+     */
+    public DragFramePoolMetrics(int idleFrames, int maxIdleFrames, int framesCreated, int framesReused) {
+        this.idleFrames = idleFrames;
+        this.maxIdleFrames = maxIdleFrames;
+        this.framesCreated = framesCreated;
+        this.framesReused = framesReused;
+    }
+
+    /**
+     * Get the number of frames waiting in the pool
+     *
+     * @return Idle frames
+     */
+    public int getIdleFrames() {
+        return idleFrames;
+    }
+
+    /**
+     * Get the maximum number of frames the pool will hold
+     *
+     * @return Maximum idle frames
+     */
+    public int getMaxIdleFrames() {
+        return maxIdleFrames;
+    }
+
+    /**
+     * Get the total number of frames that have been created, including pre-warmed frames
+     *
+     * @return Frames created
+     */
+    public int getFramesCreated() {
+        return framesCreated;
+    }
+
+    /**
+     * Get the total number of times a frame was taken from the pool instead of being created
+     *
+     * @return Frames reused
+     */
+    public int getFramesReused() {
+        return framesReused;
+    }
+
+    @Override
+    public String toString() {
+        return "DragFramePoolMetrics{idle=" + idleFrames + ", maxIdle=" + maxIdleFrames + ", created=" + framesCreated + ", reused=" + framesReused + "}";
+    }
+}
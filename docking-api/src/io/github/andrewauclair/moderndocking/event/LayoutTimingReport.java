@@ -0,0 +1,233 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Timing information collected while restoring or snapshotting a layout, or updating the look and feel. All durations
+ * are in nanoseconds
+ */
+public class LayoutTimingReport {
+    /**
+     * The layout operation that was timed
+     */
+    public enum Operation {
+        /**
+         * An application layout was restored with DockingStateAPI.restoreApplicationLayout
+         */
+        RESTORE_APPLICATION,
+        /**
+         * A single window layout was restored with DockingStateAPI.restoreWindowLayout
+         */
+        RESTORE_WINDOW,
+        /**
+         * An application layout was created from the current state with DockingStateAPI.getApplicationLayout
+         */
+        SNAPSHOT_APPLICATION,
+        /**
+         * A window layout was created from the current state with DockingStateAPI.getWindowLayout
+         */
+        SNAPSHOT_WINDOW,
+        /**
+         * A layout was loaded from XML by LayoutPersistenceAPI
+         */
+        LOAD,
+        /**
+         * A layout was saved to XML by LayoutPersistenceAPI
+         */
+        SAVE,
+        /**
+         * The docking components were updated after the look and feel changed
+         */
+        UPDATE_LOOK_AND_FEEL
+    }
+
+    /**
+     * The individual phases of a layout operation
+     */
+    public enum Phase {
+        /**
+         * Reading and parsing the layout XML
+         */
+        XML_PARSE,
+        /**
+         * Writing the layout XML
+         */
+        XML_WRITE,
+        /**
+         * Undocking the current contents of a window before restoring a layout onto it
+         */
+        UNDOCK_EXISTING,
+        /**
+         * Creating the floating frames of an application layout
+         */
+        WINDOW_CREATION,
+        /**
+         * Creating dynamic dockables that were not registered when the layout was restored
+         */
+        DYNAMIC_DOCKABLE_CREATION,
+        /**
+         * Applying the stored properties to dockables
+         */
+        PROPERTY_CONFIGURATION,
+        /**
+         * Creating the docking panels that hold the restored dockables
+         */
+        PANEL_CONSTRUCTION,
+        /**
+         * Collecting the split panels of a window and scheduling their divider restore
+         */
+        SPLIT_RESTORE,
+        /**
+         * Adding dockables to the auto hide toolbars
+         */
+        AUTO_HIDE_SETUP,
+        /**
+         * Reading the current properties of dockables
+         */
+        PROPERTY_SAVE,
+        /**
+         * Updating the UI of the docking components that are displayed
+         */
+        COMPONENT_UI_UPDATE,
+        /**
+         * Laying out each window once after its components were updated
+         */
+        WINDOW_VALIDATION
+    }
+
+    private final Operation operation;
+    private final long totalNanos;
+    private final Map<Phase, Long> phaseNanos;
+    private final Map<String, Long> dockableNanos;
+
+    /**
+     * Create a new timing report
+     *
+     * @param operation The operation that was timed
+     * @param totalNanos The total time of the operation
+     * @param phaseNanos The time spent in each phase
+     * @param dockableNanos The time spent on each dockable, by persistent ID
+     */
+    public LayoutTimingReport(Operation operation, long totalNanos, Map<Phase, Long> phaseNanos, Map<String, Long> dockableNanos) {
+        this.operation = operation;
+        this.totalNanos = totalNanos;
+
+        Map<Phase, Long> phases = new EnumMap<>(Phase.class);
+        phases.putAll(phaseNanos);
+
+        this.phaseNanos = Collections.unmodifiableMap(phases);
+        this.dockableNanos = Collections.unmodifiableMap(new LinkedHashMap<>(dockableNanos));
+    }
+
+    /**
+     * The operation that was timed
+     *
+     * @return Operation of this report
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * The total time of the operation
+     *
+     * @return Total time in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * The time spent in a single phase
+     *
+     * @param phase The phase to lookup
+     *
+     * @return Time spent in the phase in nanoseconds, 0 if the phase did not occur
+     */
+    public long getPhaseNanos(Phase phase) {
+        return phaseNanos.getOrDefault(phase, 0L);
+    }
+
+    /**
+     * The time spent in each phase that occurred during the operation
+     *
+     * @return Unmodifiable map of phase durations in nanoseconds
+     */
+    public Map<Phase, Long> getPhaseNanos() {
+        return phaseNanos;
+    }
+
+    /**
+     * The time spent on each dockable, in the order the dockables were processed
+     *
+     * @return Unmodifiable map of persistent IDs to durations in nanoseconds
+     */
+    public Map<String, Long> getDockableNanos() {
+        return dockableNanos;
+    }
+
+    /**
+     * Get the persistent IDs of the dockables that took the longest to process
+     *
+     * @param count The maximum number of persistent IDs to return
+     *
+     * @return Persistent IDs, slowest first
+     */
+    public List<String> getSlowestDockables(int count) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(dockableNanos.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+
+        List<String> ids = new ArrayList<>();
+
+        for (int i = 0; i < entries.size() && i < count; i++) {
+            ids.add(entries.get(i).getKey());
+        }
+        return ids;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(operation).append(": ").append(toMillis(totalNanos)).append(" ms");
+
+        for (Map.Entry<Phase, Long> entry : phaseNanos.entrySet()) {
+            builder.append("\n  ").append(entry.getKey()).append(": ").append(toMillis(entry.getValue())).append(" ms");
+        }
+
+        for (String id : getSlowestDockables(10)) {
+            builder.append("\n  dockable '").append(id).append("': ").append(toMillis(dockableNanos.get(id))).append(" ms");
+        }
+        return builder.toString();
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
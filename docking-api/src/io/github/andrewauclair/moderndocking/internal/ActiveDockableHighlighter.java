@@ -21,30 +21,48 @@ SOFTWARE.
  */
 package io.github.andrewauclair.moderndocking.internal;
 
-import io.github.andrewauclair.moderndocking.Dockable;
 import io.github.andrewauclair.moderndocking.api.DockingAPI;
-import io.github.andrewauclair.moderndocking.exception.DockableRegistrationFailureException;
+import io.github.andrewauclair.moderndocking.exception.RootDockingPanelNotFoundException;
 import io.github.andrewauclair.moderndocking.settings.Settings;
 import io.github.andrewauclair.moderndocking.ui.DockingSettings;
 import java.awt.AWTEvent;
-import java.awt.Color;
+import java.awt.Component;
+import java.awt.Point;
 import java.awt.Toolkit;
 import java.awt.Window;
 import java.awt.event.AWTEventListener;
 import java.awt.event.MouseEvent;
-import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
 import javax.swing.BorderFactory;
 import javax.swing.SwingUtilities;
-import javax.swing.UIManager;
+import javax.swing.border.Border;
 
 /**
  * This class is responsible for adding a selected border around the dockable at the current mouse position.
  * <p>
- * Using an AWT Event Listener we can listen for global MOUSE_ENTERED and MOUSE_EXITED to add/remove the border.
+ * Swing only sends MOUSE_ENTERED and MOUSE_EXITED to the deepest component with mouse listeners, so a docking panel
+ * never hears about the mouse moving between its children. We listen for the global events instead, and find the
+ * docking panel by walking up from the component that the mouse entered. Only the docking panels that the
+ * component sits in are checked, there is no search of the window. When the mouse enters a window and the component
+ * under it has no mouse listeners, the window's event is the only one we get, so we start from the deepest component
+ * at the mouse position instead.
+ * <p>
+ * The borders are shared by all panels and only recreated when the look and feel or the border colors change. Every
+ * panel with the not selected border is given the new border when that happens.
  */
 public class ActiveDockableHighlighter {
+	private static Border selectedBorder = null;
+	private static Border notSelectedBorder = null;
+	private static int bordersVersion = -1;
+	// panels that currently have the not selected border. weak, so panels that are thrown away never have to be removed
+	private static final Set<DockingPanel> notSelectedPanels = Collections.newSetFromMap(new WeakHashMap<>());
+
+	private final DockingAPI docking;
 	private final AWTEventListener awtEventListener;
-	private final PropertyChangeListener propertyChangeListener;
+	private final LookAndFeelDispatcher.Listener lookAndFeelListener;
 	// the current active panel
 	private DockingPanel activePanel = null;
 
@@ -54,54 +72,20 @@ public class ActiveDockableHighlighter {
 	 * @param docking Docking instance
 	 */
 	public ActiveDockableHighlighter(DockingAPI docking) {
-		// use an AWT event listener to set a border around the dockable that the mouse is currently over
-		awtEventListener = e -> {
-			if (Settings.isActiveHighlighterEnabled() && (e.getID() == MouseEvent.MOUSE_ENTERED || e.getID() == MouseEvent.MOUSE_EXITED)) {
-				DockingPanel dockable = DockingComponentUtils.findDockingPanelAtScreenPos(docking, ((MouseEvent) e).getLocationOnScreen());
-
-				if (activePanel != null && dockable == null) {
-					setNotSelectedBorder(activePanel);
-					activePanel = null;
-				}
+		this.docking = docking;
 
-				if (activePanel != dockable && (dockable instanceof DockedSimplePanel || dockable instanceof DockedTabbedPanel || dockable instanceof DockedAnchorPanel)) {
-					if (activePanel != null) {
-						setNotSelectedBorder(activePanel);
-					}
-					activePanel = dockable;
-					setSelectedBorder();
-				}
-
-			}
-			else if (e.getID() == MouseEvent.MOUSE_PRESSED) {
-				Dockable dockable = DockingComponentUtils.findDockableAtScreenPos(docking, ((MouseEvent) e).getLocationOnScreen());
-
-				if (dockable != null) {
-					Window window = DockingComponentUtils.findWindowForDockable(docking, dockable);
-
-					if (!DockingInternal.get(docking).getWrapper(dockable).isHidden()) {
-						try {
-							InternalRootDockingPanel root = DockingComponentUtils.rootForWindow(docking, window);
-							root.hideHiddenPanels();
-						} catch (DockableRegistrationFailureException ignore) {
-						}
-					}
-				}
-			}
-		};
+		awtEventListener = this::eventDispatched;
 		Toolkit.getDefaultToolkit().addAWTEventListener(awtEventListener, AWTEvent.MOUSE_EVENT_MASK);
 
-		propertyChangeListener = e -> {
-			if (Settings.isActiveHighlighterEnabled() && "lookAndFeel".equals(e.getPropertyName())) {
-				SwingUtilities.invokeLater(() -> {
-					if (activePanel != null) {
-						setSelectedBorder();
-					}
-				});
+		// the shared borders are recreated with the new colors
+		lookAndFeelListener = () -> {
+			refreshNotSelectedBorders();
 
+			if (Settings.isActiveHighlighterEnabled() && activePanel != null) {
+				setSelectedBorder();
 			}
 		};
-		UIManager.addPropertyChangeListener(propertyChangeListener);
+		LookAndFeelDispatcher.addColorListener(lookAndFeelListener);
 	}
 
 	/**
@@ -109,15 +93,124 @@ public class ActiveDockableHighlighter {
 	 */
 	public void removeListeners() {
 		Toolkit.getDefaultToolkit().removeAWTEventListener(awtEventListener);
-		UIManager.removePropertyChangeListener(propertyChangeListener);
+		LookAndFeelDispatcher.removeListener(lookAndFeelListener);
+	}
+
+	private void eventDispatched(AWTEvent e) {
+		switch (e.getID()) {
+			case MouseEvent.MOUSE_ENTERED:
+				if (Settings.isActiveHighlighterEnabled()) {
+					mouseEntered((MouseEvent) e);
+				}
+				break;
+			case MouseEvent.MOUSE_EXITED:
+				if (Settings.isActiveHighlighterEnabled()) {
+					mouseExited((MouseEvent) e);
+				}
+				break;
+			case MouseEvent.MOUSE_PRESSED:
+				mousePressed((MouseEvent) e);
+				break;
+		}
+	}
+
+	private void mouseEntered(MouseEvent e) {
+		Component component = e.getComponent();
+
+		// the window gets its own enter event. the component under the mouse only gets one if it has mouse listeners,
+		// so find that component ourselves
+		if (component instanceof Window) {
+			component = SwingUtilities.getDeepestComponentAt(component, e.getX(), e.getY());
+		}
+
+		DockingPanel panel = findHighlightPanel(component);
+
+		if (panel == activePanel) {
+			return;
+		}
+
+		if (activePanel != null) {
+			setNotSelectedBorder(activePanel);
+		}
+		activePanel = panel;
+
+		if (activePanel != null) {
+			setSelectedBorder();
+		}
+	}
+
+	private void mouseExited(MouseEvent e) {
+		// moving between the children of the active panel exits one child and enters another, keep the highlight
+		if (activePanel != null && !isOver(activePanel, e)) {
+			setNotSelectedBorder(activePanel);
+			activePanel = null;
+		}
+	}
+
+	private void mousePressed(MouseEvent e) {
+		DisplayPanel displayPanel = findDisplayPanel(e.getComponent());
+
+		if (displayPanel == null) {
+			return;
+		}
+
+		DockableWrapper wrapper = displayPanel.getWrapper();
+
+		// pressing on a docked dockable closes any auto hide dockables that are displayed
+		if (!wrapper.isHidden() && wrapper.getWindow() != null) {
+			try {
+				InternalRootDockingPanel root = DockingComponentUtils.rootForWindow(docking, wrapper.getWindow());
+				root.hideHiddenPanels();
+			}
+			catch (RootDockingPanelNotFoundException ignore) {
+			}
+		}
+	}
+
+	private static DockingPanel findHighlightPanel(Component component) {
+		while (component != null && !(component instanceof Window)) {
+			if (component instanceof DockedSimplePanel || component instanceof DockedTabbedPanel || component instanceof DockedAnchorPanel) {
+				return (DockingPanel) component;
+			}
+			component = component.getParent();
+		}
+		return null;
+	}
+
+	private static DisplayPanel findDisplayPanel(Component component) {
+		while (component != null && !(component instanceof Window)) {
+			if (component instanceof DisplayPanel) {
+				return (DisplayPanel) component;
+			}
+			component = component.getParent();
+		}
+		return null;
+	}
+
+	private static boolean isOver(DockingPanel panel, MouseEvent e) {
+		if (!panel.isShowing()) {
+			return false;
+		}
+		Point location = panel.getLocationOnScreen();
+
+		int x = e.getXOnScreen() - location.x;
+		int y = e.getYOnScreen() - location.y;
+
+		return x >= 0 && y >= 0 && x < panel.getWidth() && y < panel.getHeight();
 	}
 
 	/**
 	 * Set the selected border on the active panel that the mouse is over
 	 */
 	private void setSelectedBorder() {
-		Color color = DockingSettings.getHighlighterSelectedBorder();
-		activePanel.setBorder(BorderFactory.createLineBorder(color, 2));
+		checkBordersVersion();
+
+		if (selectedBorder == null) {
+			selectedBorder = BorderFactory.createLineBorder(DockingSettings.getHighlighterSelectedBorder(), 2);
+		}
+		activePanel.setBorder(selectedBorder);
+
+		notSelectedPanels.remove(activePanel);
 	}
 
 	/**
@@ -126,13 +219,41 @@ public class ActiveDockableHighlighter {
 	 * @param panel The panel to change the border on
 	 */
 	public static void setNotSelectedBorder(DockingPanel panel) {
-		Color color = DockingSettings.getHighlighterNotSelectedBorder();
-
-		panel.setBorder(
-				BorderFactory.createCompoundBorder(
-						BorderFactory.createEmptyBorder(1, 1, 1, 1),
-						BorderFactory.createLineBorder(color, 1)
-				)
-		);
+		checkBordersVersion();
+
+		if (notSelectedBorder == null) {
+			notSelectedBorder = BorderFactory.createCompoundBorder(
+					BorderFactory.createEmptyBorder(1, 1, 1, 1),
+					BorderFactory.createLineBorder(DockingSettings.getHighlighterNotSelectedBorder(), 1)
+			);
+		}
+		panel.setBorder(notSelectedBorder);
+
+		notSelectedPanels.add(panel);
+	}
+
+	/**
+	 * Give every panel with the not selected border the border for the current colors
+	 */
+	private static void refreshNotSelectedBorders() {
+		// copy the panels, the set is weak and can change while we iterate it
+		for (DockingPanel panel : new ArrayList<>(notSelectedPanels)) {
+			setNotSelectedBorder(panel);
+		}
+	}
+
+	/**
+	 * Throw away the shared borders if the colors have changed since they were created, so that they are recreated
+	 * with the current colors
+	 */
+	private static void checkBordersVersion() {
+		int currentColorsVersion = DockingSettings.getColorsVersion();
+
+		if (bordersVersion != currentColorsVersion) {
+			selectedBorder = null;
+			notSelectedBorder = null;
+
+			bordersVersion = currentColorsVersion;
+		}
 	}
 }
@@ -0,0 +1,196 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.WeakHashMap;
+import javax.swing.JComponent;
+import javax.swing.JMenu;
+import javax.swing.JPopupMenu;
+import javax.swing.MenuElement;
+
+/**
+ * Updates the UI of docking component trees after a look and feel change.
+ * <p>
+ * Unlike SwingUtilities.updateComponentTreeUI, the tree is not validated and repainted after every update, the caller
+ * does that once all the trees of a window are updated. Components that are hidden are not updated at all. They're
+ * updated the first time they're shown, which keeps a theme switch from paying for every tab and auto hide panel.
+ */
+public class ComponentTreeUpdater implements HierarchyListener {
+	/**
+	 * Components waiting to be shown before their UI is updated
+	 */
+	private final Set<Component> deferred = Collections.newSetFromMap(new WeakHashMap<>());
+
+	/**
+	 * Components updated during the current pass
+	 */
+	private final Set<Component> updated = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * Create a new updater. Nothing to initialize
+	 */
+	public ComponentTreeUpdater() {
+	}
+
+	/**
+	 * Finish an update pass, forgetting the components that were updated
+	 */
+	public void endPass() {
+		updated.clear();
+	}
+
+	/**
+	 * Check if a component was updated during the current pass
+	 *
+	 * @param component The component to check
+	 * @return True if the component has been updated
+	 */
+	public boolean wasUpdated(Component component) {
+		return updated.contains(component);
+	}
+
+	/**
+	 * Get the number of components waiting to be shown before they are updated
+	 *
+	 * @return Number of deferred components
+	 */
+	public int getDeferredCount() {
+		return deferred.size();
+	}
+
+	/**
+	 * Update the UI of a component tree now if it's showing, otherwise wait until it's shown
+	 *
+	 * @param component The root of the tree to update
+	 */
+	public void updateOrDefer(Component component) {
+		if (component.isShowing()) {
+			update(component);
+		}
+		else {
+			defer(component);
+		}
+	}
+
+	/**
+	 * Update the UI of a component tree now if it's showing, otherwise wait until it's shown. The component always
+	 * waits on its own, even when an ancestor is also waiting. Used for components that can be moved to another
+	 * tree before they are shown, such as the display panels of dockables
+	 *
+	 * @param component The root of the tree to update
+	 */
+	public void updateOrDeferMovable(Component component) {
+		if (component.isShowing()) {
+			update(component);
+		}
+		else if (deferred.add(component)) {
+			component.addHierarchyListener(this);
+		}
+	}
+
+	private void update(Component component) {
+		updated.add(component);
+
+		if (deferred.remove(component)) {
+			component.removeHierarchyListener(this);
+		}
+
+		if (component instanceof JComponent) {
+			JComponent jc = (JComponent) component;
+			jc.updateUI();
+
+			JPopupMenu popup = jc.getComponentPopupMenu();
+
+			if (popup != null) {
+				update(popup);
+			}
+		}
+
+		Component[] children = null;
+
+		if (component instanceof JMenu) {
+			children = ((JMenu) component).getMenuComponents();
+		}
+		else if (component instanceof Container) {
+			children = ((Container) component).getComponents();
+		}
+
+		if (children != null) {
+			for (Component child : children) {
+				// menu items are only made visible when their menu is displayed, update them with their menu
+				if (child.isVisible() || child instanceof MenuElement) {
+					update(child);
+				}
+				else {
+					defer(child);
+				}
+			}
+		}
+	}
+
+	private void defer(Component component) {
+		// an ancestor that's waiting will update this component when it's shown
+		if (hasDeferredAncestor(component) || !deferred.add(component)) {
+			return;
+		}
+		component.addHierarchyListener(this);
+	}
+
+	private boolean hasDeferredAncestor(Component component) {
+		for (Component parent = component.getParent(); parent != null; parent = parent.getParent()) {
+			if (deferred.contains(parent)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void hierarchyChanged(HierarchyEvent e) {
+		Component component = e.getComponent();
+
+		if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) == 0 || !component.isShowing()) {
+			return;
+		}
+
+		deferred.remove(component);
+		component.removeHierarchyListener(this);
+
+		// children are told about the change first, leave this component to the ancestor that's also waiting
+		if (hasDeferredAncestor(component)) {
+			return;
+		}
+
+		update(component);
+		updated.clear();
+
+		component.revalidate();
+		component.repaint();
+	}
+}
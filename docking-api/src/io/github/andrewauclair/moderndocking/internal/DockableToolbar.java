@@ -30,22 +30,28 @@ import io.github.andrewauclair.moderndocking.internal.util.RotatedIcon;
 import io.github.andrewauclair.moderndocking.internal.util.TextIcon;
 import io.github.andrewauclair.moderndocking.internal.util.UnselectableButtonGroup;
 import java.awt.Color;
-import java.awt.GridBagConstraints;
-import java.awt.GridBagLayout;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Dimension;
 import java.awt.Insets;
+import java.awt.LayoutManager;
 import java.awt.Window;
 import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import javax.swing.BorderFactory;
+import javax.swing.JButton;
 import javax.swing.JDialog;
 import javax.swing.JFrame;
-import javax.swing.JLabel;
 import javax.swing.JLayeredPane;
+import javax.swing.JMenuItem;
 import javax.swing.JPanel;
+import javax.swing.JPopupMenu;
 import javax.swing.JToggleButton;
 import javax.swing.UIManager;
 
@@ -110,11 +116,36 @@ public class DockableToolbar extends JPanel implements ComponentListener {
 	 */
 	private final List<Entry> dockables = new ArrayList<>();
 
+	/**
+	 * Lookup of the entry for each dockable in this toolbar
+	 */
+	private final Map<DockableWrapper, Entry> entries = new IdentityHashMap<>();
+
+	/**
+	 * Displayed at the end of the toolbar when there isn't enough room for all the buttons. Opens a popup with the rest
+	 */
+	private final JButton overflowButton = new JButton("\u00BB");
+
+	/**
+	 * Index of the first entry that didn't fit in the toolbar during the last layout
+	 */
+	private int firstOverflowIndex = -1;
+
+	/**
+	 * Margin used by the buttons of vertical toolbars. Looked up once and cleared when the look and feel changes
+	 */
+	private Insets verticalButtonMargin = null;
+
 	/**
 	 * The group of all the toolbar buttons for the auto-hide dockables
 	 */
 	private final UnselectableButtonGroup buttonGroup = new UnselectableButtonGroup();
 
+	/**
+	 * Updates the border of the displayed auto hide panel when the look and feel changes
+	 */
+	private final LookAndFeelDispatcher.Listener lookAndFeelListener = this::updateSelectedBorder;
+
 	/**
 	 * Create a new dockable toolbar for the window, its root and a location (west, south or east)
 	 *
@@ -124,7 +155,6 @@ public class DockableToolbar extends JPanel implements ComponentListener {
 	 * @param location The location of this toolbar within the window
 	 */
 	public DockableToolbar(DockingAPI docking, Window window, RootDockingPanelAPI root, DockableToolbarController controller, ToolbarLocation location) {
-		super(new GridBagLayout());
 		this.docking = docking;
         this.controller = controller;
 
@@ -135,7 +165,22 @@ public class DockableToolbar extends JPanel implements ComponentListener {
 		this.root = root;
 		this.location = location;
 
+		setLayout(new ToolbarLayout());
+
+		overflowButton.setFocusable(false);
+		overflowButton.addActionListener(e -> showOverflowPopup());
+		add(overflowButton);
+
 		addComponentListener(this);
+
+		LookAndFeelDispatcher.addColorListener(lookAndFeelListener);
+	}
+
+	@Override
+	public void updateUI() {
+		super.updateUI();
+
+		verticalButtonMargin = null;
 	}
 
 	/**
@@ -156,31 +201,45 @@ public class DockableToolbar extends JPanel implements ComponentListener {
 		return location == ToolbarLocation.EAST || location == ToolbarLocation.WEST;
 	}
 
-	private void createContents() {
-		removeAll();
+	private Insets verticalButtonMargin() {
+		if (verticalButtonMargin == null) {
+			Insets insets = UIManager.getInsets("Button.margin");
 
-		GridBagConstraints gbc = new GridBagConstraints();
-		gbc.gridx = 0;
-		gbc.gridy = 0;
+			if (insets == null) {
+				insets = new Insets(0, 0, 0, 0);
+			}
 
-		for (Entry dockable : dockables) {
-			add(dockable.button, gbc);
+			// purposefully putting them in this order to set the margins of a vertical button
+			//noinspection SuspiciousNameCombination
+			verticalButtonMargin = new Insets(insets.left, insets.top, insets.left, insets.top);
+		}
+		return verticalButtonMargin;
+	}
 
-			if (isVertical()) {
-				gbc.gridy++;
-			}
-			else {
-				gbc.gridx++;
-			}
+	// display the buttons that didn't fit in the toolbar in a popup below the overflow button
+	private void showOverflowPopup() {
+		if (firstOverflowIndex == -1) {
+			return;
 		}
 
-		if (isVertical()) {
-			gbc.weighty = 1.0;
+		JPopupMenu popup = new JPopupMenu();
+
+		for (Entry entry : dockables.subList(firstOverflowIndex, dockables.size())) {
+			JMenuItem item = new JMenuItem(entry.dockable.getDockable().getTabText(), entry.dockable.getDockable().getIcon());
+			item.addActionListener(e -> entry.button.doClick());
+
+			popup.add(item);
+		}
+
+		if (location == ToolbarLocation.SOUTH) {
+			popup.show(overflowButton, 0, -popup.getPreferredSize().height);
+		}
+		else if (location == ToolbarLocation.EAST) {
+			popup.show(overflowButton, -popup.getPreferredSize().width, 0);
 		}
 		else {
-			gbc.weightx = 1.0;
+			popup.show(overflowButton, overflowButton.getWidth(), 0);
 		}
-		add(new JLabel(""), gbc);
 	}
 
 	private void updateButtons() {
@@ -197,18 +256,29 @@ public class DockableToolbar extends JPanel implements ComponentListener {
 				DockingListeners.fireShownEvent(entry.dockable.getDockable());
 			}
 
-			// set only a single panel visible
-			entry.panel.setVisible(isSelected);
-
 			if (isSelected) {
+				// set the border before showing the panel so that it's included in the slide in snapshot
 				Color color = DockingSettings.getHighlighterSelectedBorder();
 				entry.panel.setBorder(BorderFactory.createLineBorder(color, 2));
+			}
+
+			// set only a single panel visible
+			entry.panel.setVisible(isSelected);
 
+			if (isSelected) {
 				controller.dockableDisplayed(this);
 			}
 		}
 	}
 
+	private void updateSelectedBorder() {
+		for (Entry entry : dockables) {
+			if (entry.panel.isVisible() && buttonGroup.getSelection() == entry.button.getModel()) {
+				entry.panel.setBorder(BorderFactory.createLineBorder(DockingSettings.getHighlighterSelectedBorder(), 2));
+			}
+		}
+	}
+
 	/**
 	 * Add a new dockable to this toolbar
 	 *
@@ -231,16 +301,7 @@ public class DockableToolbar extends JPanel implements ComponentListener {
 					button.setIcon(rotatedIcon);
 				}
 
-				Insets insets = UIManager.getInsets("Button.margin");
-
-				if (insets == null) {
-					insets = new Insets(0, 0, 0, 0);
-				}
-
-				// purposefully putting them in this order to set the margins of a vertical button
-				//noinspection SuspiciousNameCombination
-				Insets margin = new Insets(insets.left, insets.top, insets.left, insets.top);
-				button.setMargin(margin);
+				button.setMargin(verticalButtonMargin());
 			}
 			else {
 				button.setText(dockable.getDockable().getTabText());
@@ -255,7 +316,9 @@ public class DockableToolbar extends JPanel implements ComponentListener {
 
 			buttonGroup.add(button);
 
-			dockables.add(new Entry(dockable, button, panel));
+			Entry entry = new Entry(dockable, button, panel);
+			dockables.add(entry);
+			entries.put(dockable, entry);
 
 			JLayeredPane layeredPane;
 
@@ -268,7 +331,11 @@ public class DockableToolbar extends JPanel implements ComponentListener {
 
 			layeredPane.add(panel, root.getAutoHideLayer());
 
-			createContents();
+			// the layout places the buttons in the order of the dockables, no need to rebuild the toolbar
+			add(button);
+
+			revalidate();
+			repaint();
 		}
 	}
 
@@ -278,24 +345,29 @@ public class DockableToolbar extends JPanel implements ComponentListener {
 	 * @param dockable Dockable to remove
 	 */
 	public void removeDockable(DockableWrapper dockable) {
-		for (Entry entry : dockables) {
-			if (entry.dockable == dockable) {
-				JLayeredPane layeredPane;
+		Entry entry = entries.remove(dockable);
 
-				if (window instanceof JFrame) {
-					layeredPane = ((JFrame) window).getLayeredPane();
-				}
-				else {
-					layeredPane = ((JDialog) window).getLayeredPane();
-				}
+		if (entry == null) {
+			return;
+		}
 
-				layeredPane.remove(entry.panel);
-				break;
-			}
+		JLayeredPane layeredPane;
+
+		if (window instanceof JFrame) {
+			layeredPane = ((JFrame) window).getLayeredPane();
 		}
-		if (dockables.removeIf(panel -> panel.dockable.equals(dockable))) {
-			createContents();
+		else {
+			layeredPane = ((JDialog) window).getLayeredPane();
 		}
+
+		layeredPane.remove(entry.panel);
+
+		dockables.remove(entry);
+		buttonGroup.remove(entry.button);
+		remove(entry.button);
+
+		revalidate();
+		repaint();
 	}
 
 	/**
@@ -305,8 +377,7 @@ public class DockableToolbar extends JPanel implements ComponentListener {
 	 * @return Is dockable contained in this toolbar?
 	 */
 	public boolean hasDockable(DockableWrapper dockable) {
-		return dockables.stream()
-				.anyMatch(panel -> panel.dockable.equals(dockable));
+		return entries.containsKey(dockable);
 	}
 
 	/**
@@ -339,19 +410,16 @@ public class DockableToolbar extends JPanel implements ComponentListener {
 	}
 
 	public int getSlidePosition(DockableWrapper dockable) {
-		for (Entry entry : dockables) {
-			if (entry.dockable == dockable) {
-				return entry.panel.getSlidePosition();
-			}
-		}
-		return 0;
+		Entry entry = entries.get(dockable);
+
+		return entry != null ? entry.panel.getSlidePosition() : 0;
 	}
 
 	public void setSlidePosition(DockableWrapper dockable, int position) {
-		for (Entry entry : dockables) {
-			if (entry.dockable == dockable) {
-				entry.panel.setSlidePosition(position);
-			}
+		Entry entry = entries.get(dockable);
+
+		if (entry != null) {
+			entry.panel.setSlidePosition(position);
 		}
 	}
 
@@ -371,4 +439,113 @@ public class DockableToolbar extends JPanel implements ComponentListener {
 	@Override
 	public void componentHidden(ComponentEvent e) {
 	}
+
+	/**
+	 * Places the buttons one after the other along the toolbar. Buttons that don't fit are hidden and the overflow
+	 * button is displayed after the last button that fits
+	 */
+	private class ToolbarLayout implements LayoutManager {
+		@Override
+		public void addLayoutComponent(String name, Component comp) {
+		}
+
+		@Override
+		public void removeLayoutComponent(Component comp) {
+		}
+
+		@Override
+		public Dimension preferredLayoutSize(Container parent) {
+			int length = 0;
+			int breadth = breadth(overflowButton.getPreferredSize());
+
+			for (Entry entry : dockables) {
+				Dimension size = entry.button.getPreferredSize();
+
+				length += length(size);
+				breadth = Math.max(breadth, breadth(size));
+			}
+			return toolbarSize(parent, length, breadth);
+		}
+
+		@Override
+		public Dimension minimumLayoutSize(Container parent) {
+			Dimension size = overflowButton.getPreferredSize();
+
+			return toolbarSize(parent, length(size), breadth(size));
+		}
+
+		@Override
+		public void layoutContainer(Container parent) {
+			Insets insets = parent.getInsets();
+			int available = isVertical() ? parent.getHeight() - insets.top - insets.bottom : parent.getWidth() - insets.left - insets.right;
+			int breadth = isVertical() ? parent.getWidth() - insets.left - insets.right : parent.getHeight() - insets.top - insets.bottom;
+
+			int total = 0;
+
+			for (Entry entry : dockables) {
+				total += length(entry.button.getPreferredSize());
+			}
+
+			// leave room for the overflow button if everything doesn't fit
+			if (total > available) {
+				available -= length(overflowButton.getPreferredSize());
+			}
+
+			firstOverflowIndex = -1;
+			int position = 0;
+
+			for (int i = 0; i < dockables.size(); i++) {
+				JToggleButton button = dockables.get(i).button;
+				Dimension size = button.getPreferredSize();
+
+				if (firstOverflowIndex == -1 && position + length(size) > available) {
+					firstOverflowIndex = i;
+				}
+
+				if (firstOverflowIndex != -1) {
+					button.setBounds(0, 0, 0, 0);
+					continue;
+				}
+
+				place(button, insets, position, size, breadth);
+				position += length(size);
+			}
+
+			if (firstOverflowIndex != -1) {
+				place(overflowButton, insets, position, overflowButton.getPreferredSize(), breadth);
+			}
+			else {
+				overflowButton.setBounds(0, 0, 0, 0);
+			}
+		}
+
+		// place a component at the position along the toolbar, centered across it
+		private void place(Component component, Insets insets, int position, Dimension size, int breadth) {
+			int offset = Math.max(0, (breadth - breadth(size)) / 2);
+
+			if (isVertical()) {
+				component.setBounds(insets.left + offset, insets.top + position, size.width, size.height);
+			}
+			else {
+				component.setBounds(insets.left + position, insets.top + offset, size.width, size.height);
+			}
+		}
+
+		private int length(Dimension size) {
+			return isVertical() ? size.height : size.width;
+		}
+
+		private int breadth(Dimension size) {
+			return isVertical() ? size.width : size.height;
+		}
+
+		private Dimension toolbarSize(Container parent, int length, int breadth) {
+			Insets insets = parent.getInsets();
+
+			if (isVertical()) {
+				return new Dimension(breadth + insets.left + insets.right, length + insets.top + insets.bottom);
+			}
+			return new Dimension(length + insets.left + insets.right, breadth + insets.top + insets.bottom);
+		}
+	}
 }
@@ -0,0 +1,201 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal;
+
+import io.github.andrewauclair.moderndocking.Dockable;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Window;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Index of the docked dockables by window, used to find dockables by type.
+ * <p>
+ * Wrappers report changes to their parent, window and hidden state, so that finding a dockable of a type doesn't
+ * have to search the docking tree of every window. The type of a dockable is checked when searching, not when it's
+ * indexed, so a dockable whose type changes is still found by its current type.
+ */
+public class DockableTypeIndex {
+	/**
+	 * Docked wrappers by window, windows in the order they first had a docked dockable
+	 */
+	private final Map<Window, Set<DockableWrapper>> dockablesByWindow = new LinkedHashMap<>();
+
+	/**
+	 * The window each wrapper is currently indexed in
+	 */
+	private final Map<DockableWrapper, Window> windows = new IdentityHashMap<>();
+
+	/**
+	 * Create a new empty index
+	 */
+	public DockableTypeIndex() {
+	}
+
+	/**
+	 * Update the index for a wrapper after its parent, window or hidden state has changed
+	 *
+	 * @param wrapper The wrapper that changed
+	 */
+	public void update(DockableWrapper wrapper) {
+		Window window = wrapper.getParent() != null && !wrapper.isHidden() ? wrapper.getWindow() : null;
+
+		Window current = windows.get(wrapper);
+
+		if (current == window) {
+			return;
+		}
+
+		if (current != null) {
+			remove(wrapper, current);
+		}
+
+		if (window != null) {
+			dockablesByWindow.computeIfAbsent(window, key -> new LinkedHashSet<>()).add(wrapper);
+
+			windows.put(wrapper, window);
+		}
+	}
+
+	/**
+	 * Remove a wrapper from the index. Used when the dockable is deregistered
+	 *
+	 * @param wrapper The wrapper to remove
+	 */
+	public void remove(DockableWrapper wrapper) {
+		Window window = windows.get(wrapper);
+
+		if (window != null) {
+			remove(wrapper, window);
+		}
+	}
+
+	private void remove(DockableWrapper wrapper, Window window) {
+		windows.remove(wrapper);
+
+		Set<DockableWrapper> wrappers = dockablesByWindow.get(window);
+
+		wrappers.remove(wrapper);
+
+		if (wrappers.isEmpty()) {
+			dockablesByWindow.remove(window);
+		}
+	}
+
+	/**
+	 * Find the first docked dockable of a type. Within a window, the first dockable in layout order is returned, the
+	 * same order as a depth first search of the window's components. The main window is searched first, then the other
+	 * windows in the order that they first had a docked dockable. Auto hide dockables are not included.
+	 *
+	 * @param type The type to search for
+	 * @param mainWindow The main window of the application
+	 *
+	 * @return The first dockable of the type, if any are docked
+	 */
+	public Optional<Dockable> findFirst(int type, Window mainWindow) {
+		DockableWrapper first = findFirst(type, dockablesByWindow.get(mainWindow));
+
+		if (first == null) {
+			for (Map.Entry<Window, Set<DockableWrapper>> entry : dockablesByWindow.entrySet()) {
+				if (entry.getKey() == mainWindow) {
+					continue;
+				}
+				first = findFirst(type, entry.getValue());
+
+				if (first != null) {
+					break;
+				}
+			}
+		}
+		return first != null ? Optional.of(first.getDockable()) : Optional.empty();
+	}
+
+	private static DockableWrapper findFirst(int type, Set<DockableWrapper> wrappers) {
+		if (wrappers == null) {
+			return null;
+		}
+
+		DockableWrapper first = null;
+
+		for (DockableWrapper wrapper : wrappers) {
+			if (wrapper.getDockable().getType() != type) {
+				continue;
+			}
+			if (first == null || isBefore(wrapper.getDisplayPanel(), first.getDisplayPanel())) {
+				first = wrapper;
+			}
+		}
+		return first;
+	}
+
+	/**
+	 * Check if a component comes before another in a depth first search of their window
+	 *
+	 * @param a The first component
+	 * @param b The second component
+	 *
+	 * @return Is a before b?
+	 */
+	static boolean isBefore(Component a, Component b) {
+		int depthA = depth(a);
+		int depthB = depth(b);
+
+		// bring both up to the same depth, then up to the children of their common ancestor
+		while (depthA > depthB) {
+			a = a.getParent();
+			depthA--;
+		}
+		while (depthB > depthA) {
+			b = b.getParent();
+			depthB--;
+		}
+
+		if (a == b) {
+			// one contains the other. display panels are never nested, so this doesn't happen
+			return false;
+		}
+
+		while (a.getParent() != b.getParent()) {
+			a = a.getParent();
+			b = b.getParent();
+		}
+
+		Container parent = a.getParent();
+
+		return parent != null && parent.getComponentZOrder(a) < parent.getComponentZOrder(b);
+	}
+
+	private static int depth(Component component) {
+		int depth = 0;
+
+		while (component.getParent() != null) {
+			component = component.getParent();
+			depth++;
+		}
+		return depth;
+	}
+}
@@ -100,6 +100,8 @@ public class DockableWrapper {
 	 */
 	public void setWindow(Window window) {
 		this.window = window;
+
+		updateTypeIndex();
 	}
 
 	/**
@@ -111,6 +113,8 @@ public class DockableWrapper {
 		this.parent = parent;
 
 		displayPanel.parentChanged();
+
+		updateTypeIndex();
 	}
 
 	/**
@@ -184,6 +188,17 @@ public class DockableWrapper {
 		this.hidden = hidden;
 
 		displayPanel.parentChanged();
+
+		updateTypeIndex();
+	}
+
+	private void updateTypeIndex() {
+		DockingInternal internals = DockingInternal.get(docking);
+
+		// the docking instance might have been uninitialized
+		if (internals != null) {
+			internals.getTypeIndex().update(this);
+		}
 	}
 
 	/**
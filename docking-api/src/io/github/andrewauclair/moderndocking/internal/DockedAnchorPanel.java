@@ -113,6 +113,11 @@ public class DockedAnchorPanel extends DockingPanel {
         return Collections.emptyList();
     }
 
+    @Override
+    public List<DockableWrapper> getDockables() {
+        return Collections.singletonList(anchor);
+    }
+
     /**
      * Get the wrapper for the anchor
      *
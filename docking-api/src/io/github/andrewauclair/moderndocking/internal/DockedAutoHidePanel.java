@@ -24,23 +24,33 @@ package io.github.andrewauclair.moderndocking.internal;
 import io.github.andrewauclair.moderndocking.Dockable;
 import io.github.andrewauclair.moderndocking.api.DockingAPI;
 import io.github.andrewauclair.moderndocking.api.RootDockingPanelAPI;
+import io.github.andrewauclair.moderndocking.settings.Settings;
 import io.github.andrewauclair.moderndocking.ui.ToolbarLocation;
 import io.github.andrewauclair.moderndocking.internal.util.SlideBorder;
 import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
 import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
 import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 
 /**
  * Special JPanel used to contain a dockable within a docking toolbar
  */
-public class DockedAutoHidePanel extends JPanel implements ComponentListener, MouseMotionListener {
+public class DockedAutoHidePanel extends JPanel implements ComponentListener, MouseListener, MouseMotionListener {
     private final DockingAPI docking;
     /**
 	 * The root that this auto hide panel belongs to
@@ -57,6 +67,50 @@ public class DockedAutoHidePanel extends JPanel implements ComponentListener, Mo
 	 */
 	private boolean configured = false;
 
+	/**
+	 * Image of the panel that is painted in place of the live dockable while sliding in or dragging the slide border.
+	 * The buffer is kept to be reused by the next animation
+	 */
+	private BufferedImage snapshot;
+	/**
+	 * Size of the panel when the snapshot was taken
+	 */
+	private final Dimension snapshotSize = new Dimension();
+	/**
+	 * Flag indicating that the snapshot is currently painted instead of the children of this panel
+	 */
+	private boolean snapshotVisible = false;
+	/**
+	 * Stretch the snapshot to the size of the panel instead of sliding it out from under the toolbar
+	 */
+	private boolean stretchSnapshot = false;
+
+	/**
+	 * Timer driving the slide in animation, null when no animation is running
+	 */
+	private Timer slideTimer;
+	/**
+	 * Time that the current slide in animation started, from System.nanoTime()
+	 */
+	private long slideStartTime;
+	/**
+	 * The slide position that the current slide in animation ends at
+	 */
+	private int slideTarget;
+
+	/**
+	 * Slide position when the mouse was pressed on the slide border
+	 */
+	private int dragStartPosition;
+	/**
+	 * Screen location where the mouse was pressed on the slide border
+	 */
+	private Point dragStartPoint;
+	/**
+	 * Slide position of the snapshot while dragging the slide border
+	 */
+	private int dragPosition;
+
 	/**
 	 * Create a new DockedAutoHidePanel to contain a dockable on a docking toolbar
 	 *
@@ -126,6 +180,7 @@ public class DockedAutoHidePanel extends JPanel implements ComponentListener, Mo
 	public void addNotify() {
 		super.addNotify();
 
+		slideBorder.addMouseListener(this);
 		slideBorder.addMouseMotionListener(this);
 
 		root.addComponentListener(this);
@@ -134,6 +189,11 @@ public class DockedAutoHidePanel extends JPanel implements ComponentListener, Mo
 
 	@Override
 	public void removeNotify() {
+		stopSlideAnimation();
+		snapshotVisible = false;
+		snapshot = null;
+
+		slideBorder.removeMouseListener(this);
 		slideBorder.removeMouseMotionListener(this);
 
 		root.removeComponentListener(this);
@@ -144,6 +204,16 @@ public class DockedAutoHidePanel extends JPanel implements ComponentListener, Mo
 
 	@Override
 	public void setVisible(boolean visible) {
+		boolean slideIn = visible && (!isVisible() || !configured) && Settings.isAutoHideAnimationEnabled();
+
+		if (!visible) {
+			stopSlideAnimation();
+		}
+		else if (slideTimer != null) {
+			// already sliding in, let the animation finish
+			return;
+		}
+
 		super.setVisible(visible);
 
 		setLocationAndSize(0);
@@ -151,6 +221,120 @@ public class DockedAutoHidePanel extends JPanel implements ComponentListener, Mo
 		if (!configured) {
 			configured = true;
 		}
+
+		if (slideIn && getParent() != null) {
+			startSlideAnimation();
+		}
+	}
+
+	@Override
+	public void doLayout() {
+		// the children keep their final layout while the snapshot is painted in their place
+		if (!snapshotVisible) {
+			super.doLayout();
+		}
+	}
+
+	@Override
+	public void paint(Graphics g) {
+		if (!snapshotVisible) {
+			super.paint(g);
+			return;
+		}
+
+		Graphics2D g2 = (Graphics2D) g.create();
+		g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+
+		if (stretchSnapshot) {
+			g2.drawImage(snapshot, 0, 0, getWidth(), getHeight(), null);
+		}
+		else {
+			// the edge furthest from the toolbar comes out first
+			int x = toolbar.getDockedLocation() == ToolbarLocation.WEST ? getWidth() - snapshotSize.width : 0;
+
+			g2.drawImage(snapshot, x, 0, snapshotSize.width, snapshotSize.height, null);
+		}
+		g2.dispose();
+	}
+
+	/**
+	 * Paint the panel at its current size into the snapshot buffer
+	 */
+	private void takeSnapshot() {
+		int width = Math.max(1, getWidth());
+		int height = Math.max(1, getHeight());
+
+		GraphicsConfiguration config = getGraphicsConfiguration();
+		AffineTransform transform = config != null ? config.getDefaultTransform() : new AffineTransform();
+
+		int imageWidth = (int) Math.ceil(width * transform.getScaleX());
+		int imageHeight = (int) Math.ceil(height * transform.getScaleY());
+
+		if (snapshot == null || snapshot.getWidth() != imageWidth || snapshot.getHeight() != imageHeight) {
+			// compatible images can be cached in video memory by Java2D when they're drawn repeatedly
+			snapshot = config != null ? config.createCompatibleImage(imageWidth, imageHeight) : new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_RGB);
+		}
+
+		Graphics2D g2 = snapshot.createGraphics();
+		g2.setColor(getBackground());
+		g2.fillRect(0, 0, imageWidth, imageHeight);
+		g2.scale(transform.getScaleX(), transform.getScaleY());
+		super.paint(g2);
+		g2.dispose();
+
+		snapshotSize.setSize(width, height);
+	}
+
+	private void startSlideAnimation() {
+		// lay out the dockable once, at its final size, and slide an image of it into place
+		validate();
+		takeSnapshot();
+
+		slideTarget = getSlidePosition();
+		slideStartTime = System.nanoTime();
+
+		stretchSnapshot = false;
+		snapshotVisible = true;
+
+		setBounds(calculateBounds(0));
+
+		slideTimer = new Timer(1000 / 60, e -> updateSlideAnimation());
+		slideTimer.setCoalesce(true);
+		slideTimer.start();
+	}
+
+	private void updateSlideAnimation() {
+		double elapsed = (System.nanoTime() - slideStartTime) / 1_000_000.0;
+		double fraction = Math.min(1.0, elapsed / Settings.getAutoHideAnimationDuration());
+
+		if (fraction >= 1.0) {
+			stopSlideAnimation();
+			return;
+		}
+
+		// ease out, the panel slows down as it reaches its final size
+		double eased = 1.0 - Math.pow(1.0 - fraction, 3);
+
+		setBounds(calculateBounds((int) Math.round(slideTarget * eased)));
+		repaint();
+	}
+
+	/**
+	 * Stop the slide in animation, if there is one, and display the live dockable at its final size
+	 */
+	private void stopSlideAnimation() {
+		if (slideTimer == null) {
+			return;
+		}
+
+		slideTimer.stop();
+		slideTimer = null;
+
+		snapshotVisible = false;
+
+		setBounds(calculateBounds(slideTarget));
+		revalidate();
+		repaint();
 	}
 
 	public int getSlidePosition() {
@@ -161,6 +345,8 @@ public class DockedAutoHidePanel extends JPanel implements ComponentListener, Mo
 	}
 
 	public void setSlidePosition(int position) {
+		stopSlideAnimation();
+
 		if (toolbar.getDockedLocation() == ToolbarLocation.SOUTH) {
 			setSize(getWidth(), position);
 		}
@@ -170,6 +356,33 @@ public class DockedAutoHidePanel extends JPanel implements ComponentListener, Mo
 	}
 
 	private void setLocationAndSize(int widthDifference) {
+		int position;
+
+		if (toolbar.isVertical()) {
+			position = (int) (root.getWidth() / 4.0); // default width, 1/4 of root width
+		}
+		else {
+			position = (int) (root.getHeight() / 4.0); // default height, 1/4 of root height
+		}
+
+		if (configured)
+		{
+			position = getSlidePosition() + widthDifference;
+		}
+
+		setBounds(calculateBounds(position));
+
+		revalidate();
+		repaint();
+	}
+
+	/**
+	 * Calculate the bounds of this panel, in the coordinates of its parent, for a slide position
+	 *
+	 * @param position The width of the panel for vertical toolbars, height for horizontal toolbars
+	 * @return The bounds of this panel next to the toolbar
+	 */
+	private Rectangle calculateBounds(int position) {
 		Point toolbarLocation = toolbar.getLocation();
 		SwingUtilities.convertPointToScreen(toolbarLocation, toolbar.getParent());
 
@@ -177,53 +390,34 @@ public class DockedAutoHidePanel extends JPanel implements ComponentListener, Mo
 
 		// this panel will be in a layered pane without a layout manager
 		// we must configure the size and position ourselves
-		if (toolbar.isVertical()) {
-			int width = (int) (root.getWidth() / 4.0); // default width, 1/4 of root width
-			int height = toolbarSize.height; // match height of toolbar
-
-			if (configured)
-			{
-				width = getWidth() + widthDifference;
-			}
+		Point location;
+		Dimension size;
 
-			Point location = new Point(toolbarLocation.x + toolbarSize.width, toolbarLocation.y);
-			Dimension size = new Dimension(width, height);
+		if (toolbar.isVertical()) {
+			// match height of toolbar
+			location = new Point(toolbarLocation.x + toolbarSize.width, toolbarLocation.y);
+			size = new Dimension(position, toolbarSize.height);
 
 			if (toolbar.getDockedLocation() == ToolbarLocation.EAST) {
-				location.x = toolbarLocation.x - width;
+				location.x = toolbarLocation.x - position;
 			}
-
-			SwingUtilities.convertPointFromScreen(location, getParent());
-
-			setLocation(location);
-			setSize(size);
 		}
 		else {
-			int width = toolbarSize.width; // match width of toolbar
-			int height = (int) (root.getHeight() / 4.0); // default height, 1/4 of root height
-
-			if (configured)
-			{
-				height = getHeight() + widthDifference;
-			}
-
-			Point location = new Point(toolbarLocation.x, toolbarLocation.y - height);
-			Dimension size = new Dimension(width, height);
-
-			SwingUtilities.convertPointFromScreen(location, getParent());
-
-			setLocation(location);
-			setSize(size);
+			// match width of toolbar
+			location = new Point(toolbarLocation.x, toolbarLocation.y - position);
+			size = new Dimension(toolbarSize.width, position);
 		}
 
-		revalidate();
-		repaint();
+		SwingUtilities.convertPointFromScreen(location, getParent());
+
+		return new Rectangle(location, size);
 	}
 
 	@Override
 	public void componentResized(ComponentEvent e) {
 		// component has resized, update the location and size of the auto hide panel
 		if (e.getComponent() == root) {
+			stopSlideAnimation();
 			setLocationAndSize(0);
 		}
 	}
@@ -256,8 +450,50 @@ public class DockedAutoHidePanel extends JPanel implements ComponentListener, Mo
 	public void componentHidden(ComponentEvent e) {
 	}
 
+	@Override
+	public void mouseClicked(MouseEvent e) {
+	}
+
+	@Override
+	public void mousePressed(MouseEvent e) {
+		stopSlideAnimation();
+
+		dragStartPosition = getSlidePosition();
+		dragStartPoint = e.getLocationOnScreen();
+		dragPosition = dragStartPosition;
+	}
+
+	@Override
+	public void mouseReleased(MouseEvent e) {
+		if (!snapshotVisible) {
+			return;
+		}
+
+		// display the live dockable at the size the snapshot was dragged to
+		snapshotVisible = false;
+
+		setBounds(calculateBounds(dragPosition));
+		revalidate();
+		repaint();
+
+		docking.getAppState().persist();
+	}
+
+	@Override
+	public void mouseEntered(MouseEvent e) {
+	}
+
+	@Override
+	public void mouseExited(MouseEvent e) {
+	}
+
 	@Override
 	public void mouseDragged(MouseEvent e) {
+		if (Settings.isAutoHideAnimationEnabled() && dragStartPoint != null) {
+			dragSnapshot(e);
+			return;
+		}
+
 		// dragging the divider, update the size and location of the auto hide panel
 		if (toolbar.getDockedLocation() == ToolbarLocation.SOUTH) {
 			setLocationAndSize(-e.getY());
@@ -272,6 +508,39 @@ public class DockedAutoHidePanel extends JPanel implements ComponentListener, Mo
 		docking.getAppState().persist();
 	}
 
+	/**
+	 * Resize the snapshot of this panel to follow the slide border. The slide border moves along with the panel on
+	 * some sides, so the new size is calculated from the screen location where the drag started
+	 *
+	 * @param e The drag event from the slide border
+	 */
+	private void dragSnapshot(MouseEvent e) {
+		if (!snapshotVisible) {
+			takeSnapshot();
+
+			stretchSnapshot = true;
+			snapshotVisible = true;
+		}
+
+		Point point = e.getLocationOnScreen();
+
+		if (toolbar.getDockedLocation() == ToolbarLocation.SOUTH) {
+			dragPosition = dragStartPosition - (point.y - dragStartPoint.y);
+			dragPosition = Math.max(slideBorder.getMinimumSize().height, dragPosition);
+		}
+		else if (toolbar.getDockedLocation() == ToolbarLocation.WEST) {
+			dragPosition = dragStartPosition + (point.x - dragStartPoint.x);
+			dragPosition = Math.max(slideBorder.getMinimumSize().width, dragPosition);
+		}
+		else { // east
+			dragPosition = dragStartPosition - (point.x - dragStartPoint.x);
+			dragPosition = Math.max(slideBorder.getMinimumSize().width, dragPosition);
+		}
+
+		setBounds(calculateBounds(dragPosition));
+		repaint();
+	}
+
 	@Override
 	public void mouseMoved(MouseEvent e) {
 	}
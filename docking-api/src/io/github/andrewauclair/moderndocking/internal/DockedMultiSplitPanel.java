@@ -0,0 +1,659 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal;
+
+import io.github.andrewauclair.moderndocking.Dockable;
+import io.github.andrewauclair.moderndocking.DockingRegion;
+import io.github.andrewauclair.moderndocking.api.DockingAPI;
+import io.github.andrewauclair.moderndocking.settings.Settings;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Cursor;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Insets;
+import java.awt.LayoutManager;
+import java.awt.Point;
+import java.awt.Window;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.swing.JComponent;
+import javax.swing.JSplitPane;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+import javax.swing.plaf.basic.BasicSplitPaneDivider;
+import javax.swing.plaf.basic.BasicSplitPaneUI;
+
+/**
+ * DockingPanel that splits any number of children along a single axis. Replaces chains of nested DockedSplitPanels
+ * with the same orientation, keeping the component hierarchy shallow for dense layouts.
+ * <p>
+ * Multi splits are created when a layout is restored, and when live docking or undocking leaves more than two panels
+ * in a chain of splits along the same axis. Docking along the axis of an existing multi split, either to the split
+ * itself or to one of its children, adds another child. Docking across the axis nests a DockedSplitPanel.
+ * <p>
+ * The dividers are painted by the look and feel's JSplitPane divider so that they match the DockedSplitPanels
+ */
+public class DockedMultiSplitPanel extends DockingPanel {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The panels in this split, in order from left to right or top to bottom
+	 */
+	private final List<DockingPanel> panels = new ArrayList<>();
+	/**
+	 * Share of the split given to each panel
+	 */
+	private final List<Double> proportions = new ArrayList<>();
+	/**
+	 * Dividers between the panels. Divider i sits between panel i and panel i + 1
+	 */
+	private final List<Divider> dividers = new ArrayList<>();
+
+	/**
+	 * The parent panel of this split panel
+	 */
+	private DockingPanel dockedParent;
+	/**
+	 * The docking instance this panel belongs to
+	 */
+	private final DockingAPI docking;
+	/**
+	 * The window this panel is in
+	 */
+	private final Window window;
+	/**
+	 * The orientation of the split, JSplitPane.HORIZONTAL_SPLIT or JSplitPane.VERTICAL_SPLIT
+	 */
+	private final int orientation;
+	/**
+	 * The anchor this panel belongs to, if any
+	 */
+	private String anchor;
+	/**
+	 * Split pane that is never displayed. The dividers borrow its look and feel divider to paint themselves
+	 */
+	private JSplitPane dividerTemplate;
+
+	/**
+	 * Create a new DockedMultiSplitPanel
+	 *
+	 * @param docking The docking instance
+	 * @param window The window this panel is in. Used to tell the child DockableWrappers what Window they are a part of
+	 * @param anchor The anchor associated with this docking panel
+	 * @param orientation The orientation of the split, JSplitPane.HORIZONTAL_SPLIT or JSplitPane.VERTICAL_SPLIT
+	 */
+	public DockedMultiSplitPanel(DockingAPI docking, Window window, String anchor, int orientation) {
+		this.docking = docking;
+		this.window = window;
+		this.anchor = anchor;
+		this.orientation = orientation;
+
+		dividerTemplate = new JSplitPane(orientation);
+
+		setLayout(new MultiSplitLayout());
+	}
+
+	@Override
+	public void updateUI() {
+		super.updateUI();
+
+		// called by the JPanel constructor before the template exists
+		if (dividerTemplate != null) {
+			SwingUtilities.updateComponentTreeUI(dividerTemplate);
+		}
+	}
+
+	/**
+	 * Get the orientation of this split
+	 *
+	 * @return JSplitPane.HORIZONTAL_SPLIT or JSplitPane.VERTICAL_SPLIT
+	 */
+	public int getOrientation() {
+		return orientation;
+	}
+
+	/**
+	 * Get the share of the split given to each child. The proportions add up to 1
+	 *
+	 * @return Proportion of each child, in the same order as getChildren
+	 */
+	public List<Double> getProportions() {
+		double total = totalProportion();
+
+		List<Double> result = new ArrayList<>();
+
+		for (double proportion : proportions) {
+			result.add(total > 0 ? proportion / total : 1.0 / proportions.size());
+		}
+		return result;
+	}
+
+	/**
+	 * Add a new child to the end of this split
+	 *
+	 * @param panel The panel to add
+	 * @param proportion The share of the split given to the panel, relative to the other children
+	 */
+	public void addChild(DockingPanel panel, double proportion) {
+		insertChild(panels.size(), panel, proportion);
+	}
+
+	private void insertChild(int index, DockingPanel panel, double proportion) {
+		panels.add(index, panel);
+		proportions.add(index, Math.max(0.0, proportion));
+
+		panel.setParent(this);
+		add(panel);
+
+		if (panels.size() > 1) {
+			Divider divider = new Divider();
+			dividers.add(divider);
+			add(divider);
+		}
+
+		revalidate();
+		repaint();
+	}
+
+	@Override
+	public String getAnchor() {
+		return anchor;
+	}
+
+	@Override
+	public void setAnchor(String anchor) {
+		this.anchor = anchor;
+	}
+
+	@Override
+	public void setParent(DockingPanel parent) {
+		this.dockedParent = parent;
+	}
+
+	@Override
+	public void dock(Dockable dockable, DockingRegion region, double dividerProportion) {
+		DockableWrapper wrapper = DockingInternal.get(docking).getWrapper(dockable);
+
+		// docking to the center of a split isn't something we allow
+		if (region == DockingRegion.CENTER) {
+			region = orientation == JSplitPane.HORIZONTAL_SPLIT ? DockingRegion.WEST : DockingRegion.NORTH;
+		}
+
+		wrapper.setWindow(window);
+
+		DockingPanel newPanel;
+
+		if (Settings.alwaysDisplayTabsMode()) {
+			newPanel = new DockedTabbedPanel(docking, wrapper, anchor);
+		}
+		else {
+			newPanel = new DockedSimplePanel(docking, wrapper, anchor);
+		}
+
+		boolean horizontalRegion = region == DockingRegion.EAST || region == DockingRegion.WEST;
+
+		if (horizontalRegion == (orientation == JSplitPane.HORIZONTAL_SPLIT)) {
+			// docking along our axis, the new panel becomes another child and takes its share from the existing children
+			double total = totalProportion();
+
+			for (int i = 0; i < proportions.size(); i++) {
+				double proportion = total > 0 ? proportions.get(i) / total : 1.0 / proportions.size();
+				proportions.set(i, proportion * (1.0 - dividerProportion));
+			}
+
+			int index = region == DockingRegion.WEST || region == DockingRegion.NORTH ? 0 : panels.size();
+
+			insertChild(index, newPanel, dividerProportion);
+			return;
+		}
+
+		DockedSplitPanel split = new DockedSplitPanel(docking, window, anchor);
+		dockedParent.replaceChild(this, split);
+
+		if (region == DockingRegion.EAST || region == DockingRegion.SOUTH) {
+			split.setLeft(this);
+			split.setRight(newPanel);
+			dividerProportion = 1.0 - dividerProportion;
+		}
+		else {
+			split.setLeft(newPanel);
+			split.setRight(this);
+		}
+
+		split.setOrientation(horizontalRegion ? JSplitPane.HORIZONTAL_SPLIT : JSplitPane.VERTICAL_SPLIT);
+		split.setDividerLocation(dividerProportion);
+
+		mergeSplits(docking, split);
+	}
+
+	/**
+	 * Dock a new panel next to one of our children. The child shares its space with the new panel, the rest of the
+	 * children keep their size
+	 *
+	 * @param child The child that is being docked to
+	 * @param newPanel The panel to add
+	 * @param region The region of the child to dock to
+	 * @param dividerProportion The share of the child's space to give to the new panel
+	 *
+	 * @return True if the new panel was added, false if the region isn't along the axis of this split
+	 */
+	public boolean dockNextTo(DockingPanel child, DockingPanel newPanel, DockingRegion region, double dividerProportion) {
+		int index = panels.indexOf(child);
+
+		boolean horizontalRegion = region == DockingRegion.EAST || region == DockingRegion.WEST;
+
+		if (index == -1 || region == DockingRegion.CENTER || horizontalRegion != isHorizontal()) {
+			return false;
+		}
+
+		double share = proportions.get(index);
+		proportions.set(index, share * (1.0 - dividerProportion));
+
+		if (region == DockingRegion.EAST || region == DockingRegion.SOUTH) {
+			index++;
+		}
+
+		insertChild(index, newPanel, share * dividerProportion);
+		return true;
+	}
+
+	@Override
+	public void undock(Dockable dockable) {
+	}
+
+	@Override
+	public void replaceChild(DockingPanel child, DockingPanel newChild) {
+		int index = panels.indexOf(child);
+
+		if (index == -1) {
+			return;
+		}
+
+		remove(child);
+
+		panels.set(index, newChild);
+		newChild.setParent(this);
+		add(newChild);
+
+		revalidate();
+		repaint();
+	}
+
+	@Override
+	public void removeChild(DockingPanel child) {
+		// safety against partially configured layout restorations
+		if (dockedParent == null) {
+			return;
+		}
+
+		int index = panels.indexOf(child);
+
+		if (index == -1) {
+			return;
+		}
+
+		panels.remove(index);
+		proportions.remove(index);
+		remove(child);
+
+		if (!dividers.isEmpty()) {
+			remove(dividers.remove(dividers.size() - 1));
+		}
+
+		if (panels.size() == 1) {
+			DockingPanel remaining = panels.get(0);
+
+			dockedParent.replaceChild(this, remaining);
+
+			mergeSplits(docking, remaining);
+		}
+		else {
+			revalidate();
+			repaint();
+		}
+	}
+
+	@Override
+	public List<DockingPanel> getChildren() {
+		return Collections.unmodifiableList(panels);
+	}
+
+	/**
+	 * Merge the chain of splits along the same axis that a panel is part of into a single multi split. Called after live
+	 * docking or undocking nests one split in another, so that live layouts are as flat as restored layouts. A chain of
+	 * only two panels is left as a DockedSplitPanel
+	 *
+	 * @param docking The docking instance
+	 * @param panel The panel that was just docked or moved. Nothing is done if it isn't a split
+	 */
+	public static void mergeSplits(DockingAPI docking, DockingPanel panel) {
+		int orientation = orientationOf(panel);
+
+		if (orientation == -1) {
+			return;
+		}
+
+		DockingPanel top = panel;
+
+		while (orientationOf(dockedParentOf(top)) == orientation) {
+			top = dockedParentOf(top);
+		}
+
+		DockingPanel parent = dockedParentOf(top);
+
+		// safety against partially configured layout restorations
+		if (parent == null) {
+			return;
+		}
+
+		List<DockingPanel> children = new ArrayList<>();
+		List<Double> proportions = new ArrayList<>();
+
+		flattenSplit(top, orientation, 1.0, children, proportions);
+
+		if (children.size() <= 2 || children.equals(top.getChildren())) {
+			return;
+		}
+
+		DockedMultiSplitPanel multiSplit = new DockedMultiSplitPanel(docking, windowOf(top), top.getAnchor(), orientation);
+
+		for (int i = 0; i < children.size(); i++) {
+			multiSplit.addChild(children.get(i), proportions.get(i));
+		}
+
+		parent.replaceChild(top, multiSplit);
+	}
+
+	/**
+	 * Collect the children of nested split panels that split along the same axis, along with the share of the
+	 * outermost split that each child receives
+	 */
+	private static void flattenSplit(DockingPanel panel, int orientation, double share, List<DockingPanel> children, List<Double> proportions) {
+		if (panel instanceof DockedSplitPanel && orientationOf(panel) == orientation) {
+			DockedSplitPanel split = (DockedSplitPanel) panel;
+			double dividerProportion = split.getDividerProportion();
+
+			flattenSplit(split.getLeft(), orientation, share * dividerProportion, children, proportions);
+			flattenSplit(split.getRight(), orientation, share * (1.0 - dividerProportion), children, proportions);
+		}
+		else if (panel instanceof DockedMultiSplitPanel && orientationOf(panel) == orientation) {
+			DockedMultiSplitPanel split = (DockedMultiSplitPanel) panel;
+			List<Double> splitProportions = split.getProportions();
+
+			for (int i = 0; i < split.panels.size(); i++) {
+				flattenSplit(split.panels.get(i), orientation, share * splitProportions.get(i), children, proportions);
+			}
+		}
+		else {
+			children.add(panel);
+			proportions.add(share);
+		}
+	}
+
+	// the orientation of a split panel, or -1 if the panel isn't a split
+	private static int orientationOf(DockingPanel panel) {
+		if (panel instanceof DockedSplitPanel) {
+			return ((DockedSplitPanel) panel).getSplitPane().getOrientation();
+		}
+		if (panel instanceof DockedMultiSplitPanel) {
+			return ((DockedMultiSplitPanel) panel).orientation;
+		}
+		return -1;
+	}
+
+	private static DockingPanel dockedParentOf(DockingPanel panel) {
+		if (panel instanceof DockedSplitPanel) {
+			return ((DockedSplitPanel) panel).getDockedParent();
+		}
+		if (panel instanceof DockedMultiSplitPanel) {
+			return ((DockedMultiSplitPanel) panel).dockedParent;
+		}
+		return null;
+	}
+
+	private static Window windowOf(DockingPanel panel) {
+		if (panel instanceof DockedSplitPanel) {
+			return ((DockedSplitPanel) panel).getWindow();
+		}
+		return ((DockedMultiSplitPanel) panel).window;
+	}
+
+	private double totalProportion() {
+		double total = 0;
+
+		for (double proportion : proportions) {
+			total += proportion;
+		}
+		return total;
+	}
+
+	private boolean isHorizontal() {
+		return orientation == JSplitPane.HORIZONTAL_SPLIT;
+	}
+
+	private int dividerSize() {
+		int size = UIManager.getInt("SplitPane.dividerSize");
+
+		return size > 0 ? size : 5;
+	}
+
+	private int start(Component component) {
+		return isHorizontal() ? component.getX() : component.getY();
+	}
+
+	private int length(Component component) {
+		return isHorizontal() ? component.getWidth() : component.getHeight();
+	}
+
+	private int minimumLength(Component component) {
+		return isHorizontal() ? component.getMinimumSize().width : component.getMinimumSize().height;
+	}
+
+	// move the divider between panel index and panel index + 1, only those two panels change size
+	private void moveDivider(int index, int location) {
+		DockingPanel first = panels.get(index);
+		DockingPanel second = panels.get(index + 1);
+
+		int start = start(first);
+		int available = start(second) + length(second) - start - dividerSize();
+
+		if (available <= 0) {
+			return;
+		}
+
+		int firstLength = Math.min(location - start, available - minimumLength(second));
+		firstLength = Math.max(firstLength, minimumLength(first));
+		firstLength = Math.max(0, Math.min(firstLength, available));
+
+		double share = proportions.get(index) + proportions.get(index + 1);
+
+		proportions.set(index, share * firstLength / available);
+		proportions.set(index + 1, share - proportions.get(index));
+
+		revalidate();
+		repaint();
+	}
+
+	// give the two panels around a divider an equal share of their space
+	private void resetDivider(int index) {
+		double share = (proportions.get(index) + proportions.get(index + 1)) / 2.0;
+
+		proportions.set(index, share);
+		proportions.set(index + 1, share);
+
+		revalidate();
+		repaint();
+
+		docking.getAppState().persist();
+	}
+
+	/**
+	 * Draggable divider between two panels of the split
+	 */
+	private class Divider extends JComponent {
+		private static final long serialVersionUID = 1L;
+
+		private int dragOffset = 0;
+
+		Divider() {
+			setCursor(Cursor.getPredefinedCursor(isHorizontal() ? Cursor.E_RESIZE_CURSOR : Cursor.N_RESIZE_CURSOR));
+
+			MouseAdapter adapter = new MouseAdapter() {
+				@Override
+				public void mousePressed(MouseEvent e) {
+					dragOffset = isHorizontal() ? e.getX() : e.getY();
+				}
+
+				@Override
+				public void mouseDragged(MouseEvent e) {
+					Point point = SwingUtilities.convertPoint(Divider.this, e.getPoint(), DockedMultiSplitPanel.this);
+
+					moveDivider(dividers.indexOf(Divider.this), (isHorizontal() ? point.x : point.y) - dragOffset);
+				}
+
+				@Override
+				public void mouseReleased(MouseEvent e) {
+					docking.getAppState().persist();
+				}
+
+				@Override
+				public void mouseClicked(MouseEvent e) {
+					if (e.getClickCount() >= 2) {
+						resetDivider(dividers.indexOf(Divider.this));
+					}
+				}
+			};
+
+			addMouseListener(adapter);
+			addMouseMotionListener(adapter);
+		}
+
+		@Override
+		protected void paintComponent(Graphics g) {
+			// paint the background that a JSplitPane would show behind its divider
+			g.setColor(dividerTemplate.getBackground());
+			g.fillRect(0, 0, getWidth(), getHeight());
+
+			if (dividerTemplate.getUI() instanceof BasicSplitPaneUI) {
+				BasicSplitPaneDivider divider = ((BasicSplitPaneUI) dividerTemplate.getUI()).getDivider();
+
+				if (divider != null) {
+					divider.setBounds(0, 0, getWidth(), getHeight());
+
+					Graphics dividerGraphics = g.create();
+					dividerGraphics.clipRect(0, 0, getWidth(), getHeight());
+					try {
+						divider.paint(dividerGraphics);
+					}
+					finally {
+						dividerGraphics.dispose();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Lays the panels out along the split axis based on their proportions, with a divider between each panel
+	 */
+	private class MultiSplitLayout implements LayoutManager {
+		@Override
+		public void addLayoutComponent(String name, Component comp) {
+		}
+
+		@Override
+		public void removeLayoutComponent(Component comp) {
+		}
+
+		@Override
+		public Dimension preferredLayoutSize(Container parent) {
+			return layoutSize(parent, true);
+		}
+
+		@Override
+		public Dimension minimumLayoutSize(Container parent) {
+			return layoutSize(parent, false);
+		}
+
+		private Dimension layoutSize(Container parent, boolean preferred) {
+			int length = dividerSize() * dividers.size();
+			int breadth = 0;
+
+			for (DockingPanel panel : panels) {
+				Dimension size = preferred ? panel.getPreferredSize() : panel.getMinimumSize();
+
+				length += isHorizontal() ? size.width : size.height;
+				breadth = Math.max(breadth, isHorizontal() ? size.height : size.width);
+			}
+
+			Insets insets = parent.getInsets();
+
+			if (isHorizontal()) {
+				return new Dimension(length + insets.left + insets.right, breadth + insets.top + insets.bottom);
+			}
+			return new Dimension(breadth + insets.left + insets.right, length + insets.top + insets.bottom);
+		}
+
+		@Override
+		public void layoutContainer(Container parent) {
+			Insets insets = parent.getInsets();
+			int width = parent.getWidth() - insets.left - insets.right;
+			int height = parent.getHeight() - insets.top - insets.bottom;
+			int dividerSize = dividerSize();
+
+			int available = Math.max(0, (isHorizontal() ? width : height) - dividerSize * dividers.size());
+			double total = totalProportion();
+
+			double cumulative = 0;
+			int position = 0;
+
+			for (int i = 0; i < panels.size(); i++) {
+				cumulative += total > 0 ? proportions.get(i) / total : 1.0 / panels.size();
+
+				// place each edge from the running total so that rounding errors don't add up along the split
+				int end = i == panels.size() - 1 ? available : (int) Math.round(available * cumulative);
+				int length = Math.max(0, end - position);
+				int offset = position + (dividerSize * i);
+
+				setBounds(panels.get(i), insets, offset, length, width, height);
+
+				if (i < dividers.size()) {
+					setBounds(dividers.get(i), insets, offset + length, dividerSize, width, height);
+				}
+				position += length;
+			}
+		}
+
+		private void setBounds(Component component, Insets insets, int offset, int length, int width, int height) {
+			if (isHorizontal()) {
+				component.setBounds(insets.left + offset, insets.top, length, height);
+			}
+			else {
+				component.setBounds(insets.left, insets.top + offset, width, length);
+			}
+		}
+	}
+}
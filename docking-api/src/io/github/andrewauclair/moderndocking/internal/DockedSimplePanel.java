@@ -26,12 +26,9 @@ import io.github.andrewauclair.moderndocking.DockingRegion;
 import io.github.andrewauclair.moderndocking.api.DockingAPI;
 import io.github.andrewauclair.moderndocking.settings.Settings;
 import java.awt.BorderLayout;
-import java.awt.Color;
 import java.util.Collections;
 import java.util.List;
-import javax.swing.BorderFactory;
 import javax.swing.JSplitPane;
-import javax.swing.UIManager;
 
 /**
  * simple docking panel that only has a single Dockable in the center
@@ -97,7 +94,7 @@ public class DockedSimplePanel extends DockingPanel {
         setLayout(new BorderLayout());
 
 		if (addHighlightBorder) {
-			setNotSelectedBorder();
+			ActiveDockableHighlighter.setNotSelectedBorder(this);
 		}
 
 		dockable.setParent(this);
@@ -152,9 +149,6 @@ public class DockedSimplePanel extends DockingPanel {
 			dockedParent.replaceChild(this, tabbedPanel);
 		}
 		else {
-			DockedSplitPanel split = new DockedSplitPanel(docking, this.dockable.getWindow(), anchor);
-			dockedParent.replaceChild(this, split);
-
 			DockingPanel newPanel;
 
 			if (wrapper.isAnchor()) {
@@ -167,6 +161,15 @@ public class DockedSimplePanel extends DockingPanel {
 				newPanel = new DockedSimplePanel(docking, wrapper, anchor);
 			}
 
+			// docking along the axis of a multi split, the new panel becomes another child of it instead of nesting a split
+			if (dockedParent instanceof DockedMultiSplitPanel &&
+					((DockedMultiSplitPanel) dockedParent).dockNextTo(this, newPanel, region, dividerProportion)) {
+				return;
+			}
+
+			DockedSplitPanel split = new DockedSplitPanel(docking, this.dockable.getWindow(), anchor);
+			dockedParent.replaceChild(this, split);
+
 			if (region == DockingRegion.EAST || region == DockingRegion.SOUTH) {
 				split.setLeft(this);
 				split.setRight(newPanel);
@@ -185,6 +188,8 @@ public class DockedSimplePanel extends DockingPanel {
 			}
 
 			split.setDividerLocation(dividerProportion);
+
+			DockedMultiSplitPanel.mergeSplits(docking, split);
 		}
 
 		revalidate();
@@ -232,18 +237,12 @@ public class DockedSimplePanel extends DockingPanel {
 	}
 
 	@Override
-	public boolean isInAutoHideToolbar() {
-		return !addHighlightBorder;
+	public List<DockableWrapper> getDockables() {
+		return Collections.singletonList(dockable);
 	}
 
-	private void setNotSelectedBorder() {
-		Color color = UIManager.getColor("Component.borderColor");
-
-		setBorder(
-				BorderFactory.createCompoundBorder(
-						BorderFactory.createEmptyBorder(1, 1, 1, 1),
-						BorderFactory.createLineBorder(color, 1)
-				)
-		);
+	@Override
+	public boolean isInAutoHideToolbar() {
+		return !addHighlightBorder;
 	}
 }
@@ -208,6 +208,40 @@ public class DockedSplitPanel extends DockingPanel implements MouseListener, Pro
 		}
 	}
 
+	/**
+	 * Get the current share of the split given to the left/top panel. The last requested proportion is used until the
+	 * split has a size
+	 *
+	 * @return Divider proportion
+	 */
+	public double getDividerProportion() {
+		int length = splitPane.getOrientation() == JSplitPane.HORIZONTAL_SPLIT ? splitPane.getWidth() : splitPane.getHeight();
+		length -= splitPane.getDividerSize();
+
+		if (length <= 0) {
+			return lastRequestedDividerProportion;
+		}
+		return Math.max(0.0, Math.min(1.0, splitPane.getDividerLocation() / (double) length));
+	}
+
+	/**
+	 * Get the parent panel of this split
+	 *
+	 * @return Parent panel, null until the split is docked
+	 */
+	DockingPanel getDockedParent() {
+		return dockedParent;
+	}
+
+	/**
+	 * Get the window this split is in
+	 *
+	 * @return The window of this split
+	 */
+	Window getWindow() {
+		return window;
+	}
+
 	/**
 	 * Access to the underlying JSplitPane. This is required so that we can pull a bunch of values for saving layouts.
 	 *
@@ -317,9 +351,6 @@ public class DockedSplitPanel extends DockingPanel implements MouseListener, Pro
 
 		wrapper.setWindow(window);
 
-		DockedSplitPanel split = new DockedSplitPanel(docking, window, anchor);
-		dockedParent.replaceChild(this, split);
-
 		DockingPanel newPanel;
 
 		if (Settings.alwaysDisplayTabsMode()) {
@@ -329,6 +360,15 @@ public class DockedSplitPanel extends DockingPanel implements MouseListener, Pro
 			newPanel = new DockedSimplePanel(docking, wrapper, anchor);
 		}
 
+		// docking along the axis of a multi split, the new panel becomes another child of it instead of nesting a split
+		if (dockedParent instanceof DockedMultiSplitPanel &&
+				((DockedMultiSplitPanel) dockedParent).dockNextTo(this, newPanel, region, dividerProportion)) {
+			return;
+		}
+
+		DockedSplitPanel split = new DockedSplitPanel(docking, window, anchor);
+		dockedParent.replaceChild(this, split);
+
 		if (region == DockingRegion.EAST || region == DockingRegion.SOUTH) {
 			split.setLeft(this);
 			split.setRight(newPanel);
@@ -347,6 +387,8 @@ public class DockedSplitPanel extends DockingPanel implements MouseListener, Pro
 		}
 
 		split.setDividerLocation(dividerProportion);
+
+		DockedMultiSplitPanel.mergeSplits(docking, split);
 	}
 
 	@Override
@@ -372,9 +414,13 @@ public class DockedSplitPanel extends DockingPanel implements MouseListener, Pro
 
 		if (left == child) {
 			dockedParent.replaceChild(this, right);
+
+			DockedMultiSplitPanel.mergeSplits(docking, right);
 		}
 		else if (right == child) {
 			dockedParent.replaceChild(this, left);
+
+			DockedMultiSplitPanel.mergeSplits(docking, left);
 		}
 	}
 
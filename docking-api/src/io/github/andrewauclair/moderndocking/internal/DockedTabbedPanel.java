@@ -28,6 +28,7 @@ import io.github.andrewauclair.moderndocking.api.DockingAPI;
 import io.github.andrewauclair.moderndocking.internal.floating.DockedTabbedPanelFloatListener;
 import io.github.andrewauclair.moderndocking.internal.floating.FloatListener;
 import io.github.andrewauclair.moderndocking.internal.floating.Floating;
+import io.github.andrewauclair.moderndocking.internal.util.DockingIcons;
 import io.github.andrewauclair.moderndocking.settings.Settings;
 import io.github.andrewauclair.moderndocking.ui.DockingSettings;
 import java.awt.BorderLayout;
@@ -37,25 +38,23 @@ import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Point;
 import java.awt.Rectangle;
-import java.awt.dnd.DragGestureListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.function.IntConsumer;
 import javax.swing.BorderFactory;
 import javax.swing.Icon;
-import javax.swing.ImageIcon;
 import javax.swing.JButton;
+import javax.swing.JComponent;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JSplitPane;
 import javax.swing.JTabbedPane;
 import javax.swing.SwingConstants;
-import javax.swing.SwingUtilities;
-import javax.swing.UIManager;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 
@@ -68,16 +67,33 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 	 */
 	private final List<DockableWrapper> panels = new ArrayList<>();
 
+	/**
+	 * Tab index of each dockable in this tabbed panel
+	 */
+	private final Map<Dockable, Integer> tabIndices = new IdentityHashMap<>();
+
+	/**
+	 * Only the component of the selected tab is attached to the tabbed pane when true
+	 */
+	private final boolean virtualTabs = Settings.isVirtualTabsEnabled();
+
+	/**
+	 * The tab index whose component is attached when using virtual tabs
+	 */
+	private int attachedIndex = -1;
+
+	/**
+	 * Empty components that stand in for the display panels of the tabs that aren't selected when using virtual tabs.
+	 * They carry the client properties of the tab, such as JTabbedPane.tabClosable
+	 */
+	private final List<JComponent> placeholders = new ArrayList<>();
+
 	private int previousSelectedIndex = -1;
 
 	/**
 	 * The listener using this tabbed panel
 	 */
 	private FloatListener floatListener;
-	/**
-	 * All the drag listeners tied to this tabbed panel
-	 */
-	private List<DragGestureListener> listeners = new ArrayList<>();
 
 	/**
 	 * The JTabbedPane to display
@@ -98,7 +114,7 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 	 */
 	private DockingPanel dockedParent;
 
-	private static Icon settingsIcon = new ImageIcon(Objects.requireNonNull(DockedTabbedPanel.class.getResource("/api_icons/settings.png")));
+	private static Icon settingsIcon = DockingIcons.settings();
 
 	/**
 	 * Create a new instance of DockedTabbedPanel
@@ -113,7 +129,7 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 		setLayout(new BorderLayout());
 
 		// set the initial border. Docking handles the border after this using a global AWT listener
-		setNotSelectedBorder();
+		ActiveDockableHighlighter.setNotSelectedBorder(this);
 
 		// we only support tabs on top if we have FlatLaf because we can add a trailing component for our menu
 		boolean usingFlatLaf = tabs.getUI().getClass().getPackageName().startsWith("com.formdev.flatlaf");
@@ -133,6 +149,10 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 
 		add(tabs, BorderLayout.CENTER);
 
+		if (virtualTabs) {
+			tabs.addChangeListener(e -> attachSelectedComponent());
+		}
+
 		addPanel(dockable);
 	}
 
@@ -212,6 +232,8 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 	public void removeNotify() {
 		tabs.removeChangeListener(this);
 
+		// the tab group and its tabs share a single drag gesture. stop recognizing it, a new listener is created in addNotify
+		floatListener.removeDragGesture();
 		floatListener = null;
 
 		super.removeNotify();
@@ -223,26 +245,30 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 	 * @param dockable The dockable to add
 	 */
 	public void addPanel(DockableWrapper dockable) {
-		panels.add(dockable);
-		tabs.add(dockable.getDockable().getTabText(), dockable.getDisplayPanel());
-
-		DragGestureListener draggingFromTabPanel = dge -> {
-			Point dragOrigin = new Point(dge.getDragOrigin());
-			SwingUtilities.convertPointToScreen(dragOrigin, dge.getComponent());
+		insertPanel(dockable, panels.size());
+	}
 
-			int targetTabIndex = tabs.getTargetTabIndex(dragOrigin, true);
+	private void insertPanel(DockableWrapper dockable, int index) {
+		panels.add(index, dockable);
+		updateTabIndices(index);
 
-			if (targetTabIndex != -1) {
-				DockableWrapper dockableWrapper = panels.get(targetTabIndex);
+		// tabs after the insertion point move to the right one index
+		if (index <= previousSelectedIndex) {
+			previousSelectedIndex++;
+		}
+		if (index <= attachedIndex) {
+			attachedIndex++;
+		}
 
-				if (dockableWrapper == dockable) {
-					dockableWrapper.getFloatListener().startDrag(dge);
-				}
-			}
-		};
-		listeners.add(draggingFromTabPanel);
+		// drags from the tabs are handled by the float listener of this tabbed panel, which passes them to the dockable
+		Component component = dockable.getDisplayPanel();
 
-		dockable.getFloatListener().addAlternateDragSource(tabs, draggingFromTabPanel);
+		if (virtualTabs) {
+			JComponent placeholder = new JComponent() {};
+			placeholders.add(index, placeholder);
+			component = placeholder;
+		}
+		tabs.insertTab(dockable.getDockable().getTabText(), dockable.getDockable().getIcon(), component, dockable.getDockable().getTabTooltip(), index);
 
 		DockableTabPreference tabPreference = Settings.defaultTabPreference();
 
@@ -267,14 +293,16 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 //			tabs.setTabPlacement(SwingConstants.TOP);
 //		}
 
-		tabs.setToolTipTextAt(tabs.getTabCount() - 1, dockable.getDockable().getTabTooltip());
-		tabs.setIconAt(tabs.getTabCount() - 1, dockable.getDockable().getIcon());
-		tabs.setSelectedIndex(tabs.getTabCount() - 1);
-
 		if (Settings.alwaysDisplayTabsMode() && dockable.getDockable().isClosable()) {
 			dockable.getDisplayPanel().putClientProperty("JTabbedPane.tabClosable", true);
+
+			if (virtualTabs) {
+				placeholders.get(index).putClientProperty("JTabbedPane.tabClosable", true);
+			}
 		}
 
+		tabs.setSelectedIndex(index);
+
 		dockable.setParent(this);
 		dockable.setAnchor(anchor);
 	}
@@ -285,11 +313,10 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 	 * @param dockable The dockable to remove
 	 */
 	public void removePanel(DockableWrapper dockable) {
-		if (panels.contains(dockable)) {
-			int index = panels.indexOf(dockable);
+		Integer tabIndex = tabIndices.get(dockable.getDockable());
 
-			dockable.getFloatListener().removeAlternateDragSource(listeners.get(index));
-			listeners.remove(index);
+		if (tabIndex != null && panels.get(tabIndex) == dockable) {
+			int index = tabIndex;
 
 			// adjust our previously selected tab value based on the index we're about to remove
 			if (index < previousSelectedIndex) {
@@ -299,8 +326,22 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 				previousSelectedIndex = -1;
 			}
 
-			panels.remove(dockable);
-			tabs.remove(dockable.getDisplayPanel());
+			if (index < attachedIndex) {
+				attachedIndex--;
+			}
+			else if (index == attachedIndex) {
+				attachedIndex = -1;
+			}
+
+			if (virtualTabs) {
+				placeholders.remove(index);
+			}
+
+			panels.remove(index);
+			tabIndices.remove(dockable.getDockable());
+			updateTabIndices(index);
+
+			tabs.removeTabAt(index);
 
 			dockable.setParent(null);
 			dockable.setHidden(false);
@@ -312,6 +353,7 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 	 *
 	 * @return List of persistent IDs of dockable tabs
 	 */
+	@Override
 	public List<DockableWrapper> getDockables() {
 		return Collections.unmodifiableList(panels);
 	}
@@ -340,9 +382,6 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 			addPanel(wrapper);
 		}
 		else {
-			DockedSplitPanel split = new DockedSplitPanel(docking, panels.get(0).getWindow(), anchor);
-			dockedParent.replaceChild(this, split);
-
 			DockingPanel newPanel;
 
 			if (wrapper.isAnchor()) {
@@ -355,6 +394,15 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 				newPanel = new DockedSimplePanel(docking, wrapper, anchor);
 			}
 
+			// docking along the axis of a multi split, the new panel becomes another child of it instead of nesting a split
+			if (dockedParent instanceof DockedMultiSplitPanel &&
+					((DockedMultiSplitPanel) dockedParent).dockNextTo(this, newPanel, region, dividerProportion)) {
+				return;
+			}
+
+			DockedSplitPanel split = new DockedSplitPanel(docking, panels.get(0).getWindow(), anchor);
+			dockedParent.replaceChild(this, split);
+
 			if (region == DockingRegion.EAST || region == DockingRegion.SOUTH) {
 				split.setLeft(this);
 				split.setRight(newPanel);
@@ -373,6 +421,8 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 			}
 
 			split.setDividerLocation(dividerProportion);
+
+			DockedMultiSplitPanel.mergeSplits(docking, split);
 		}
 
 		revalidate();
@@ -389,19 +439,37 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 		DockableWrapper wrapper = DockingInternal.get(docking).getWrapper(dockable);
 		wrapper.setWindow(panels.get(0).getWindow());
 
-		addPanel(DockingInternal.get(docking).getWrapper(dockable));
+		if (index == -1 || index > panels.size()) {
+			addPanel(wrapper);
+		}
+		else {
+			insertPanel(wrapper, index);
+		}
+	}
 
-		if (index != -1) {
-			int lastIndex = tabs.getTabCount() - 1;
+	// refresh the tab index of every dockable starting at the given index
+	private void updateTabIndices(int start) {
+		for (int i = start; i < panels.size(); i++) {
+			tabIndices.put(panels.get(i).getDockable(), i);
+		}
+	}
 
-			for (int i = index; i < lastIndex; i++) {
-				DockableWrapper panel = panels.get(index);
+	// with virtual tabs, swap the component of the previously selected tab for the newly selected tab
+	private void attachSelectedComponent() {
+		int selectedIndex = tabs.getSelectedIndex();
 
-				removePanel(panel);
-				addPanel(panel);
-			}
+		if (selectedIndex == attachedIndex || selectedIndex >= panels.size()) {
+			return;
+		}
 
-			tabs.setSelectedIndex(index);
+		if (attachedIndex != -1) {
+			tabs.setComponentAt(attachedIndex, placeholders.get(attachedIndex));
+		}
+
+		attachedIndex = selectedIndex;
+
+		if (selectedIndex != -1) {
+			tabs.setComponentAt(selectedIndex, panels.get(selectedIndex).getDisplayPanel());
 		}
 	}
 
@@ -451,40 +519,31 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 		return Collections.emptyList();
 	}
 
-	private void setNotSelectedBorder() {
-		Color color = UIManager.getColor("Component.borderColor");
-
-		setBorder(
-				BorderFactory.createCompoundBorder(
-						BorderFactory.createEmptyBorder(1, 1, 1, 1),
-						BorderFactory.createLineBorder(color, 1)
-				)
-		);
-	}
-
 	/**
 	 * Set the specified dockable as the selected tab in the tab pane
 	 *
 	 * @param dockable Dockable to bring to front
 	 */
 	public void bringToFront(Dockable dockable) {
-		for (int i = 0; i < panels.size(); i++) {
-			DockableWrapper panel = panels.get(i);
-
-			if (panel.getDockable() == dockable) {
-				if (tabs.getSelectedIndex() != i) {
-					if (tabs.getSelectedIndex() != -1) {
-						DockableWrapper wrapper = panels.get(tabs.getSelectedIndex());
-						wrapper.setHidden(true);
-						DockingListeners.fireHiddenEvent(wrapper.getDockable());
-					}
-					DockableWrapper wrapper = panels.get(i);
-					wrapper.setHidden(false);
-					DockingListeners.fireShownEvent(wrapper.getDockable());
-				}
-				tabs.setSelectedIndex(i);
+		Integer index = tabIndices.get(dockable);
+
+		if (index == null) {
+			return;
+		}
+
+		int i = index;
+
+		if (tabs.getSelectedIndex() != i) {
+			if (tabs.getSelectedIndex() != -1) {
+				DockableWrapper wrapper = panels.get(tabs.getSelectedIndex());
+				wrapper.setHidden(true);
+				DockingListeners.fireHiddenEvent(wrapper.getDockable());
 			}
+			DockableWrapper wrapper = panels.get(i);
+			wrapper.setHidden(false);
+			DockingListeners.fireShownEvent(wrapper.getDockable());
 		}
+		tabs.setSelectedIndex(i);
 	}
 
 	/**
@@ -551,31 +610,29 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 	 * @return The tab component or null
 	 */
 	public Component getTabForDockable(DockableWrapper wrapper) {
-		for (int i = 0; i < panels.size(); i++) {
-			DockableWrapper panel = panels.get(i);
+		Integer index = tabIndices.get(wrapper.getDockable());
 
-			if (panel.getDockable() == wrapper.getDockable()) {
-				return tabs.getTabComponentAt(i);
-			}
+		if (index == null) {
+			return null;
 		}
-		return null;
+		return tabs.getTabComponentAt(index);
 	}
 
 	public void updateTabInfo(Dockable dockable) {
-		for (int i = 0; i < panels.size(); i++) {
-			DockableWrapper panel = panels.get(i);
+		Integer index = tabIndices.get(dockable);
+
+		if (index == null) {
+			return;
+		}
 
-			if (panel.getDockable() == dockable) {
-				tabs.setTitleAt(i, dockable.getTabText());
-				tabs.setToolTipTextAt(i, dockable.getTabTooltip());
+		tabs.setTitleAt(index, dockable.getTabText());
+		tabs.setToolTipTextAt(index, dockable.getTabTooltip());
 
-				Component tabComponent = tabs.getTabComponentAt(i);
+		Component tabComponent = tabs.getTabComponentAt(index);
 
-				if (tabComponent instanceof JLabel) {
-					((JLabel) tabComponent).setText(dockable.getTabText());
-					((JLabel) tabComponent).setToolTipText(dockable.getTabTooltip());
-				}
-			}
+		if (tabComponent instanceof JLabel) {
+			((JLabel) tabComponent).setText(dockable.getTabText());
+			((JLabel) tabComponent).setToolTipText(dockable.getTabTooltip());
 		}
 	}
 
@@ -590,12 +647,12 @@ public class DockedTabbedPanel extends DockingPanel implements ChangeListener {
 	 * @return The index of the panel or -1 if not found
 	 */
 	public int getIndexOfPanel(DisplayPanel displayPanel) {
-		for (int i = 0; i < panels.size(); i++) {
-			if (panels.get(i).getDisplayPanel() == displayPanel) {
-				return i;
-			}
+		Integer index = tabIndices.get(displayPanel.getWrapper().getDockable());
+
+		if (index == null || panels.get(index).getDisplayPanel() != displayPanel) {
+			return -1;
 		}
-		return -1;
+		return index;
 	}
 
 	/**
@@ -0,0 +1,141 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal;
+
+import io.github.andrewauclair.moderndocking.event.DockingEvent;
+import java.awt.Component;
+import java.awt.Window;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.swing.SwingUtilities;
+
+/**
+ * A batch of docking operations for one docking instance, see DockingAPI.batch.
+ * <p>
+ * While the outermost batch is running, docking events are held back and docking panels don't revalidate or repaint
+ * themselves. When it ends, every window with a changed docking panel is laid out and painted once, then the held
+ * back events are fired in order. Batches only run on the EDT, so only one outermost batch can be running at a time,
+ * even with several docking instances.
+ */
+public class DockingBatch {
+	// the outermost batch that is running, if any
+	private static DockingBatch running = null;
+
+	private int depth = 0;
+
+	private final List<DockingEvent> heldEvents = new ArrayList<>();
+	private final Set<Component> changedPanels = new LinkedHashSet<>();
+
+	/**
+	 * Create a new batch for a docking instance. Nothing to initialize
+	 */
+	public DockingBatch() {
+	}
+
+	/**
+	 * Check if this batch has been started and not yet ended
+	 *
+	 * @return True if the batch is active
+	 */
+	public boolean isActive() {
+		return depth > 0;
+	}
+
+	/**
+	 * Start the batch. Batches can be nested, the batch is only applied when the outermost call to end is made
+	 */
+	public void begin() {
+		depth++;
+
+		if (running == null) {
+			running = this;
+		}
+	}
+
+	/**
+	 * End the batch. Applies the deferred layout and fires the held back events if this is the outermost batch
+	 */
+	public void end() {
+		if (depth == 0) {
+			return;
+		}
+
+		depth--;
+
+		if (depth > 0 || running != this) {
+			return;
+		}
+		running = null;
+
+		// lay out before firing the events so that listeners see the final layout
+		Set<Window> windows = new LinkedHashSet<>();
+
+		for (Component panel : changedPanels) {
+			Window window = SwingUtilities.getWindowAncestor(panel);
+
+			if (window != null) {
+				windows.add(window);
+			}
+		}
+		changedPanels.clear();
+
+		for (Window window : windows) {
+			window.validate();
+			window.repaint();
+		}
+
+		List<DockingEvent> events = new ArrayList<>(heldEvents);
+		heldEvents.clear();
+
+		events.forEach(DockingListeners::notifyListeners);
+	}
+
+	/**
+	 * Hold back a docking event if a batch is running
+	 *
+	 * @param e The docking event
+	 * @return True if the event was held back and should not be fired now
+	 */
+	static boolean holdEvent(DockingEvent e) {
+		if (running == null) {
+			return false;
+		}
+		running.heldEvents.add(e);
+		return true;
+	}
+
+	/**
+	 * Defer the layout and painting of a docking panel if a batch is running
+	 *
+	 * @param panel The docking panel that changed
+	 * @return True if the layout was deferred and the panel should not revalidate or repaint now
+	 */
+	static boolean deferLayout(Component panel) {
+		if (running == null) {
+			return false;
+		}
+		running.changedPanels.add(panel);
+		return true;
+	}
+}
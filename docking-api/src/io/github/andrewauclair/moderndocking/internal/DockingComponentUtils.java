@@ -26,10 +26,10 @@ import io.github.andrewauclair.moderndocking.api.DockingAPI;
 import io.github.andrewauclair.moderndocking.api.RootDockingPanelAPI;
 import io.github.andrewauclair.moderndocking.exception.RootDockingPanelNotFoundException;
 import java.awt.Component;
-import java.awt.Container;
 import java.awt.Point;
-import java.awt.Rectangle;
 import java.awt.Window;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import javax.swing.JDialog;
 import javax.swing.SwingUtilities;
@@ -44,43 +44,56 @@ public class DockingComponentUtils {
 	private DockingComponentUtils() {
 	}
 
-	//
-	//
 	/**
 	 * used to clear all anchors before we undock components. This is done to prevent the anchor from being readded
 	 *
-	 * @param container Container to undock all components from
+	 * @param panel Docking panel to clear the anchors of, along with all of its children
 	 */
-	public static void clearAnchors(Container container) {
-		for (Component component : container.getComponents()) {
-			if (component instanceof DockedSimplePanel) {
-				((DockedSimplePanel) component).setAnchor("");
-			}
-			else if (component instanceof DockedSplitPanel) {
-				((DockedSplitPanel) component).setAnchor("");
-			}
-			else if (component instanceof DockedTabbedPanel) {
-				((DockedTabbedPanel) component).setAnchor("");
-			}
-			else if (component instanceof Container) {
-				clearAnchors((Container) component);
-			}
+	public static void clearAnchors(DockingPanel panel) {
+		if (panel == null) {
+			return;
+		}
+		panel.setAnchor("");
+
+		for (DockingPanel child : panel.getChildren()) {
+			clearAnchors(child);
 		}
 	}
+
 	/**
-	 * used to undock all dockables in a container. called when a frame is to be disposed
+	 * used to undock all dockables in a docking panel. called when a frame is to be disposed
 	 *
 	 * @param docking The docking instance
-	 * @param container Container to undock all components from
+	 * @param panel Docking panel to undock all dockables from
 	 */
-	public static void undockComponents(DockingAPI docking, Container container) {
-		for (Component component : container.getComponents()) {
-			if (component instanceof DisplayPanel) {
-				docking.undock(((DisplayPanel) component).getWrapper().getDockable());
-			}
-			else if (component instanceof Container) {
-				undockComponents(docking, (Container) component);
-			}
+	public static void undockComponents(DockingAPI docking, DockingPanel panel) {
+		// undocking changes the docking tree, collect the dockables before undocking any of them
+		for (DockableWrapper wrapper : findDockables(panel)) {
+			docking.undock(wrapper.getDockable());
+		}
+	}
+
+	/**
+	 * Find all the dockables in a docking panel and its children. Only the docking panels are searched, not the
+	 * components inside the dockables
+	 *
+	 * @param panel The docking panel to search
+	 * @return Dockables found in the order of the docking tree
+	 */
+	public static List<DockableWrapper> findDockables(DockingPanel panel) {
+		List<DockableWrapper> wrappers = new ArrayList<>();
+		findDockables(panel, wrappers);
+		return wrappers;
+	}
+
+	private static void findDockables(DockingPanel panel, List<DockableWrapper> wrappers) {
+		if (panel == null) {
+			return;
+		}
+		wrappers.addAll(panel.getDockables());
+
+		for (DockingPanel child : panel.getChildren()) {
+			findDockables(child, wrappers);
 		}
 	}
 
@@ -92,14 +105,20 @@ public class DockingComponentUtils {
 	 * @return The window at screenPos. null if not found.
 	 */
 	public static Window findRootAtScreenPos(DockingAPI docking, Point screenPos) {
-		for (Window window : docking.getRootPanels().keySet()) {
-			Rectangle bounds = new Rectangle(window.getX(), window.getY(), window.getWidth(), window.getHeight());
+		// called for every drag event. use the cached bounds, which are in stacking order, so overlapping windows resolve to the front most
+		return DockingInternal.get(docking).getWindowBounds().findWindowAt(screenPos);
+	}
 
-			if (bounds.contains(screenPos) && window.isVisible()) {
-				return window;
-			}
-		}
-		return null;
+	/**
+	 * Check if a screen position is within the bounds of a window, without allocating a rectangle
+	 *
+	 * @param window The window to check
+	 * @param screenPos The position on screen
+	 * @return True if the position is within the window bounds
+	 */
+	public static boolean contains(Window window, Point screenPos) {
+		return screenPos.x >= window.getX() && screenPos.x < window.getX() + window.getWidth() &&
+				screenPos.y >= window.getY() && screenPos.y < window.getY() + window.getHeight();
 	}
 
 	/**
@@ -121,8 +140,10 @@ public class DockingComponentUtils {
 	 * @return The root of the given window
 	 */
 	public static InternalRootDockingPanel rootForWindow(DockingAPI docking, Window window) {
-		if (docking.getRootPanels().containsKey(window)) {
-			return DockingInternal.get(docking).getRootPanels().get(window);
+		InternalRootDockingPanel root = DockingInternal.get(docking).getRootPanels().get(window);
+
+		if (root != null) {
+			return root;
 		}
 		throw new RootDockingPanelNotFoundException(window);
 	}
@@ -135,11 +156,7 @@ public class DockingComponentUtils {
 	 * @return The window for the root or null
 	 */
 	public static Window windowForRoot(DockingAPI docking, RootDockingPanelAPI root) {
-		Optional<Window> first = docking.getRootPanels().keySet().stream()
-				.filter(frame -> docking.getRootPanels().get(frame) == root)
-				.findFirst();
-
-		return first.orElse(null);
+		return DockingInternal.get(docking).getWindowForRoot(root);
 	}
 
 	/**
@@ -304,39 +321,22 @@ public class DockingComponentUtils {
 		docking.getAppState().persist();
 	}
 
-	private static boolean shouldUndock(Container container) {
-		for (Component component : container.getComponents()) {
-			if (component instanceof DisplayPanel) {
-				DisplayPanel panel = (DisplayPanel) component;
-
-				// there is at least one dockable that is allowed to float alone, we shouldn't undock
-				if (panel.getWrapper().getDockable().isFloatingAllowed()) {
-					return false;
-				}
-			}
-			else if (component instanceof Container) {
-				if (!shouldUndock((Container) component)) {
-					return false;
-				}
+	private static boolean shouldUndock(DockingPanel panel) {
+		for (DockableWrapper wrapper : findDockables(panel)) {
+			// there is at least one dockable that is allowed to float alone, we shouldn't undock
+			if (wrapper.getDockable().isFloatingAllowed()) {
+				return false;
 			}
 		}
 		return true;
 	}
 
-	private static void undockIllegalFloats(Container container) {
-		for (Component component : container.getComponents()) {
-			if (component instanceof DisplayPanel) {
-				DisplayPanel panel = (DisplayPanel) component;
+	private static void undockIllegalFloats(DockingPanel panel) {
+		for (DockableWrapper wrapper : findDockables(panel)) {
+			Dockable dockable = wrapper.getDockable();
+			wrapper.getParent().undock(dockable);
 
-				DockableWrapper wrapper = panel.getWrapper();
-				Dockable dockable = wrapper.getDockable();
-				wrapper.getParent().undock(dockable);
-
-				DockingListeners.fireUndockedEvent(dockable, false);
-			}
-			else if (component instanceof Container) {
-				undockIllegalFloats((Container) component);
-			}
+			DockingListeners.fireUndockedEvent(dockable, false);
 		}
 	}
 
@@ -350,50 +350,7 @@ public class DockingComponentUtils {
 	 * @return The first Dockable of the given type, if any exist
 	 */
 	public static Optional<Dockable> findFirstDockableOfType(DockingAPI docking, int type) {
-		InternalRootDockingPanel mainRoot = rootForWindow(docking, docking.getMainWindow());
-
-		Optional<Dockable> mainPanelDockable = findDockableOfType(type, mainRoot.getPanel());
-
-		if (mainPanelDockable.isPresent()) {
-			return mainPanelDockable;
-		}
-
-		for (RootDockingPanelAPI panel : docking.getRootPanels().values()) {
-			Optional<Dockable> dockable = findDockableOfType(type, panel);
-
-			if (dockable.isPresent()) {
-				return dockable;
-			}
-		}
-
-		return Optional.empty();
-	}
-
-	private static Optional<Dockable> findDockableOfType(int type, Container container) {
-		if (container == null) {
-			return Optional.empty();
-		}
-
-		for (Component component : container.getComponents()) {
-			if (component instanceof DisplayPanel) {
-				DisplayPanel panel = (DisplayPanel) component;
-
-				DockableWrapper wrapper = panel.getWrapper();
-				Dockable dockable = wrapper.getDockable();
-
-				if (dockable.getType() == type) {
-					return Optional.of(dockable);
-				}
-			}
-			else if (component instanceof Container) {
-				Optional<Dockable> dockableOfType = findDockableOfType(type, (Container) component);
-
-				if (dockableOfType.isPresent()) {
-					return dockableOfType;
-				}
-			}
-		}
-		return Optional.empty();
+		return DockingInternal.get(docking).getTypeIndex().findFirst(type, docking.getMainWindow());
 	}
 
 	/**
@@ -26,6 +26,7 @@ import io.github.andrewauclair.moderndocking.DockingProperty;
 import io.github.andrewauclair.moderndocking.DockingRegion;
 import io.github.andrewauclair.moderndocking.api.DockingAPI;
 import io.github.andrewauclair.moderndocking.api.RootDockingPanelAPI;
+import io.github.andrewauclair.moderndocking.event.LayoutTimingReport;
 import io.github.andrewauclair.moderndocking.exception.DockableNotFoundException;
 import io.github.andrewauclair.moderndocking.exception.DockableRegistrationFailureException;
 import io.github.andrewauclair.moderndocking.exception.RootDockingPanelRegistrationFailureException;
@@ -39,31 +40,48 @@ import java.awt.Window;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import javax.swing.JDialog;
 import javax.swing.JFrame;
-import javax.swing.SwingUtilities;
 
 /**
  * Internal utilities for the library
  */
 public class DockingInternal {
+	private static final Logger logger = Logger.getLogger(DockingInternal.class.getPackageName());
+
 	private final Map<String, DockableWrapper> anchors = new HashMap<>();
 	private final Map<String, DockableWrapper> dockables = new HashMap<>();
 	private final DockingAPI docking;
 
-	private final Map<Window, InternalRootDockingPanel> rootPanels = new HashMap<>();
+	// registered roots, looked up by identity in every direction
+	private final Map<Window, InternalRootDockingPanel> rootPanels = new IdentityHashMap<>();
+	private final Map<RootDockingPanelAPI, Window> windowsByRoot = new IdentityHashMap<>();
 
 	private static final Map<DockingAPI, DockingInternal> internals = new HashMap<>();
 
 	private final AppStatePersister appStatePersister;
 
+	private final LayoutTimingRecorder layoutTimings = new LayoutTimingRecorder();
+
+	private final WindowBoundsCache windowBounds = new WindowBoundsCache();
+
+	private final DockableTypeIndex typeIndex = new DockableTypeIndex();
+
+	private final ComponentTreeUpdater lookAndFeelUpdater = new ComponentTreeUpdater();
+
+	private final DockingBatch batch = new DockingBatch();
+
 	private boolean deregistering = false;
 
 	/**
@@ -96,13 +114,71 @@ public class DockingInternal {
 		internals.remove(docking);
 	}
 
+	/**
+	 * Get the recorder used to time layout restores, snapshots and persistence for this docking instance
+	 *
+	 * @return Layout timing recorder
+	 */
+	public LayoutTimingRecorder getLayoutTimings() {
+		return layoutTimings;
+	}
+
+	/**
+	 * Get the bounds of the registered windows, in stacking order
+	 *
+	 * @return Window bounds cache
+	 */
+	public WindowBoundsCache getWindowBounds() {
+		return windowBounds;
+	}
+
+	/**
+	 * Get the index of docked dockables by type
+	 *
+	 * @return Dockable type index
+	 */
+	public DockableTypeIndex getTypeIndex() {
+		return typeIndex;
+	}
+
+	/**
+	 * Get the batch used to group docking operations for this docking instance
+	 *
+	 * @return Docking batch
+	 */
+	public DockingBatch getBatch() {
+		return batch;
+	}
+
 	/**
 	 * Get a map of RootDockingPanels to their Windows
 	 *
 	 * @return map of root panels
 	 */
 	public Map<Window, InternalRootDockingPanel> getRootPanels() {
-		return rootPanels;
+		return Collections.unmodifiableMap(rootPanels);
+	}
+
+	/**
+	 * Find the window that a root panel is registered to
+	 *
+	 * @param root The root panel to search for
+	 * @return The window of the root or null if the root isn't registered
+	 */
+	public Window getWindowForRoot(RootDockingPanelAPI root) {
+		return windowsByRoot.get(root);
+	}
+
+	/**
+	 * Find the internal root that wraps a root panel
+	 *
+	 * @param root The root panel to search for
+	 * @return The internal root or null if the root isn't registered
+	 */
+	public InternalRootDockingPanel getInternalRoot(RootDockingPanelAPI root) {
+		Window window = windowsByRoot.get(root);
+
+		return window != null ? rootPanels.get(window) : null;
 	}
 
 	/**
@@ -123,24 +199,7 @@ public class DockingInternal {
 	 * @param parent The parent frame of the panel
 	 */
 	public void registerDockingPanel(RootDockingPanelAPI panel, JFrame parent) {
-		if (rootPanels.containsKey(parent)) {
-			throw new RootDockingPanelRegistrationFailureException(panel, parent);
-		}
-
-		Optional<Window> window = rootPanels.entrySet().stream()
-				.filter(entry -> entry.getValue().getRootPanel() == panel)
-				.findFirst()
-				.map(Map.Entry::getKey);
-
-		if (window.isPresent()) {
-			throw new RootDockingPanelRegistrationFailureException(panel, window.get());
-		}
-
-		InternalRootDockingPanel internalRoot = new InternalRootDockingPanel(docking, panel);
-		rootPanels.put(parent, internalRoot);
-		Floating.registerDockingWindow(docking, parent, internalRoot);
-
-		appStatePersister.addWindow(parent);
+		registerDockingPanel(panel, (Window) parent);
 	}
 
 	/**
@@ -150,21 +209,24 @@ public class DockingInternal {
 	 * @param parent The parent JDialog of the panel
 	 */
 	public void registerDockingPanel(RootDockingPanelAPI panel, JDialog parent) {
+		registerDockingPanel(panel, (Window) parent);
+	}
+
+	private void registerDockingPanel(RootDockingPanelAPI panel, Window parent) {
 		if (rootPanels.containsKey(parent)) {
 			throw new RootDockingPanelRegistrationFailureException(panel, parent);
 		}
 
-		Optional<Window> window = rootPanels.entrySet().stream()
-				.filter(entry -> entry.getValue().getRootPanel() == panel)
-				.findFirst()
-				.map(Map.Entry::getKey);
+		Window window = windowsByRoot.get(panel);
 
-		if (window.isPresent()) {
-			throw new RootDockingPanelRegistrationFailureException(panel, parent);
+		if (window != null) {
+			throw new RootDockingPanelRegistrationFailureException(panel, window);
 		}
 
 		InternalRootDockingPanel internalRoot = new InternalRootDockingPanel(docking, panel);
 		rootPanels.put(parent, internalRoot);
+		windowsByRoot.put(panel, parent);
+		windowBounds.add(parent);
 		Floating.registerDockingWindow(docking, parent, internalRoot);
 
 		appStatePersister.addWindow(parent);
@@ -176,13 +238,16 @@ public class DockingInternal {
 	 * @param parent The parent of the panel that we're deregistering
 	 */
 	public void deregisterDockingPanel(Window parent) {
-		if (rootPanels.containsKey(parent)) {
-			InternalRootDockingPanel root = rootPanels.get(parent);
+		InternalRootDockingPanel root = rootPanels.get(parent);
 
+		if (root != null) {
 			DockingComponentUtils.undockComponents(docking, root);
+
+			windowsByRoot.remove(root.getRootPanel());
 		}
 
 		rootPanels.remove(parent);
+		windowBounds.remove(parent);
 		Floating.deregisterDockingWindow(parent);
 
 		appStatePersister.removeWindow(parent);
@@ -273,7 +338,9 @@ public class DockingInternal {
 	 * @param dockable The dockable to deregister
 	 */
 	public void deregisterDockable(Dockable dockable) {
-		getWrapper(dockable).removeListeners();
+		DockableWrapper wrapper = getWrapper(dockable);
+		wrapper.removeListeners();
+		typeIndex.remove(wrapper);
 		dockables.remove(dockable.getPersistentID());
 	}
 
@@ -387,24 +454,79 @@ public class DockingInternal {
 	/**
 	 * Force a UI update on all dockables when changing look and feel. This ensures that any dockables not part of a free (i.e. not docked)
 	 * are properly updated with the new look and feel
+	 * <p>
+	 * Each window is updated in one batch and then laid out and repainted once. Dockables that aren't displayed, such as
+	 * hidden tabs, auto hide panels and undocked dockables, are updated the first time they are shown.
 	 */
 	public void updateLAF() {
-		for (DockableWrapper wrapper : dockables.values()) {
-			SwingUtilities.updateComponentTreeUI(wrapper.getDisplayPanel());
-			wrapper.getHeaderUI().update();
+		layoutTimings.begin(LayoutTimingReport.Operation.UPDATE_LOOK_AND_FEEL);
+
+		try {
+			for (InternalRootDockingPanel root : rootPanels.values()) {
+				long updateStart = layoutTimings.start();
+
+				root.updateLAF(lookAndFeelUpdater);
+				updateBorders(root.getPanel());
+
+				if (root.getPanel() != null) {
+					lookAndFeelUpdater.updateOrDefer(root.getPanel());
+				}
+				layoutTimings.phase(LayoutTimingReport.Phase.COMPONENT_UI_UPDATE, updateStart);
+
+				// lay out and repaint the window once, now that all of its components are updated
+				if (root.isShowing()) {
+					long validateStart = layoutTimings.start();
+
+					root.validate();
+					root.repaint();
+
+					layoutTimings.phase(LayoutTimingReport.Phase.WINDOW_VALIDATION, validateStart);
+				}
+			}
+
+			// update the dockables that are displayed outside the root panels, the rest are deferred until displayed
+			for (DockableWrapper wrapper : dockables.values()) {
+				updateLAF(wrapper);
+				wrapper.getHeaderUI().update();
+			}
+
+			for (DockableWrapper wrapper : anchors.values()) {
+				updateLAF(wrapper);
+			}
+		}
+		finally {
+			lookAndFeelUpdater.endPass();
+			layoutTimings.end();
 		}
 
-		for (DockableWrapper wrapper : anchors.values()) {
-			SwingUtilities.updateComponentTreeUI(wrapper.getDisplayPanel());
+		LayoutTimingReport report = layoutTimings.getLastReport();
+
+		if (report != null && logger.isLoggable(Level.FINE)) {
+			logger.log(Level.FINE, "Look and feel updated in " + report.getTotalNanos() / 1_000_000 + "ms, " +
+					lookAndFeelUpdater.getDeferredCount() + " components deferred until shown");
 		}
+	}
+
+	private void updateLAF(DockableWrapper wrapper) {
+		DisplayPanel displayPanel = wrapper.getDisplayPanel();
 
-		for (InternalRootDockingPanel root : rootPanels.values()) {
-			root.updateLAF();
-			updateLAF(root.getPanel());
+		if (lookAndFeelUpdater.wasUpdated(displayPanel)) {
+			return;
 		}
+
+		long start = layoutTimings.start();
+
+		// the display panel can be docked somewhere else before its current tree is shown, it has to wait on its own
+		lookAndFeelUpdater.updateOrDeferMovable(displayPanel);
+
+		if (displayPanel.isShowing()) {
+			displayPanel.revalidate();
+			displayPanel.repaint();
+		}
+		layoutTimings.dockable(wrapper.getDockable().getPersistentID(), start);
 	}
 
-	private void updateLAF(DockingPanel panel) {
+	private void updateBorders(DockingPanel panel) {
 		if (panel instanceof DockedTabbedPanel) {
 			ActiveDockableHighlighter.setNotSelectedBorder(panel);
 		}
@@ -425,11 +547,13 @@ public class DockingInternal {
 		else if (panel instanceof DockedSplitPanel) {
 			DockedSplitPanel splitPanel = (DockedSplitPanel) panel;
 
-			updateLAF(splitPanel.getLeft());
-			updateLAF(splitPanel.getRight());
+			updateBorders(splitPanel.getLeft());
+			updateBorders(splitPanel.getRight());
 		}
-		if (panel != null) {
-			SwingUtilities.updateComponentTreeUI(panel);
+		else if (panel instanceof DockedMultiSplitPanel) {
+			for (DockingPanel child : panel.getChildren()) {
+				updateBorders(child);
+			}
 		}
 	}
 
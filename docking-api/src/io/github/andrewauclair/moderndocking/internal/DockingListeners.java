@@ -25,6 +25,7 @@ import io.github.andrewauclair.moderndocking.Dockable;
 import io.github.andrewauclair.moderndocking.api.RootDockingPanelAPI;
 import io.github.andrewauclair.moderndocking.event.DockingEvent;
 import io.github.andrewauclair.moderndocking.event.DockingListener;
+import io.github.andrewauclair.moderndocking.event.DragMotionListener;
 import io.github.andrewauclair.moderndocking.event.MaximizeListener;
 import io.github.andrewauclair.moderndocking.event.NewFloatingFrameListener;
 import java.util.ArrayList;
@@ -38,6 +39,7 @@ public class DockingListeners {
 	private static final List<MaximizeListener> maximizeListeners = new ArrayList<>();
 	private static final List<DockingListener> dockingListeners = new ArrayList<>();
 	private static final List<NewFloatingFrameListener> newFloatingFrameListeners = new ArrayList<>();
+	private static final List<DragMotionListener> dragMotionListeners = new ArrayList<>();
 
 	/**
 	 * Unused. All methods are static
@@ -114,6 +116,40 @@ public class DockingListeners {
 		newFloatingFrameListeners.remove(listener);
 	}
 
+	/**
+	 * Add a new drag motion listener
+	 *
+	 * @param listener Listener to add
+	 */
+	public static void addDragMotionListener(DragMotionListener listener) {
+		if (!dragMotionListeners.contains(listener)) {
+			dragMotionListeners.add(listener);
+		}
+	}
+
+	/**
+	 * Remove a drag motion listener
+	 *
+	 * @param listener Listener to remove
+	 */
+	public static void removeDragMotionListener(DragMotionListener listener) {
+		dragMotionListeners.remove(listener);
+	}
+
+	/**
+	 * Fire a new drag motion event
+	 *
+	 * @param latencyNanos Time between the latest drag event being received and it being processed
+	 * @param coalescedEvents Number of drag events that were received since the last update
+	 */
+	public static void fireDragMotionEvent(long latencyNanos, int coalescedEvents) {
+		if (dragMotionListeners.isEmpty()) {
+			return;
+		}
+		List<DragMotionListener> listeners = new ArrayList<>(dragMotionListeners);
+		listeners.forEach(listener -> listener.dragMotionProcessed(latencyNanos, coalescedEvents));
+	}
+
 	/**
 	 * Fire a new floating frame event
 	 *
@@ -143,8 +179,7 @@ public class DockingListeners {
 	 * @param dockable Dockable that was docked
 	 */
 	public static void fireDockedEvent(Dockable dockable) {
-		List<DockingListener> listeners = new ArrayList<>(dockingListeners);
-		listeners.forEach(listener -> listener.dockingChange(new DockingEvent(DockingEvent.ID.DOCKED, dockable, false)));
+		dispatch(new DockingEvent(DockingEvent.ID.DOCKED, dockable, false));
 	}
 
 	/**
@@ -153,8 +188,7 @@ public class DockingListeners {
 	 * @param dockable Dockable that was undocked
 	 */
 	public static void fireUndockedEvent(Dockable dockable, boolean isTemporary) {
-		List<DockingListener> listeners = new ArrayList<>(dockingListeners);
-		listeners.forEach(listener -> listener.dockingChange(new DockingEvent(DockingEvent.ID.UNDOCKED, dockable, isTemporary)));
+		dispatch(new DockingEvent(DockingEvent.ID.UNDOCKED, dockable, isTemporary));
 	}
 
 	/**
@@ -163,8 +197,7 @@ public class DockingListeners {
 	 * @param dockable Dockable that was auto hide enabled
 	 */
 	public static void fireAutoShownEvent(Dockable dockable) {
-		List<DockingListener> listeners = new ArrayList<>(dockingListeners);
-		listeners.forEach(listener -> listener.dockingChange(new DockingEvent(DockingEvent.ID.AUTO_HIDE_ENABLED, dockable, false)));
+		dispatch(new DockingEvent(DockingEvent.ID.AUTO_HIDE_ENABLED, dockable, false));
 	}
 
 	/**
@@ -173,8 +206,7 @@ public class DockingListeners {
 	 * @param dockable Dockable that was auto hide disabled
 	 */
 	public static void fireAutoHiddenEvent(Dockable dockable) {
-		List<DockingListener> listeners = new ArrayList<>(dockingListeners);
-		listeners.forEach(listener -> listener.dockingChange(new DockingEvent(DockingEvent.ID.AUTO_HIDE_DISABLED, dockable, false)));
+		dispatch(new DockingEvent(DockingEvent.ID.AUTO_HIDE_DISABLED, dockable, false));
 	}
 
 	/**
@@ -183,8 +215,7 @@ public class DockingListeners {
 	 * @param dockable Dockable that was shown
 	 */
 	public static void fireShownEvent(Dockable dockable) {
-		List<DockingListener> listeners = new ArrayList<>(dockingListeners);
-		listeners.forEach(listener -> listener.dockingChange(new DockingEvent(DockingEvent.ID.SHOWN, dockable, false)));
+		dispatch(new DockingEvent(DockingEvent.ID.SHOWN, dockable, false));
 	}
 
 	/**
@@ -193,8 +224,7 @@ public class DockingListeners {
 	 * @param dockable Dockable that was hidden
 	 */
 	public static void fireHiddenEvent(Dockable dockable) {
-		List<DockingListener> listeners = new ArrayList<>(dockingListeners);
-		listeners.forEach(listener -> listener.dockingChange(new DockingEvent(DockingEvent.ID.HIDDEN, dockable, false)));
+		dispatch(new DockingEvent(DockingEvent.ID.HIDDEN, dockable, false));
 	}
 
 	/**
@@ -203,6 +233,19 @@ public class DockingListeners {
 	 * @param e Docking event to fire
 	 */
 	public static void fireDockingEvent(DockingEvent e) {
+		dispatch(e);
+	}
+
+	private static void dispatch(DockingEvent e) {
+		// held back until the running batch of docking operations ends
+		if (DockingBatch.holdEvent(e)) {
+			return;
+		}
+
+		notifyListeners(e);
+	}
+
+	static void notifyListeners(DockingEvent e) {
 		List<DockingListener> listeners = new ArrayList<>(dockingListeners);
 		listeners.forEach(listener -> listener.dockingChange(e));
 	}
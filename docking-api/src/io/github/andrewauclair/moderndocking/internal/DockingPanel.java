@@ -23,6 +23,7 @@ package io.github.andrewauclair.moderndocking.internal;
 
 import io.github.andrewauclair.moderndocking.Dockable;
 import io.github.andrewauclair.moderndocking.DockingRegion;
+import java.util.Collections;
 import java.util.List;
 import javax.swing.JPanel;
 
@@ -36,6 +37,21 @@ public abstract class DockingPanel extends JPanel {
 	public DockingPanel() {
 	}
 
+	@Override
+	public void revalidate() {
+		// a running batch of docking operations lays out the window once when it ends
+		if (!DockingBatch.deferLayout(this)) {
+			super.revalidate();
+		}
+	}
+
+	@Override
+	public void repaint(long tm, int x, int y, int width, int height) {
+		if (!DockingBatch.deferLayout(this)) {
+			super.repaint(tm, x, y, width, height);
+		}
+	}
+
 	/**
 	 * Retrieve the anchor that is associated with this dockable
 	 *
@@ -96,6 +112,15 @@ public abstract class DockingPanel extends JPanel {
 	 */
 	public abstract List<DockingPanel> getChildren();
 
+	/**
+	 * Get the dockables held directly by this docking panel. Dockables in child panels are not included
+	 *
+	 * @return Dockables in this panel
+	 */
+	public List<DockableWrapper> getDockables() {
+		return Collections.emptyList();
+	}
+
 	/**
 	 * Check if this dockable is docked in an Auto Hide toolbar
 	 *
@@ -436,19 +436,21 @@ public class InternalRootDockingPanel extends DockingPanel implements DockableTo
 
     /**
      * Update the look and feel of the toolbars and empty panel
+     *
+     * @param updater The updater used for all the components of the window
      */
-    public void updateLAF() {
+    public void updateLAF(ComponentTreeUpdater updater) {
         if (southToolbar != null) {
-            SwingUtilities.updateComponentTreeUI(southToolbar);
+            updater.updateOrDefer(southToolbar);
         }
         if (westToolbar != null) {
-            SwingUtilities.updateComponentTreeUI(westToolbar);
+            updater.updateOrDefer(westToolbar);
         }
         if (eastToolbar != null) {
-            SwingUtilities.updateComponentTreeUI(eastToolbar);
+            updater.updateOrDefer(eastToolbar);
         }
         if (rootPanel.getEmptyPanel() != null) {
-            SwingUtilities.updateComponentTreeUI(rootPanel.getEmptyPanel());
+            updater.updateOrDefer(rootPanel.getEmptyPanel());
         }
     }
 
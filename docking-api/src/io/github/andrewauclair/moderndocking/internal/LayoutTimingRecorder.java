@@ -0,0 +1,164 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal;
+
+import io.github.andrewauclair.moderndocking.event.LayoutTimingListener;
+import io.github.andrewauclair.moderndocking.event.LayoutTimingReport;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the per-phase and per-dockable timing of layout operations for a docking instance.
+ * <p>
+ * Operations can be nested (restoring an application layout restores each window), only the outermost operation produces a report.
+ * Recording phases or dockables outside an operation does nothing. Operations performed while reporting is suppressed
+ * (the layout snapshot and restore done internally by a drag) do not produce a report.
+ */
+public class LayoutTimingRecorder {
+	private final List<LayoutTimingListener> listeners = new ArrayList<>();
+
+	private final Map<LayoutTimingReport.Phase, Long> phases = new EnumMap<>(LayoutTimingReport.Phase.class);
+	private final Map<String, Long> dockables = new LinkedHashMap<>();
+
+	private LayoutTimingReport.Operation operation;
+	private long operationStart = 0;
+	private int depth = 0;
+	private int suppressed = 0;
+
+	private LayoutTimingReport lastReport = null;
+
+	/**
+	 * Create a new recorder. Nothing to initialize
+	 */
+	public LayoutTimingRecorder() {
+	}
+
+	/**
+	 * Add a new timing listener
+	 *
+	 * @param listener Listener to add
+	 */
+	public void addListener(LayoutTimingListener listener) {
+		if (!listeners.contains(listener)) {
+			listeners.add(listener);
+		}
+	}
+
+	/**
+	 * Remove a timing listener
+	 *
+	 * @param listener Listener to remove
+	 */
+	public void removeListener(LayoutTimingListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Get the report of the last completed operation
+	 *
+	 * @return Last report or null if no operation has completed
+	 */
+	public LayoutTimingReport getLastReport() {
+		return lastReport;
+	}
+
+	/**
+	 * Stop operations from producing reports. Must be paired with a call to resumeReports
+	 */
+	public void suppressReports() {
+		suppressed++;
+	}
+
+	/**
+	 * Allow operations to produce reports again after a call to suppressReports
+	 */
+	public void resumeReports() {
+		if (suppressed > 0) {
+			suppressed--;
+		}
+	}
+
+	/**
+	 * Start timing an operation. Must be paired with a call to end
+	 *
+	 * @param operation The operation being started
+	 */
+	public void begin(LayoutTimingReport.Operation operation) {
+		if (depth++ == 0) {
+			this.operation = operation;
+			phases.clear();
+			dockables.clear();
+			operationStart = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Finish timing the current operation. Fires the report to all listeners if this is the outermost operation and
+	 * reports are not suppressed
+	 */
+	public void end() {
+		if (depth == 0 || --depth != 0 || suppressed > 0) {
+			return;
+		}
+
+		lastReport = new LayoutTimingReport(operation, System.nanoTime() - operationStart, phases, dockables);
+
+		List<LayoutTimingListener> listeners = new ArrayList<>(this.listeners);
+		listeners.forEach(listener -> listener.layoutTimed(lastReport));
+	}
+
+	/**
+	 * Get the current time to use as the start of a phase or dockable
+	 *
+	 * @return Current time in nanoseconds
+	 */
+	public long start() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * Add the time since start to a phase
+	 *
+	 * @param phase The phase to add time to
+	 * @param start The start time from start()
+	 */
+	public void phase(LayoutTimingReport.Phase phase, long start) {
+		if (depth > 0) {
+			phases.merge(phase, System.nanoTime() - start, Long::sum);
+		}
+	}
+
+	/**
+	 * Add the time since start to a dockable
+	 *
+	 * @param persistentID The persistent ID of the dockable to add time to
+	 * @param start The start time from start()
+	 */
+	public void dockable(String persistentID, long start) {
+		if (depth > 0) {
+			dockables.merge(persistentID, System.nanoTime() - start, Long::sum);
+		}
+	}
+}
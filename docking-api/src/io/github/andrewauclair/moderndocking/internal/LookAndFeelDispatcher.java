@@ -0,0 +1,176 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal;
+
+import io.github.andrewauclair.moderndocking.ui.DockingSettings;
+import java.beans.PropertyChangeEvent;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+
+/**
+ * Single set of UIManager listeners for the whole framework that forwards look and feel changes to the docking
+ * components.
+ * <p>
+ * The look and feel is watched through UIManager itself. Changes to the ModernDocking properties are watched through
+ * the UIManager defaults, because UIManager.put only notifies the listeners of the defaults.
+ * <p>
+ * Listeners are only weakly referenced, so a header or toolbar that is no longer used can be collected without
+ * removing itself first. The owner of a listener must keep a strong reference to it for as long as it wants updates.
+ * <p>
+ * Changes are handled in one pass on the EDT. The docking colors are resolved once and then every live listener is
+ * updated in the order it was added. Look and feel listeners are updated before color listeners.
+ */
+public final class LookAndFeelDispatcher {
+	/**
+	 * Listener notified on the EDT after a change
+	 */
+	public interface Listener {
+		/**
+		 * The look and feel or the docking colors have changed. The docking colors have already been updated
+		 */
+		void lookAndFeelChanged();
+	}
+
+	// notified when the look and feel changes
+	private static final List<WeakReference<Listener>> listeners = new ArrayList<>();
+	// notified when the look and feel or one of the ModernDocking properties changes
+	private static final List<WeakReference<Listener>> colorListeners = new ArrayList<>();
+
+	// the references of collected listeners are removed when a list grows past this size
+	private static int purgeSize = 64;
+
+	private static boolean registered = false;
+	private static boolean updatePending = false;
+	private static boolean lookAndFeelChanged = false;
+
+	/**
+	 * Unused. All methods are static
+	 */
+	private LookAndFeelDispatcher() {
+	}
+
+	/**
+	 * Add a new listener that is notified when the look and feel changes. Only a weak reference to the listener is kept
+	 *
+	 * @param listener Listener to add
+	 */
+	public static synchronized void addListener(Listener listener) {
+		add(listeners, listener);
+	}
+
+	/**
+	 * Add a new listener that is notified when the look and feel or one of the ModernDocking color properties changes.
+	 * Only a weak reference to the listener is kept
+	 *
+	 * @param listener Listener to add
+	 */
+	public static synchronized void addColorListener(Listener listener) {
+		add(colorListeners, listener);
+	}
+
+	/**
+	 * Remove a listener
+	 *
+	 * @param listener Listener to remove
+	 */
+	public static synchronized void removeListener(Listener listener) {
+		listeners.removeIf(reference -> reference.get() == null || reference.get() == listener);
+		colorListeners.removeIf(reference -> reference.get() == null || reference.get() == listener);
+	}
+
+	private static void add(List<WeakReference<Listener>> list, Listener listener) {
+		if (!registered) {
+			registered = true;
+			UIManager.addPropertyChangeListener(LookAndFeelDispatcher::lookAndFeelChange);
+			UIManager.getDefaults().addPropertyChangeListener(LookAndFeelDispatcher::defaultsChange);
+		}
+		if (list.size() >= purgeSize) {
+			list.removeIf(reference -> reference.get() == null);
+			purgeSize = Math.max(64, Math.max(listeners.size(), colorListeners.size()) * 2);
+		}
+		list.add(new WeakReference<>(listener));
+	}
+
+	private static void lookAndFeelChange(PropertyChangeEvent e) {
+		if ("lookAndFeel".equals(e.getPropertyName())) {
+			schedule(true);
+		}
+	}
+
+	private static void defaultsChange(PropertyChangeEvent e) {
+		if (e.getPropertyName() != null && e.getPropertyName().startsWith("ModernDocking.")) {
+			schedule(false);
+		}
+	}
+
+	private static void schedule(boolean lookAndFeel) {
+		synchronized (LookAndFeelDispatcher.class) {
+			lookAndFeelChanged |= lookAndFeel;
+
+			// changes can be made from any thread, several changes are handled by one pass
+			if (updatePending) {
+				return;
+			}
+			updatePending = true;
+		}
+		SwingUtilities.invokeLater(LookAndFeelDispatcher::dispatch);
+	}
+
+	private static void dispatch() {
+		List<Listener> live = new ArrayList<>();
+
+		synchronized (LookAndFeelDispatcher.class) {
+			if (lookAndFeelChanged) {
+				collect(listeners, live);
+			}
+			collect(colorListeners, live);
+
+			updatePending = false;
+			lookAndFeelChanged = false;
+		}
+
+		DockingSettings.updateColors();
+
+		for (Listener listener : live) {
+			listener.lookAndFeelChanged();
+		}
+	}
+
+	private static void collect(List<WeakReference<Listener>> list, List<Listener> live) {
+		Iterator<WeakReference<Listener>> iterator = list.iterator();
+
+		while (iterator.hasNext()) {
+			Listener listener = iterator.next().get();
+
+			if (listener == null) {
+				iterator.remove();
+			}
+			else {
+				live.add(listener);
+			}
+		}
+	}
+}
@@ -0,0 +1,191 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal;
+
+import java.awt.Frame;
+import java.awt.Point;
+import java.awt.Window;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache of the bounds of the registered docking windows, kept in stacking order.
+ * <p>
+ * AWT doesn't tell us the z-order of windows, so we approximate it: windows are moved to the front when they are
+ * registered, opened or activated. Bounds are updated from component events so that lookups during a drag only
+ * read cached values.
+ */
+public class WindowBoundsCache {
+	private static class Entry {
+		private final Window window;
+		private int x;
+		private int y;
+		private int width;
+		private int height;
+
+		private Entry(Window window) {
+			this.window = window;
+			update();
+		}
+
+		private void update() {
+			x = window.getX();
+			y = window.getY();
+			width = window.getWidth();
+			height = window.getHeight();
+		}
+
+		private boolean contains(Point screenPos) {
+			return screenPos.x >= x && screenPos.x < x + width && screenPos.y >= y && screenPos.y < y + height;
+		}
+	}
+
+	/**
+	 * Front most window first
+	 */
+	private final List<Entry> entries = new ArrayList<>();
+
+	private final ComponentAdapter boundsListener = new ComponentAdapter() {
+		@Override
+		public void componentResized(ComponentEvent e) {
+			update((Window) e.getComponent());
+		}
+
+		@Override
+		public void componentMoved(ComponentEvent e) {
+			update((Window) e.getComponent());
+		}
+
+		@Override
+		public void componentShown(ComponentEvent e) {
+			moveToFront((Window) e.getComponent());
+		}
+	};
+
+	private final WindowAdapter orderListener = new WindowAdapter() {
+		@Override
+		public void windowOpened(WindowEvent e) {
+			moveToFront(e.getWindow());
+		}
+
+		@Override
+		public void windowActivated(WindowEvent e) {
+			moveToFront(e.getWindow());
+		}
+
+		@Override
+		public void windowDeiconified(WindowEvent e) {
+			moveToFront(e.getWindow());
+		}
+	};
+
+	/**
+	 * Create a new empty cache
+	 */
+	public WindowBoundsCache() {
+	}
+
+	/**
+	 * Start tracking a window. New windows are assumed to be in front of the existing windows
+	 *
+	 * @param window The window to track
+	 */
+	public void add(Window window) {
+		if (indexOf(window) != -1) {
+			return;
+		}
+		entries.add(0, new Entry(window));
+
+		window.addComponentListener(boundsListener);
+		window.addWindowListener(orderListener);
+	}
+
+	/**
+	 * Stop tracking a window
+	 *
+	 * @param window The window to stop tracking
+	 */
+	public void remove(Window window) {
+		int index = indexOf(window);
+
+		if (index != -1) {
+			entries.remove(index);
+		}
+		window.removeComponentListener(boundsListener);
+		window.removeWindowListener(orderListener);
+	}
+
+	/**
+	 * Find the front most visible window at a screen position
+	 *
+	 * @param screenPos The position on screen
+	 * @return The window at the position or null if there is no window there
+	 */
+	public Window findWindowAt(Point screenPos) {
+		// indexed loop, this is called for every drag event and shouldn't allocate an iterator
+		for (int i = 0; i < entries.size(); i++) {
+			Entry entry = entries.get(i);
+
+			if (entry.contains(screenPos) && entry.window.isVisible() && !isIconified(entry.window)) {
+				return entry.window;
+			}
+		}
+		return null;
+	}
+
+	private boolean isIconified(Window window) {
+		return window instanceof Frame && (((Frame) window).getExtendedState() & Frame.ICONIFIED) != 0;
+	}
+
+	private void update(Window window) {
+		int index = indexOf(window);
+
+		if (index != -1) {
+			entries.get(index).update();
+		}
+	}
+
+	private void moveToFront(Window window) {
+		int index = indexOf(window);
+
+		if (index > 0) {
+			entries.add(0, entries.remove(index));
+		}
+		if (index != -1) {
+			// the bounds might have changed while the window was hidden
+			entries.get(0).update();
+		}
+	}
+
+	private int indexOf(Window window) {
+		for (int i = 0; i < entries.size(); i++) {
+			if (entries.get(i).window == window) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,110 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal.floating;
+
+import io.github.andrewauclair.moderndocking.internal.DockingListeners;
+import java.awt.Point;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+
+/**
+ * Collapses drag motion events so that only the latest mouse position is processed on each pass of the EDT.
+ * <p>
+ * High polling rate mice can send drag events much faster than we can update the frames. Instead of posting
+ * a new runnable for every event, we remember the latest position and post a single runnable to process it.
+ */
+class CoalescedDragMotion {
+    private final Consumer<Point> processor;
+    private final boolean reportLatency;
+
+    private final Point pendingPos = new Point();
+    // handed to the processor, which must not hold on to it
+    private final Point processedPos = new Point();
+    private long pendingNanos = 0;
+    private int pendingEvents = 0;
+    private boolean queued = false;
+
+    /**
+     * Create a new instance
+     *
+     * @param processor Called on the EDT with the latest mouse position on screen. The point is reused between calls
+     * @param reportLatency Fire drag motion events after processing each position
+     */
+    CoalescedDragMotion(Consumer<Point> processor, boolean reportLatency) {
+        this.processor = processor;
+        this.reportLatency = reportLatency;
+    }
+
+    /**
+     * Record a new mouse position. It will be processed on the EDT, unless a newer position arrives first
+     *
+     * @param x The mouse X position on screen
+     * @param y The mouse Y position on screen
+     */
+    synchronized void post(int x, int y) {
+        pendingPos.setLocation(x, y);
+        pendingNanos = System.nanoTime();
+        pendingEvents++;
+
+        if (!queued) {
+            queued = true;
+            SwingUtilities.invokeLater(this::process);
+        }
+    }
+
+    /**
+     * Throw away any position that hasn't been processed yet
+     */
+    synchronized void cancel() {
+        pendingEvents = 0;
+    }
+
+    /**
+     * Process the latest position now, if there is one. Used before a drop so that it sees the final position
+     */
+    void flush() {
+        process();
+    }
+
+    private void process() {
+        long receivedNanos;
+        int events;
+
+        synchronized (this) {
+            queued = false;
+
+            if (pendingEvents == 0) {
+                return;
+            }
+            processedPos.setLocation(pendingPos);
+            receivedNanos = pendingNanos;
+            events = pendingEvents;
+            pendingEvents = 0;
+        }
+
+        processor.accept(processedPos);
+
+        if (reportLatency) {
+            DockingListeners.fireDragMotionEvent(System.nanoTime() - receivedNanos, events);
+        }
+    }
+}
@@ -31,6 +31,7 @@ import io.github.andrewauclair.moderndocking.internal.DockedTabbedPanel;
 import io.github.andrewauclair.moderndocking.internal.DockingComponentUtils;
 import io.github.andrewauclair.moderndocking.internal.DockingInternal;
 import io.github.andrewauclair.moderndocking.internal.DockingListeners;
+import io.github.andrewauclair.moderndocking.internal.DockingPanel;
 import io.github.andrewauclair.moderndocking.internal.FloatingFrame;
 import io.github.andrewauclair.moderndocking.internal.InternalRootDockingPanel;
 import io.github.andrewauclair.moderndocking.settings.Settings;
@@ -38,6 +39,7 @@ import java.awt.Point;
 import java.awt.Window;
 import java.awt.dnd.DragGestureEvent;
 import java.util.Collections;
+import java.util.List;
 import javax.swing.JComponent;
 import javax.swing.JFrame;
 import javax.swing.SwingUtilities;
@@ -101,20 +103,25 @@ public class DisplayPanelFloatListener extends FloatListener {
     @Override
     protected JFrame createFloatingFrame() {
         if (Settings.alwaysDisplayTabsMode()) {
-            return new TempFloatingFrame(Collections.singletonList(panel.getWrapper()), 0, panel, panel.getSize());
+            return TempFloatingFrame.display(Collections.singletonList(panel.getWrapper()), 0, panel, panel.getSize());
         }
-        return new TempFloatingFrame(panel.getWrapper(), panel, panel.getSize());
+        return TempFloatingFrame.display(panel.getWrapper(), panel, panel.getSize());
     }
 
     @Override
     protected boolean dropPanel(FloatUtilsFrame utilsFrame, JFrame floatingFrame, Point mousePosOnScreen) {
         DockableWrapper floatingDockable = panel.getWrapper();
 
+        if (isDropOnDraggedPanel(mousePosOnScreen)) {
+            return false;
+        }
+
+        // find the drop target first, the dockable might still be docked. it's only undocked right before it's docked again
         if (utilsFrame != null) {
             Window targetWindow = DockingComponentUtils.findRootAtScreenPos(docking, mousePosOnScreen);
             InternalRootDockingPanel root = DockingComponentUtils.rootForWindow(docking, targetWindow);
 
-            Dockable dockableAtPos = DockingComponentUtils.findDockableAtScreenPos(mousePosOnScreen, targetWindow);
+            Dockable dockableAtPos = getDropTargets().findDockableAtScreenPos(mousePosOnScreen, targetWindow);
 
             // don't allow dockables that are limited to their window to move to another window
             if (targetWindow != originalWindow && floatingDockable.getDockable().isLimitedToWindow()) {
@@ -122,28 +129,24 @@ public class DisplayPanelFloatListener extends FloatListener {
             }
 
             if (utilsFrame.isOverRootHandle()) {
+                undockForDrop();
                 docking.dock(floatingDockable.getDockable(), targetWindow, utilsFrame.rootHandleRegion());
             }
             else if (utilsFrame.isOverDockableHandle()) {
+                undockForDrop();
                 docking.dock(floatingDockable.getDockable(), dockableAtPos, utilsFrame.dockableHandle());
             }
             else if (utilsFrame.isOverPinHandle()) {
+                undockForDrop();
                 docking.autoHideDockable(floatingDockable.getDockable(), utilsFrame.pinRegion(), targetWindow);
             }
             else if (utilsFrame.isOverTab()) {
-                CustomTabbedPane tabbedPane = DockingComponentUtils.findTabbedPaneAtPos(mousePosOnScreen, targetWindow);
+                CustomTabbedPane tabbedPane = getDropTargets().findTabbedPaneAtPos(mousePosOnScreen, targetWindow);
 
                 DockedTabbedPanel dockingTabPanel = (DockedTabbedPanel) DockingComponentUtils.findDockingPanelAtScreenPos(mousePosOnScreen, targetWindow);
 
                 if (tabbedPane != null && dockingTabPanel != null) {
-                    int tabIndex = tabbedPane.getTargetTabIndex(mousePosOnScreen, true);
-
-                    if (tabIndex == -1) {
-                        dockingTabPanel.dock(floatingDockable.getDockable(), DockingRegion.CENTER, 1.0);
-                    }
-                    else {
-                        dockingTabPanel.dockAtIndex(floatingDockable.getDockable(), tabIndex);
-                    }
+                    return dockInTabs(dockingTabPanel, tabbedPane.getTargetTabIndex(mousePosOnScreen, true));
                 }
                 else {
                     // failed to dock, restore the previous layout
@@ -154,10 +157,13 @@ public class DisplayPanelFloatListener extends FloatListener {
                 // docking to a dockable region
                 DockingRegion region = utilsFrame.getDockableRegion(dockableAtPos, panel.getWrapper().getDockable(), mousePosOnScreen);
 
+                undockForDrop();
                 docking.dock(floatingDockable.getDockable(), dockableAtPos, region);
             }
             else if (floatingDockable.getDockable().isFloatingAllowed()) {
                 // floating
+                undockForDrop();
+
                 FloatingFrame newFloatingFrame = new FloatingFrame(docking, floatingDockable.getDockable(), mousePosOnScreen, floatingDockable.getDisplayPanel().getSize(), 0);
                 docking.dock(floatingDockable.getDockable(), newFloatingFrame);
 
@@ -174,6 +180,8 @@ public class DisplayPanelFloatListener extends FloatListener {
         }
         else if (floatingDockable.getDockable().isFloatingAllowed()) {
             // floating
+            undockForDrop();
+
             FloatingFrame newFloatingFrame = new FloatingFrame(docking, floatingDockable.getDockable(), mousePosOnScreen, floatingDockable.getDisplayPanel().getSize(), 0);
             docking.dock(floatingDockable.getDockable(), newFloatingFrame);
 
@@ -189,4 +197,45 @@ public class DisplayPanelFloatListener extends FloatListener {
         }
         return true;
     }
-}
\ No newline at end of file
+
+    private boolean dockInTabs(DockedTabbedPanel tabs, int tabIndex) {
+        Dockable dockable = panel.getWrapper().getDockable();
+
+        // the dockable might still be one of these tabs. remember another tab of the group, undocking the dockable
+        // could replace the tab group with a simple panel
+        List<DockableWrapper> wrappers = tabs.getDockables();
+        int currentIndex = wrappers.indexOf(panel.getWrapper());
+        Dockable anchor = null;
+
+        for (DockableWrapper wrapper : wrappers) {
+            if (wrapper != panel.getWrapper()) {
+                anchor = wrapper.getDockable();
+                break;
+            }
+        }
+
+        if (anchor == null) {
+            // the only tab of the group is the dockable itself, leave it where it is
+            return false;
+        }
+
+        if (currentIndex != -1 && tabIndex > currentIndex) {
+            tabIndex--;
+        }
+
+        undockForDrop();
+
+        DockingPanel parent = DockingInternal.get(docking).getWrapper(anchor).getParent();
+
+        if (!(parent instanceof DockedTabbedPanel)) {
+            docking.dock(dockable, anchor, DockingRegion.CENTER);
+        }
+        else if (tabIndex == -1) {
+            parent.dock(dockable, DockingRegion.CENTER, 1.0);
+        }
+        else {
+            ((DockedTabbedPanel) parent).dockAtIndex(dockable, tabIndex);
+        }
+        return true;
+    }
+}
@@ -27,11 +27,11 @@ import io.github.andrewauclair.moderndocking.DockingRegion;
 import io.github.andrewauclair.moderndocking.ui.DockingSettings;
 import java.awt.Color;
 import java.awt.Component;
-import java.awt.Dimension;
+import java.awt.Container;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Polygon;
-import javax.swing.JFrame;
+import java.awt.Rectangle;
 import javax.swing.JLabel;
 import javax.swing.JScrollPane;
 import javax.swing.SwingUtilities;
@@ -47,49 +47,60 @@ public class DockableHandles {
     private final DockingHandle dockableNorth = new DockingHandle(DockingRegion.NORTH, false);
     private final DockingHandle dockableEast = new DockingHandle(DockingRegion.EAST, false);
     private final DockingHandle dockableSouth = new DockingHandle(DockingRegion.SOUTH, false);
-    private final JFrame frame;
-    private final Dockable targetDockable;
-    private final Dockable floatingDockable;
+    private final Container frame;
+    private Dockable targetDockable;
+    private Dockable floatingDockable;
+
+    // scratch geometry, reused for every mouse move and paint
+    private final Point framePoint = new Point();
+    private final Point location = new Point();
+    private final Rectangle paintBounds = new Rectangle();
+    private final Polygon backgroundShape = new Polygon(new int[17], new int[17], 17);
 
     /**
-     * Create a new instance for the frame and target dockable
+     * Create a new instance for the frame. The handles are hidden until a target dockable is set
      *
-     * @param frame The frame to display these handles on
-     * @param targetDockable The target dockable the mouse is over
+     * @param frame The top level frame to display these handles on
      */
-    public DockableHandles(JFrame frame, Dockable targetDockable) {
+    public DockableHandles(Container frame) {
         this.frame = frame;
-        this.targetDockable = targetDockable;
-        this.floatingDockable = null;
 
         setupHandle(frame, dockableCenter);
         setupHandle(frame, dockableWest);
         setupHandle(frame, dockableNorth);
         setupHandle(frame, dockableEast);
         setupHandle(frame, dockableSouth);
-
-        setDockableHandleLocations();
     }
 
     /**
-     * Create a new instance for the frame and target dockable
+     * Change the target dockable that the handles are displayed on
      *
-     * @param frame The frame to display these handles on
-     * @param targetDockable The target dockable the mouse is over
-     * @param floatingDockable The dockable is floating
+     * @param targetDockable The target dockable the mouse is over, or null to hide the handles
+     * @param floatingDockable The dockable that is floating, or null if a tab group is floating
      */
-    public DockableHandles(JFrame frame, Dockable targetDockable, Dockable floatingDockable) {
-        this.frame = frame;
+    public void setTarget(Dockable targetDockable, Dockable floatingDockable) {
         this.targetDockable = targetDockable;
         this.floatingDockable = floatingDockable;
 
-        setupHandle(frame, dockableCenter);
-        setupHandle(frame, dockableWest);
-        setupHandle(frame, dockableNorth);
-        setupHandle(frame, dockableEast);
-        setupHandle(frame, dockableSouth);
+        if (targetDockable == null) {
+            dockableCenter.setVisible(false);
+            dockableWest.setVisible(false);
+            dockableNorth.setVisible(false);
+            dockableEast.setVisible(false);
+            dockableSouth.setVisible(false);
+        }
+        else {
+            setDockableHandleLocations();
+        }
+    }
 
-        setDockableHandleLocations();
+    /**
+     * Check if the handles are currently displayed on a target dockable
+     *
+     * @return Are there target handles?
+     */
+    public boolean hasTarget() {
+        return targetDockable != null;
     }
 
     /**
@@ -98,17 +109,25 @@ public class DockableHandles {
      * @param mousePosOnScreen The new mouse position on screen
      */
     public void mouseMoved(Point mousePosOnScreen) {
-        Point framePoint = new Point(mousePosOnScreen);
-        SwingUtilities.convertPointFromScreen(framePoint, frame);
-
-        dockableCenter.mouseMoved(framePoint);
-        dockableWest.mouseMoved(framePoint);
-        dockableNorth.mouseMoved(framePoint);
-        dockableEast.mouseMoved(framePoint);
-        dockableSouth.mouseMoved(framePoint);
+        // the frame is undecorated and top level, its location is its location on screen
+        framePoint.setLocation(mousePosOnScreen.x - frame.getX(), mousePosOnScreen.y - frame.getY());
+
+        mouseMoved(dockableCenter, framePoint);
+        mouseMoved(dockableWest, framePoint);
+        mouseMoved(dockableNorth, framePoint);
+        mouseMoved(dockableEast, framePoint);
+        mouseMoved(dockableSouth, framePoint);
+    }
+
+    private void mouseMoved(DockingHandle handle, Point framePoint) {
+        // only repaint the handles that have changed
+        if (handle.mouseMoved(framePoint)) {
+            handle.getPaintBounds(paintBounds);
+            frame.repaint(paintBounds.x, paintBounds.y, paintBounds.width, paintBounds.height);
+        }
     }
 
-    private void setupHandle(JFrame frame, DockingHandle label) {
+    private void setupHandle(Container frame, DockingHandle label) {
         label.setVisible(false);
         frame.add(label);
     }
@@ -136,8 +155,7 @@ public class DockableHandles {
         }
 
         if (((Component) targetDockable).getParent() != null) {
-            Point location = ((Component) targetDockable).getLocation();
-            Dimension size = ((Component) targetDockable).getSize();
+            Component display = (Component) targetDockable;
 
             // if this dockable is wrapped in a JScrollPane we need to set the handle to the center of the JScrollPane
             // not to the center of the dockable (which will more than likely be at a different location)
@@ -149,19 +167,15 @@ public class DockableHandles {
                 }
 
                 if (parent != null) {
-                    JScrollPane display = (JScrollPane) parent;
-
-                    location = display.getLocation();
-                    size = display.getSize();
+                    display = parent;
                 }
             }
 
-            location.x += size.width / 2;
-            location.y += size.height / 2;
+            location.setLocation(display.getX() + (display.getWidth() / 2), display.getY() + (display.getHeight() / 2));
 
             location.y -= (int) (HANDLE_ICON_SIZE * (1.75/2));
 
-            SwingUtilities.convertPointToScreen(location, ((Component) targetDockable).getParent());
+            SwingUtilities.convertPointToScreen(location, display.getParent());
             SwingUtilities.convertPointFromScreen(location, frame);
 
             setLocation(dockableCenter, location.x, location.y);
@@ -192,66 +206,30 @@ public class DockableHandles {
      * @param g2 The graphics instance
      */
     public void paint(Graphics2D g2) {
-        int centerX = dockableCenter.getX() + (dockableCenter.getWidth() / 2);
-        int centerY = dockableCenter.getY() + (dockableCenter.getWidth() / 2);
+        if (targetDockable == null) {
+            return;
+        }
 
-        int spacing = handleSpacing(dockableCenter) - dockableCenter.getWidth();
-        int half_icon = dockableCenter.getWidth() / 2;
-        int one_and_a_half_icons = (int) (dockableCenter.getWidth() * 1.5);
+        getPaintBounds(paintBounds);
+
+        // nothing to do if the handles are outside the area being repainted
+        if (!g2.hitClip(paintBounds.x, paintBounds.y, paintBounds.width, paintBounds.height)) {
+            return;
+        }
+
+        updateBackground();
 
-        // create a polygon of the docking handles background
-        Polygon poly = new Polygon(
-                new int[] {
-                        centerX - half_icon - spacing,
-                        centerX + half_icon + spacing,
-                        centerX + half_icon + spacing,
-                        centerX + half_icon + (spacing * 2),
-                        centerX + one_and_a_half_icons + (spacing * 2),
-                        centerX + one_and_a_half_icons + (spacing * 2),
-                        centerX + half_icon + (spacing * 2),
-                        centerX + half_icon + spacing,
-                        centerX + half_icon + spacing,
-                        centerX - half_icon - spacing,
-                        centerX - half_icon - spacing,
-                        centerX - half_icon - (spacing * 2),
-                        centerX - one_and_a_half_icons - (spacing * 2),
-                        centerX - one_and_a_half_icons - (spacing * 2),
-                        centerX - half_icon - (spacing * 2),
-                        centerX - half_icon - spacing,
-                        centerX - half_icon - spacing
-                },
-                new int[] {
-                        centerY - one_and_a_half_icons - (spacing * 2),
-                        centerY - one_and_a_half_icons - (spacing * 2),
-                        centerY - half_icon - (spacing * 2),
-                        centerY - half_icon - spacing,
-                        centerY - half_icon - spacing,
-                        centerY + half_icon + spacing,
-                        centerY + half_icon + spacing,
-                        centerY + half_icon + (spacing * 2),
-                        centerY + one_and_a_half_icons + (spacing * 2),
-                        centerY + one_and_a_half_icons + (spacing * 2),
-                        centerY + half_icon + (spacing * 2),
-                        centerY + half_icon + spacing,
-                        centerY + half_icon + spacing,
-                        centerY - half_icon - spacing,
-                        centerY - half_icon - spacing,
-                        centerY - half_icon - (spacing * 2),
-                        centerY - one_and_a_half_icons - (spacing * 2),
-                },
-                17
-        );
         Color background = DockingSettings.getHandleBackground();//DockingProperties.getHandlesBackground();
         Color border = DockingSettings.getHandleForeground();//DockingProperties.getHandlesBackgroundBorder();
 
         // draw the dockable handles background over the root handles in case they overlap
         // fill the dockable handles background
         g2.setColor(background);
-        g2.fillPolygon(poly.xpoints, poly.ypoints, poly.npoints);
+        g2.fillPolygon(backgroundShape.xpoints, backgroundShape.ypoints, backgroundShape.npoints);
 
         // draw the dockable handles border
         g2.setColor(border);
-        g2.drawPolygon(poly.xpoints, poly.ypoints, poly.npoints);
+        g2.drawPolygon(backgroundShape.xpoints, backgroundShape.ypoints, backgroundShape.npoints);
 
         // draw the docking handles over the docking handles background
         dockableCenter.paintHandle(g2);
@@ -261,6 +239,74 @@ public class DockableHandles {
         dockableSouth.paintHandle(g2);
     }
 
+    /**
+     * Get the area that the handles paint in, including their shared background
+     *
+     * @param bounds Rectangle to store the paint bounds in, in frame coordinates
+     */
+    public void getPaintBounds(Rectangle bounds) {
+        int centerX = dockableCenter.getX() + (dockableCenter.getWidth() / 2);
+        int centerY = dockableCenter.getY() + (dockableCenter.getWidth() / 2);
+
+        int spacing = handleSpacing(dockableCenter) - dockableCenter.getWidth();
+        int one_and_a_half_icons = (int) (dockableCenter.getWidth() * 1.5);
+        int extent = one_and_a_half_icons + (spacing * 2);
+
+        // the border is drawn one pixel past the polygon bounds
+        bounds.setBounds(centerX - extent, centerY - extent, (extent * 2) + 1, (extent * 2) + 1);
+    }
+
+    // update the polygon of the docking handles background for the current handle locations
+    private void updateBackground() {
+        int centerX = dockableCenter.getX() + (dockableCenter.getWidth() / 2);
+        int centerY = dockableCenter.getY() + (dockableCenter.getWidth() / 2);
+
+        int spacing = handleSpacing(dockableCenter) - dockableCenter.getWidth();
+        int half_icon = dockableCenter.getWidth() / 2;
+        int one_and_a_half_icons = (int) (dockableCenter.getWidth() * 1.5);
+
+        int[] x = backgroundShape.xpoints;
+        int[] y = backgroundShape.ypoints;
+
+        x[0] = centerX - half_icon - spacing;
+        x[1] = centerX + half_icon + spacing;
+        x[2] = centerX + half_icon + spacing;
+        x[3] = centerX + half_icon + (spacing * 2);
+        x[4] = centerX + one_and_a_half_icons + (spacing * 2);
+        x[5] = centerX + one_and_a_half_icons + (spacing * 2);
+        x[6] = centerX + half_icon + (spacing * 2);
+        x[7] = centerX + half_icon + spacing;
+        x[8] = centerX + half_icon + spacing;
+        x[9] = centerX - half_icon - spacing;
+        x[10] = centerX - half_icon - spacing;
+        x[11] = centerX - half_icon - (spacing * 2);
+        x[12] = centerX - one_and_a_half_icons - (spacing * 2);
+        x[13] = centerX - one_and_a_half_icons - (spacing * 2);
+        x[14] = centerX - half_icon - (spacing * 2);
+        x[15] = centerX - half_icon - spacing;
+        x[16] = centerX - half_icon - spacing;
+
+        y[0] = centerY - one_and_a_half_icons - (spacing * 2);
+        y[1] = centerY - one_and_a_half_icons - (spacing * 2);
+        y[2] = centerY - half_icon - (spacing * 2);
+        y[3] = centerY - half_icon - spacing;
+        y[4] = centerY - half_icon - spacing;
+        y[5] = centerY + half_icon + spacing;
+        y[6] = centerY + half_icon + spacing;
+        y[7] = centerY + half_icon + (spacing * 2);
+        y[8] = centerY + one_and_a_half_icons + (spacing * 2);
+        y[9] = centerY + one_and_a_half_icons + (spacing * 2);
+        y[10] = centerY + half_icon + (spacing * 2);
+        y[11] = centerY + half_icon + spacing;
+        y[12] = centerY + half_icon + spacing;
+        y[13] = centerY - half_icon - spacing;
+        y[14] = centerY - half_icon - spacing;
+        y[15] = centerY - half_icon - (spacing * 2);
+        y[16] = centerY - one_and_a_half_icons - (spacing * 2);
+
+        backgroundShape.invalidate();
+    }
+
     private int handleSpacing(JLabel handle) {
         return handle.getWidth() + 8;
     }
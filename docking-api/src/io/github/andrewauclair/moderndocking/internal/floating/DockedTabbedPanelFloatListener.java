@@ -63,6 +63,23 @@ public class DockedTabbedPanelFloatListener extends FloatListener {
         this.tabs = tabs;
     }
 
+    @Override
+    public void startDrag(DragGestureEvent dragGestureEvent) {
+        // a single drag gesture is shared by the tab group and all of its tabs. if the drag started on a tab, hand it
+        // to the float listener of that dockable, the drag then uses our drag source
+        Point dragOrigin = new Point(dragGestureEvent.getDragOrigin());
+        SwingUtilities.convertPointToScreen(dragOrigin, dragGestureEvent.getComponent());
+
+        int targetTabIndex = tabs.getTargetTabIndex(dragOrigin);
+
+        if (targetTabIndex != -1) {
+            tabs.getDockables().get(targetTabIndex).getFloatListener().startDrag(dragGestureEvent);
+        }
+        else {
+            super.startDrag(dragGestureEvent);
+        }
+    }
+
     @Override
     protected boolean allowDrag(DragGestureEvent dragGestureEvent) {
         // if we're dragging from a tab then we need to use the normal drag event
@@ -94,7 +111,7 @@ public class DockedTabbedPanelFloatListener extends FloatListener {
 
         List<DockableWrapper> wrappers = new ArrayList<>(tabs.getDockables());
 
-        return new TempFloatingFrame(wrappers, tabs.getSelectedTabIndex(), tabs, tabs.getSize());
+        return TempFloatingFrame.display(wrappers, tabs.getSelectedTabIndex(), tabs, tabs.getSize());
     }
 
     @Override
@@ -105,6 +122,10 @@ public class DockedTabbedPanelFloatListener extends FloatListener {
 
         Floating.setFloatingTabbedPane(false);
 
+        if (isDropOnDraggedPanel(mousePosOnScreen)) {
+            return false;
+        }
+
         TempFloatingFrame tempFloatingFrame = (TempFloatingFrame) floatingFrame;
 
         List<DockableWrapper> dockables = new ArrayList<>(tempFloatingFrame.getDockables());
@@ -118,6 +139,8 @@ public class DockedTabbedPanelFloatListener extends FloatListener {
                 }
             }
 
+            undockForDrop();
+
             boolean first = true;
             Dockable firstDockable = null;
             FloatingFrame newFrame = null;
@@ -153,19 +176,27 @@ public class DockedTabbedPanelFloatListener extends FloatListener {
         Dockable firstDockable = null;
 
         Window targetWindow = DockingComponentUtils.findRootAtScreenPos(docking, mousePosOnScreen);
-        Dockable dockableAtPos = DockingComponentUtils.findDockableAtScreenPos(mousePosOnScreen, targetWindow);
+        Dockable dockableAtPos = getDropTargets().findDockableAtScreenPos(mousePosOnScreen, targetWindow);
         DockingRegion region = dockableAtPos == null ? DockingRegion.CENTER : utilsFrame.getDockableRegion(dockableAtPos, null, mousePosOnScreen);
 
         if (utilsFrame.isOverDockableHandle()) {
             region = utilsFrame.dockableHandle();
         }
 
-        for (DockableWrapper dockable : dockables) {
-            // don't allow dockables that are limited to their window to move to another window
-            if (targetWindow != originalWindow) {
-                return false;
-            }
+        // don't allow dockables that are limited to their window to move to another window
+        if (targetWindow != originalWindow) {
+            return false;
+        }
 
+        // nowhere to dock the group
+        if (!utilsFrame.isOverRootHandle() && dockableAtPos == null) {
+            return false;
+        }
+
+        // the drop target has been found, the dockables can be moved now if they were kept docked during the drag
+        undockForDrop();
+
+        for (DockableWrapper dockable : dockables) {
             if (first) {
                 if (utilsFrame.isOverRootHandle()) {
                     docking.dock(dockable.getDockable(), targetWindow, utilsFrame.rootHandleRegion());
@@ -28,6 +28,7 @@ import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.Stroke;
 import javax.swing.JLabel;
 
@@ -40,6 +41,11 @@ public class DockingHandle extends JLabel {
 	 */
 	public static final int HANDLE_ICON_SIZE = 32;
 
+	/**
+	 * Extra space around the handle that is painted, to fit the background of root and pin handles
+	 */
+	static final int PAINT_PADDING = 9;
+
 	private static final Stroke dashed = new BasicStroke(1, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0, new float[]{3}, 0);
 
 	/**
@@ -96,9 +102,24 @@ public class DockingHandle extends JLabel {
 	 * Mouse has moved on the screen
 	 *
 	 * @param mousePosition The new mouse position
+	 *
+	 * @return True if the handle needs to be repainted because the mouse moved on or off of it
+	 */
+	public boolean mouseMoved(Point mousePosition) {
+		boolean wasMouseOver = mouseOver;
+		mouseOver = mousePosition.x >= getX() && mousePosition.x < getX() + getWidth() &&
+				mousePosition.y >= getY() && mousePosition.y < getY() + getHeight();
+
+		return isVisible() && wasMouseOver != mouseOver;
+	}
+
+	/**
+	 * Get the area that this handle paints in, including the background of root and pin handles
+	 *
+	 * @param bounds Rectangle to store the paint bounds in, in frame coordinates
 	 */
-	public void mouseMoved(Point mousePosition) {
-		mouseOver = getBounds().contains(mousePosition);
+	public void getPaintBounds(Rectangle bounds) {
+		bounds.setBounds(getX() - PAINT_PADDING, getY() - PAINT_PADDING, getWidth() + (PAINT_PADDING * 2), getHeight() + (PAINT_PADDING * 2));
 	}
 
 	/**
@@ -150,6 +171,35 @@ public class DockingHandle extends JLabel {
 			return;
 		}
 
+		int x = getX() - PAINT_PADDING;
+		int y = getY() - PAINT_PADDING;
+		int size = HANDLE_ICON_SIZE + (PAINT_PADDING * 2);
+
+		// nothing to do if this handle is outside the area being repainted
+		if (!g2.hitClip(x, y, size, size)) {
+			return;
+		}
+
+		g2.drawImage(HandleSprites.getSprite(g2, this, size), x, y, size, size, null);
+	}
+
+	/**
+	 * Key used to cache the artwork for this handle. Handles with the same key look identical
+	 *
+	 * @return Sprite key
+	 */
+	int getSpriteKey() {
+		return (region.ordinal() << 3) | (isRoot ? 4 : 0) | (isPin ? 2 : 0) | (mouseOver ? 1 : 0);
+	}
+
+	/**
+	 * Draw the handle artwork, used to render the cached sprites
+	 *
+	 * @param g2 Graphics to draw with
+	 * @param originX X position of the handle
+	 * @param originY Y position of the handle
+	 */
+	void drawHandle(Graphics2D g2, int originX, int originY) {
 		Color background = DockingSettings.getHandleBackground();
 		Color hover = DockingSettings.getHandleForeground();
 		Color outline = DockingSettings.getHandleForeground();
@@ -158,18 +208,18 @@ public class DockingHandle extends JLabel {
 		// the dockables all share one big root that is drawn in DockingHandles
 		if (isRoot || isPin) {
 			g2.setColor(background);
-			drawBackground(g2);
+			drawBackground(g2, originX, originY);
 		}
 
 		if (mouseOver && isPin) {
 			int quarterWidth = getWidth() / 4;
-			int x1 = getX() + quarterWidth;
+			int x1 = originX + quarterWidth;
 
-			g2.fillRect(x1, getY(), getWidth() / 2, getHeight() / 2);
+			g2.fillRect(x1, originY, getWidth() / 2, getHeight() / 2);
 		}
 		else if (mouseOver) {
 			g2.setColor(hover);
-			fillMouseOverRegion(g2);
+			fillMouseOverRegion(g2, originX, originY);
 		}
 
 		// draw the outline over the mouse over
@@ -177,34 +227,34 @@ public class DockingHandle extends JLabel {
 
 		// only draw the dashed line if the region isn't center and these are not root handles
 		if (region != DockingRegion.CENTER && !isRoot && !isPin) {
-			drawDashedLine(g2);
+			drawDashedLine(g2, originX, originY);
 		}
 
 		if (isRoot && region != DockingRegion.CENTER) {
-			drawRootOutline(g2);
+			drawRootOutline(g2, originX, originY);
 		}
 		else if (isPin) {
 			int quarterWidth = getWidth() / 4;
-			int x1 = getX() + quarterWidth;
+			int x1 = originX + quarterWidth;
 
-			g2.drawLine(x1, getY(), x1 + (getWidth() / 2), getY());
-			g2.drawLine(x1, getY()+ (getHeight() / 2), x1 + (getWidth() / 2), getY()+ (getHeight() / 2));
+			g2.drawLine(x1, originY, x1 + (getWidth() / 2), originY);
+			g2.drawLine(x1, originY+ (getHeight() / 2), x1 + (getWidth() / 2), originY+ (getHeight() / 2));
 
-			g2.drawLine(x1, getY(), x1, getY() + (getHeight() / 2));
-			g2.drawLine(x1 + (getWidth() / 2), getY(), x1 + (getWidth() / 2), getY() + (getHeight() / 2));
+			g2.drawLine(x1, originY, x1, originY + (getHeight() / 2));
+			g2.drawLine(x1 + (getWidth() / 2), originY, x1 + (getWidth() / 2), originY + (getHeight() / 2));
 
-			g2.drawLine(x1 + quarterWidth, getY() + (getHeight() / 2), x1 + quarterWidth, getY() + (getHeight()));
+			g2.drawLine(x1 + quarterWidth, originY + (getHeight() / 2), x1 + quarterWidth, originY + (getHeight()));
 		}
 		else {
-			g2.drawRect(getX(), getY(), getWidth(), getHeight());
+			g2.drawRect(originX, originY, getWidth(), getHeight());
 		}
 	}
 
-	private void drawBackground(Graphics g) {
+	private void drawBackground(Graphics g, int originX, int originY) {
 		int spacing = 8;
 
-		int x = getX() - spacing;
-		int y = getY() - spacing;
+		int x = originX - spacing;
+		int y = originY - spacing;
 		int width = getWidth() + (spacing * 2);
 		int height = getHeight() + (spacing * 2);
 
@@ -216,47 +266,47 @@ public class DockingHandle extends JLabel {
 		g.drawRect(x, y, width, height);
 	}
 
-	private void drawRootOutline(Graphics g) {
+	private void drawRootOutline(Graphics g, int originX, int originY) {
 		boolean north = region == DockingRegion.NORTH;
 		boolean south = region == DockingRegion.SOUTH;
 		boolean east = region == DockingRegion.EAST;
 
 		int halfWidth = getWidth() / 2;
 
-		int x = east ? getX() + halfWidth : getX();
-		int y = south ? getY() + halfWidth : getY();
+		int x = east ? originX + halfWidth : originX;
+		int y = south ? originY + halfWidth : originY;
 		int width = north || south ? getWidth() : halfWidth;
 		int height = north || south ? halfWidth : getHeight();
 
 		if (region == DockingRegion.CENTER) {
-			g.drawRect(getX(), getY(), getWidth(), getHeight());
+			g.drawRect(originX, originY, getWidth(), getHeight());
 		}
 		else {
 			g.drawRect(x, y, width, height);
 		}
 	}
 
-	private void fillMouseOverRegion(Graphics g) {
+	private void fillMouseOverRegion(Graphics g, int originX, int originY) {
 		boolean north = region == DockingRegion.NORTH;
 		boolean south = region == DockingRegion.SOUTH;
 		boolean east = region == DockingRegion.EAST;
 
 		int halfWidth = getWidth() / 2;
 
-		int x = east ? getX() + halfWidth : getX();
-		int y = south ? getY() + halfWidth : getY();
+		int x = east ? originX + halfWidth : originX;
+		int y = south ? originY + halfWidth : originY;
 		int width = north || south ? getWidth() : halfWidth;
 		int height = north || south ? halfWidth : getHeight();
 
 		if (region == DockingRegion.CENTER) {
-			g.fillRect(getX(), getY(), getWidth(), getHeight());
+			g.fillRect(originX, originY, getWidth(), getHeight());
 		}
 		else {
 			g.fillRect(x, y, width, height);
 		}
 	}
 
-	private void drawDashedLine(Graphics2D g2) {
+	private void drawDashedLine(Graphics2D g2, int originX, int originY) {
 		Stroke currentStroke = g2.getStroke();
 
 		g2.setStroke(dashed);
@@ -266,13 +316,13 @@ public class DockingHandle extends JLabel {
 
 		int halfWidth = getWidth() / 2;
 
-		int x = north || south ? getX() : getX() + halfWidth;
-		int y = north || south ? getY() + halfWidth : getY();
-		int x2 = north || south ? getX() + getWidth() : getX() + halfWidth;
-		int y2 = north || south ? getY() + halfWidth : getY() + getHeight();
+		int x = north || south ? originX : originX + halfWidth;
+		int y = north || south ? originY + halfWidth : originY;
+		int x2 = north || south ? originX + getWidth() : originX + halfWidth;
+		int y2 = north || south ? originY + halfWidth : originY + getHeight();
 
 		if (region == DockingRegion.CENTER) {
-			g2.drawLine(getX(), getY(), getWidth(), getHeight());
+			g2.drawLine(originX, originY, getWidth(), getHeight());
 		}
 		else {
 			g2.drawLine(x, y, x2, y2);
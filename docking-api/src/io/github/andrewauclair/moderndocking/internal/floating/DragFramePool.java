@@ -0,0 +1,104 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal.floating;
+
+import io.github.andrewauclair.moderndocking.event.DragFramePoolMetrics;
+import io.github.andrewauclair.moderndocking.settings.Settings;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Pool of the temporary frames used while dragging. Creating a native window is expensive on some platforms, so
+ * the frames are hidden and kept for the next drag instead of being disposed
+ */
+public class DragFramePool {
+    private static final Deque<TempFloatingFrame> idleFrames = new ArrayDeque<>();
+
+    private static int framesCreated = 0;
+    private static int framesReused = 0;
+
+    /**
+     * Unused. All methods are static
+     */
+    private DragFramePool() {
+    }
+
+    /**
+     * Take a frame from the pool, creating a new frame if the pool is empty
+     *
+     * @return Hidden, empty frame
+     */
+    public static TempFloatingFrame obtain() {
+        TempFloatingFrame frame = idleFrames.poll();
+
+        if (frame == null) {
+            framesCreated++;
+            return new TempFloatingFrame();
+        }
+        framesReused++;
+        return frame;
+    }
+
+    /**
+     * Return a frame to the pool once the drag has finished. The frame is disposed if the pool is full
+     *
+     * @param frame The frame to return
+     */
+    public static void release(TempFloatingFrame frame) {
+        frame.reset();
+
+        if (idleFrames.size() < Settings.getDragFramePoolSize() && !idleFrames.contains(frame)) {
+            idleFrames.push(frame);
+        }
+        else {
+            frame.dispose();
+        }
+    }
+
+    /**
+     * Create frames ahead of time, so that the first drags don't have to wait for native windows to be created
+     *
+     * @param count Number of frames to have ready. Limited to the pool size
+     */
+    public static void prewarm(int count) {
+        int target = Math.min(count, Settings.getDragFramePoolSize());
+
+        while (idleFrames.size() < target) {
+            TempFloatingFrame frame = new TempFloatingFrame();
+
+            // create the native window without displaying it
+            frame.addNotify();
+
+            framesCreated++;
+            idleFrames.push(frame);
+        }
+    }
+
+    /**
+     * Get the current metrics of the pool
+     *
+     * @return Pool metrics
+     */
+    public static DragFramePoolMetrics getMetrics() {
+        return new DragFramePoolMetrics(idleFrames.size(), Settings.getDragFramePoolSize(), framesCreated, framesReused);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal.floating;
+
+import io.github.andrewauclair.moderndocking.Dockable;
+import io.github.andrewauclair.moderndocking.api.DockingAPI;
+import io.github.andrewauclair.moderndocking.exception.NotDockedException;
+import io.github.andrewauclair.moderndocking.internal.DockableWrapper;
+import io.github.andrewauclair.moderndocking.internal.DockingInternal;
+import java.awt.Point;
+
+/**
+ * Drives the float listeners with mouse positions that don't come from a native drag and drop operation. Used to
+ * measure the drag pipeline with recorded or generated drags, for example under a virtual display with no mouse.
+ * <p>
+ * All methods must be called on the EDT, the same as drag source events would be.
+ */
+public class DragReplay {
+    private static FloatListener activeListener = null;
+
+    /**
+     * Unused. All methods are static
+     */
+    private DragReplay() {
+    }
+
+    /**
+     * Start dragging a dockable, as if the mouse had been pressed on its header and dragged
+     *
+     * @param docking The docking instance the dockable belongs to
+     * @param dockable The dockable to drag. Must be docked and showing
+     * @param mousePosOnScreen The position of the mouse on screen when the drag starts
+     *
+     * @return True if the drag was started, false if there is already a drag in progress
+     */
+    public static boolean begin(DockingAPI docking, Dockable dockable, Point mousePosOnScreen) {
+        if (!docking.isDocked(dockable)) {
+            throw new NotDockedException("Unable to replay drag of dockable with persistent ID '" + dockable.getPersistentID() + "'", dockable);
+        }
+        if (activeListener != null || Floating.isFloating()) {
+            return false;
+        }
+
+        DockableWrapper wrapper = DockingInternal.get(docking).getWrapper(dockable);
+        FloatListener listener = wrapper.getFloatListener();
+
+        if (!listener.beginReplay(mousePosOnScreen)) {
+            return false;
+        }
+        activeListener = listener;
+        return true;
+    }
+
+    /**
+     * Move the mouse during the current replayed drag
+     *
+     * @param mousePosOnScreen The new position of the mouse on screen
+     */
+    public static void motion(Point mousePosOnScreen) {
+        if (activeListener != null) {
+            activeListener.replayMotion(mousePosOnScreen.x, mousePosOnScreen.y);
+        }
+    }
+
+    /**
+     * Drop the dockable of the current replayed drag
+     *
+     * @param mousePosOnScreen The position of the mouse on screen at the drop
+     */
+    public static void end(Point mousePosOnScreen) {
+        if (activeListener == null) {
+            return;
+        }
+        FloatListener listener = activeListener;
+        activeListener = null;
+
+        listener.endReplay(mousePosOnScreen);
+    }
+
+    /**
+     * Check if a replayed drag is in progress
+     *
+     * @return Is there a replayed drag in progress?
+     */
+    public static boolean isActive() {
+        return activeListener != null;
+    }
+}
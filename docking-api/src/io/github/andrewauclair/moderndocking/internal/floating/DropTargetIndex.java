@@ -0,0 +1,242 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal.floating;
+
+import io.github.andrewauclair.moderndocking.Dockable;
+import io.github.andrewauclair.moderndocking.internal.CustomTabbedPane;
+import io.github.andrewauclair.moderndocking.internal.DisplayPanel;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.Window;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.swing.JLayeredPane;
+import javax.swing.SwingUtilities;
+
+/**
+ * Snapshot of the drop targets of each window, used for hit-testing while a drag is in progress.
+ * <p>
+ * The first time a window is queried, its display panels and tabbed panes are collected into a grid of window relative
+ * rectangles. The contents of display panels are never searched, so the cost of a lookup doesn't depend on the
+ * component depth of the dockables. A window is collected again if its size changes.
+ */
+public class DropTargetIndex {
+    /**
+     * The size of a single grid cell, in pixels
+     */
+    private static final int CELL_SIZE = 64;
+
+    private final Map<Window, WindowTargets> windows = new HashMap<>();
+
+    // the panel being dragged, when it stays in the layout during the drag. it's never a drop target
+    private Component excluded = null;
+
+    /**
+     * Create a new empty index
+     */
+    public DropTargetIndex() {
+    }
+
+    /**
+     * Throw away all collected windows and the excluded panel. Called at the start and end of a drag
+     */
+    public void clear() {
+        windows.clear();
+        excluded = null;
+    }
+
+    /**
+     * Leave a panel and its contents out of the drop targets. Used when the dragged panel stays in the layout during the drag
+     *
+     * @param panel The panel to exclude
+     */
+    public void exclude(Component panel) {
+        excluded = panel;
+        windows.clear();
+    }
+
+    /**
+     * Find the dockable at a given screen position, limited to a single window
+     *
+     * @param screenPos Screen position to check for a dockable at
+     * @param window The window to check
+     *
+     * @return Dockable under the screen position, or null if none is found
+     */
+    public Dockable findDockableAtScreenPos(Point screenPos, Window window) {
+        Component component = find(screenPos, window, DisplayPanel.class);
+
+        if (component == null) {
+            return null;
+        }
+        return ((DisplayPanel) component).getWrapper().getDockable();
+    }
+
+    /**
+     * Find the tabbed pane at a given screen position, limited to a single window
+     *
+     * @param screenPos Screen position to check for a tabbed pane at
+     * @param window The window to check
+     *
+     * @return Tabbed pane under the screen position, or null if none is found
+     */
+    public CustomTabbedPane findTabbedPaneAtPos(Point screenPos, Window window) {
+        return (CustomTabbedPane) find(screenPos, window, CustomTabbedPane.class);
+    }
+
+    private Component find(Point screenPos, Window window, Class<?> type) {
+        if (window == null) {
+            return null;
+        }
+
+        WindowTargets targets = windows.get(window);
+
+        if (targets == null || targets.width != window.getWidth() || targets.height != window.getHeight()) {
+            targets = new WindowTargets(window, excluded);
+            windows.put(window, targets);
+        }
+
+        return targets.find(screenPos.x - window.getX(), screenPos.y - window.getY(), type);
+    }
+
+    /**
+     * A single target. Targets without a component block the targets below them, i.e. popups in the layered pane
+     */
+    private static class Target {
+        private final Component component;
+        private final Rectangle bounds;
+
+        private Target(Component component, Rectangle bounds) {
+            this.component = component;
+            this.bounds = bounds;
+        }
+    }
+
+    /**
+     * The targets of a single window. Targets are stored in the same order that Swing searches for the deepest component,
+     * so the first target that contains a point is the one on top.
+     */
+    private static class WindowTargets {
+        private final int width;
+        private final int height;
+        private final int columns;
+        private final int rows;
+        private final List<List<Target>> cells = new ArrayList<>();
+
+        private WindowTargets(Window window, Component excluded) {
+            // make sure that any pending layout (i.e. from undocking the dragged dockable) is done before we record bounds
+            window.validate();
+
+            width = window.getWidth();
+            height = window.getHeight();
+            columns = Math.max(1, (width + CELL_SIZE - 1) / CELL_SIZE);
+            rows = Math.max(1, (height + CELL_SIZE - 1) / CELL_SIZE);
+
+            for (int i = 0; i < columns * rows; i++) {
+                cells.add(null);
+            }
+
+            collect(window, window, excluded);
+        }
+
+        private void collect(Window window, Container container, Component excluded) {
+            for (Component component : container.getComponents()) {
+                if (!component.isVisible() || component == excluded) {
+                    continue;
+                }
+
+                if (component instanceof DisplayPanel) {
+                    // never look inside the display panel. its contents are application components
+                    add(component, boundsInWindow(window, component));
+                    continue;
+                }
+
+                if (component instanceof CustomTabbedPane) {
+                    add(component, boundsInWindow(window, component));
+                }
+
+                if (component instanceof Container) {
+                    collect(window, (Container) component, excluded);
+                }
+
+                // anything above the content layer (i.e. an auto hide panel) hides the targets below it
+                if (container instanceof JLayeredPane && ((JLayeredPane) container).getLayer(component) > JLayeredPane.FRAME_CONTENT_LAYER) {
+                    add(null, boundsInWindow(window, component));
+                }
+            }
+        }
+
+        private Rectangle boundsInWindow(Window window, Component component) {
+            return SwingUtilities.convertRectangle(component.getParent(), component.getBounds(), window);
+        }
+
+        private void add(Component component, Rectangle bounds) {
+            Target target = new Target(component, bounds);
+
+            int firstColumn = Math.max(0, bounds.x / CELL_SIZE);
+            int lastColumn = Math.min(columns - 1, (bounds.x + bounds.width) / CELL_SIZE);
+            int firstRow = Math.max(0, bounds.y / CELL_SIZE);
+            int lastRow = Math.min(rows - 1, (bounds.y + bounds.height) / CELL_SIZE);
+
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int column = firstColumn; column <= lastColumn; column++) {
+                    int index = (row * columns) + column;
+
+                    if (cells.get(index) == null) {
+                        cells.set(index, new ArrayList<>());
+                    }
+                    cells.get(index).add(target);
+                }
+            }
+        }
+
+        private Component find(int x, int y, Class<?> type) {
+            if (x < 0 || y < 0 || x >= width || y >= height) {
+                return null;
+            }
+
+            List<Target> cell = cells.get(((y / CELL_SIZE) * columns) + (x / CELL_SIZE));
+
+            if (cell == null) {
+                return null;
+            }
+
+            for (Target target : cell) {
+                if (!target.bounds.contains(x, y)) {
+                    continue;
+                }
+                if (target.component == null) {
+                    // covered by something that isn't a drop target
+                    return null;
+                }
+                if (type.isInstance(target.component)) {
+                    return target.component;
+                }
+            }
+            return null;
+        }
+    }
+}
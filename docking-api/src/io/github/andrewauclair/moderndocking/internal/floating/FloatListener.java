@@ -25,14 +25,16 @@ import io.github.andrewauclair.moderndocking.api.DockingAPI;
 import io.github.andrewauclair.moderndocking.internal.DisplayPanel;
 import io.github.andrewauclair.moderndocking.internal.DockedTabbedPanel;
 import io.github.andrewauclair.moderndocking.internal.DockingComponentUtils;
+import io.github.andrewauclair.moderndocking.internal.DockingInternal;
 import io.github.andrewauclair.moderndocking.internal.InternalRootDockingPanel;
+import io.github.andrewauclair.moderndocking.internal.LayoutTimingRecorder;
 import io.github.andrewauclair.moderndocking.layouts.WindowLayout;
+import io.github.andrewauclair.moderndocking.settings.Settings;
 
 import java.awt.*;
 import java.awt.datatransfer.StringSelection;
 import java.awt.dnd.DnDConstants;
 import java.awt.dnd.DragGestureEvent;
-import java.awt.dnd.DragGestureListener;
 import java.awt.dnd.DragGestureRecognizer;
 import java.awt.dnd.DragSource;
 import java.awt.dnd.DragSourceAdapter;
@@ -41,6 +43,8 @@ import java.awt.dnd.DragSourceDropEvent;
 import java.awt.dnd.DragSourceListener;
 import java.awt.dnd.DragSourceMotionListener;
 import java.awt.dnd.InvalidDnDOperationException;
+import java.util.ArrayList;
+import java.util.List;
 import javax.swing.JComponent;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
@@ -54,8 +58,8 @@ public abstract class FloatListener extends DragSourceAdapter implements DragSou
 	private final JPanel panel;
 	private final JComponent dragComponent;
 
-	// our drag source to support dragging the dockables
-	private final DragSource dragSource = new DragSource();
+	// our drag source to support dragging the dockables. there is no drag and drop in a headless environment
+	private final DragSource dragSource = GraphicsEnvironment.isHeadless() ? null : new DragSource();
 
 	private Point dragComponentDragOffset = new Point();
 
@@ -65,7 +69,22 @@ public abstract class FloatListener extends DragSourceAdapter implements DragSou
 
 	private Window currentUtilWindow;
 	private FloatUtilsFrame currentUtilFrame;
-	private DragGestureRecognizer alternateDragGesture;
+	private DragGestureRecognizer dragGestureRecognizer;
+
+	// the source of the current drag. usually our own, but a tab group shares its drag source with its tabs
+	private DragSource activeDragSource;
+
+	// drop targets of the windows we've passed over during the current drag
+	private final DropTargetIndex dropTargets = new DropTargetIndex();
+
+	// drag motion waiting to be processed on the EDT
+	private final CoalescedDragMotion motion = new CoalescedDragMotion(this::draggedTo, false);
+
+	// true while the dragged dockables stay docked until the drop, see Settings.isDragPreviewEnabled
+	private boolean keptDocked = false;
+
+	// the contents of the panel that we hid while it's kept docked
+	private final List<Component> hiddenContents = new ArrayList<>();
 
 	/**
 	 * Create a new listener for a specific panel
@@ -104,39 +123,28 @@ public abstract class FloatListener extends DragSourceAdapter implements DragSou
 		this.panel = panel;
 		this.dragComponent = dragComponent;
 
-		if (dragComponent != null) {
+		if (dragComponent != null && dragSource != null) {
 			dragSource.addDragSourceMotionListener(this);
-			dragSource.createDefaultDragGestureRecognizer(dragComponent, DnDConstants.ACTION_MOVE, this::startDrag);
+			dragGestureRecognizer = dragSource.createDefaultDragGestureRecognizer(dragComponent, DnDConstants.ACTION_MOVE, this::startDrag);
 		}
 	}
 
 	/**
-	 * Add an alternate drag source, used for dragging from tabs
-	 *
-	 * @param dragComponent Drag component to add
-	 * @param listener The drag gesture listener to add
-	 */
-	public void addAlternateDragSource(JComponent dragComponent, DragGestureListener listener) {
-		alternateDragGesture = dragSource.createDefaultDragGestureRecognizer(dragComponent, DnDConstants.ACTION_MOVE, listener);
-	}
-
-	/**
-	 * Remove the alternate drag source
+	 * Get the panel that we're listening to
 	 *
-	 * @param listener The listener to remove
+	 * @return Dockable panel
 	 */
-	public void removeAlternateDragSource(DragGestureListener listener) {
-		alternateDragGesture.removeDragGestureListener(listener);
-		alternateDragGesture = null;
+	public JPanel getPanel() {
+		return panel;
 	}
 
 	/**
-	 * Get the panel that we're listening to
+	 * Get the drop targets for the current drag. Only valid while a drag is in progress
 	 *
-	 * @return Dockable panel
+	 * @return Drop target index
 	 */
-	public JPanel getPanel() {
-		return panel;
+	public DropTargetIndex getDropTargets() {
+		return dropTargets;
 	}
 
 	/**
@@ -162,22 +170,59 @@ public abstract class FloatListener extends DragSourceAdapter implements DragSou
 			return;
 		}
 
+		// the gesture might come from a recognizer shared with other listeners, the drag events go to its source
+		DragSource source = dragGestureEvent.getDragSource();
+
 		try {
-			dragSource.startDrag(dragGestureEvent, Cursor.getPredefinedCursor(Cursor.MOVE_CURSOR), new StringSelection(""), this);
+			source.startDrag(dragGestureEvent, Cursor.getPredefinedCursor(Cursor.MOVE_CURSOR), new StringSelection(""), this);
 		}
 		catch (InvalidDnDOperationException ignored) {
 			// someone beat us to it
 			return;
 		}
 
+		activeDragSource = source;
+
+		if (source != dragSource) {
+			source.addDragSourceMotionListener(this);
+		}
+
+		beginDrag(dragGestureEvent.getDragOrigin(), dragGestureEvent.getComponent());
+	}
+
+	/**
+	 * Start a drag without a native drag and drop operation. Motion and the drop are then supplied by
+	 * replayMotion and endReplay instead of the drag source. Must be called on the EDT
+	 *
+	 * @param mousePosOnScreen The position of the mouse on screen when the drag starts
+	 *
+	 * @return True if the drag was started
+	 */
+	boolean beginReplay(Point mousePosOnScreen) {
+		if (Floating.isFloating() || dragComponent == null || dragSource == null) {
+			return false;
+		}
+
+		Point dragOrigin = new Point(mousePosOnScreen);
+		SwingUtilities.convertPointFromScreen(dragOrigin, dragComponent);
+
+		activeDragSource = dragSource;
+
+		beginDrag(dragOrigin, dragComponent);
+
+		return true;
+	}
+
+	private void beginDrag(Point dragOrigin, Component dragOriginComponent) {
 		currentUtilWindow = null;
+		dropTargets.clear();
 
 		Floating.setFloating(true);
 
-		dragStarted(dragGestureEvent.getDragOrigin());
+		dragStarted(dragOrigin);
 
-		Point mouseOnScreen = new Point(dragGestureEvent.getDragOrigin());
-		SwingUtilities.convertPointToScreen(mouseOnScreen, dragGestureEvent.getComponent());
+		Point mouseOnScreen = new Point(dragOrigin);
+		SwingUtilities.convertPointToScreen(mouseOnScreen, dragOriginComponent);
 
 		updateFramePosition(mouseOnScreen);
 	}
@@ -191,7 +236,27 @@ public abstract class FloatListener extends DragSourceAdapter implements DragSou
 
 		originalWindow = getOriginalWindow();
 
-		originalWindowLayout = docking.getDockingState().getWindowLayout(originalWindow);
+		keptDocked = Settings.isDragPreviewEnabled();
+
+		if (keptDocked) {
+			// the drag frame shows an image of the panel, leave the panel where it is until the drop. nothing changes in the
+			// layout, so there's no need to snapshot it, we only hide the contents of the panel and leave it out of the drop targets
+			floatingFrame = createFloatingFrame();
+
+			hideContents();
+			dropTargets.exclude(panel);
+			return;
+		}
+
+		// this snapshot is internal to the drag, don't report it to the layout timing listeners
+		LayoutTimingRecorder timings = DockingInternal.get(docking).getLayoutTimings();
+		timings.suppressReports();
+		try {
+			originalWindowLayout = docking.getDockingState().getWindowLayout(originalWindow);
+		}
+		finally {
+			timings.resumeReports();
+		}
 
 		floatingFrame = createFloatingFrame();
 
@@ -207,31 +272,119 @@ public abstract class FloatListener extends DragSourceAdapter implements DragSou
 		}
 	}
 
+	private void hideContents() {
+		for (Component component : panel.getComponents()) {
+			if (component.isVisible()) {
+				component.setVisible(false);
+				hiddenContents.add(component);
+			}
+		}
+	}
+
+	private void showContents() {
+		for (Component component : hiddenContents) {
+			component.setVisible(true);
+		}
+		hiddenContents.clear();
+	}
+
 	/**
-	 * Remove our drag source motion listener
+	 * Undock the dragged dockables if they were kept docked during the drag. Called by dropPanel once it has found
+	 * where to dock them, right before they are docked again
+	 */
+	protected void undockForDrop() {
+		if (!keptDocked) {
+			return;
+		}
+		keptDocked = false;
+
+		showContents();
+
+		undock();
+
+		DockingComponentUtils.removeIllegalFloats(docking, originalWindow);
+	}
+
+	/**
+	 * Check if the dragged dockables were kept docked during the drag and are being dropped back onto their own panel,
+	 * in which case the drop leaves them where they are
+	 *
+	 * @param mousePosOnScreen The position of the mouse on screen at the drop
+	 *
+	 * @return True if the drop should leave the dockables where they are
+	 */
+	protected boolean isDropOnDraggedPanel(Point mousePosOnScreen) {
+		if (!keptDocked || !panel.isShowing() || DockingComponentUtils.findRootAtScreenPos(docking, mousePosOnScreen) != originalWindow) {
+			return false;
+		}
+		return new Rectangle(panel.getLocationOnScreen(), panel.getSize()).contains(mousePosOnScreen);
+	}
+
+	/**
+	 * Remove our drag source motion listener and stop recognizing drags on the drag component
 	 */
 	public void removeListeners() {
-		dragSource.removeDragSourceMotionListener(this);
+		if (dragSource != null) {
+			dragSource.removeDragSourceMotionListener(this);
+		}
+
+		removeDragGesture();
+	}
+
+	/**
+	 * Stop recognizing new drags on the drag component. A drag that is already in progress is unaffected
+	 */
+	public void removeDragGesture() {
+		if (dragGestureRecognizer != null) {
+			dragGestureRecognizer.setComponent(null);
+			dragGestureRecognizer = null;
+		}
 	}
 
 	@Override
 	public void dragMouseMoved(DragSourceDragEvent event) {
+		// a shared drag source reports drags of other listeners to us as well
+		if (!Floating.isFloating() || floatingFrame == null) {
+			return;
+		}
+		motion.post(event.getX(), event.getY());
+	}
+
+	/**
+	 * Supply a new mouse position for a drag started with beginReplay. Behaves as if the drag source
+	 * had delivered a drag event to this listener and the active utility frame. Must be called on the EDT
+	 *
+	 * @param x The mouse X position on screen
+	 * @param y The mouse Y position on screen
+	 */
+	void replayMotion(int x, int y) {
 		if (!Floating.isFloating()) {
 			return;
 		}
-		updateFramePosition(event.getLocation());
+		motion.post(x, y);
+
+		if (currentUtilFrame != null) {
+			currentUtilFrame.replayMotion(x, y);
+		}
+	}
+
+	private void draggedTo(Point mousePosOnScreen) {
+		// the drag may have ended before we got a chance to process the motion
+		if (!Floating.isFloating() || floatingFrame == null) {
+			return;
+		}
+		updateFramePosition(mousePosOnScreen);
 	}
 
 	private void updateFramePosition(Point mousePosOnScreen) {
 		// update the frames position to our mouse position
-		Point framePos = new Point(mousePosOnScreen.x - dragComponentDragOffset.x, mousePosOnScreen.y - dragComponentDragOffset.y);
-		floatingFrame.setLocation(framePos);
+		floatingFrame.setLocation(mousePosOnScreen.x - dragComponentDragOffset.x, mousePosOnScreen.y - dragComponentDragOffset.y);
 
 		checkForFrameSwitch(mousePosOnScreen);
 	}
 
 	private void checkForFrameSwitch(Point mousePosOnScreen) {
-        if (currentUtilWindow != null && currentUtilWindow.getBounds().contains(mousePosOnScreen)) {
+        if (currentUtilWindow != null && DockingComponentUtils.contains(currentUtilWindow, mousePosOnScreen)) {
             // still in the same window, don't check for a root at screen position
             return;
         }
@@ -249,17 +402,40 @@ public abstract class FloatListener extends DragSourceAdapter implements DragSou
 			currentUtilFrame = Floating.frameForWindow(currentUtilWindow);
 
 			if (currentUtilFrame != null) {
-				currentUtilFrame.activate(this, floatingFrame, dragSource, mousePosOnScreen);
+				currentUtilFrame.activate(this, floatingFrame, activeDragSource, mousePosOnScreen);
 			}
 		}
 	}
 
 	@Override
 	public void dragDropEnd(DragSourceDropEvent event) {
+		dragEnded(event.getLocation());
+	}
+
+	/**
+	 * Drop a drag started with beginReplay. Must be called on the EDT
+	 *
+	 * @param mousePosOnScreen The position of the mouse on screen at the drop
+	 */
+	void endReplay(Point mousePosOnScreen) {
+		dragEnded(mousePosOnScreen);
+	}
+
+	private void dragEnded(Point mousePosOnScreen) {
 		if (!Floating.isFloating()) {
 			return;
 		}
-		dropFloatingPanel(event.getLocation());
+		// catch up on any motion we haven't processed so that the drop uses the final handles and overlay
+		motion.flush();
+
+		if (currentUtilFrame != null) {
+			currentUtilFrame.flushMotion();
+		}
+
+		dropFloatingPanel(mousePosOnScreen);
+
+		// the layout has changed, release the drop targets we collected
+		dropTargets.clear();
 
 		InternalRootDockingPanel currentRoot = DockingComponentUtils.rootForWindow(docking, originalWindow);
 
@@ -267,6 +443,15 @@ public abstract class FloatListener extends DragSourceAdapter implements DragSou
 			SwingUtilities.invokeLater(() -> originalWindow.dispose());
 		}
 
+		// the utility frame was deactivated by the drop, it stays hidden until a drag reaches a window again
+		currentUtilWindow = null;
+		currentUtilFrame = null;
+
+		if (activeDragSource != null && activeDragSource != dragSource) {
+			activeDragSource.removeDragSourceMotionListener(this);
+		}
+		activeDragSource = null;
+
 		Floating.setFloating(false);
 	}
 
@@ -281,14 +466,35 @@ public abstract class FloatListener extends DragSourceAdapter implements DragSou
 			currentUtilFrame.deactivate();
 		}
 
-		if (!docked) {
-			docking.getDockingState().restoreWindowLayout(originalWindow, originalWindowLayout);
+		if (keptDocked) {
+			// not dropped anywhere else, the layout hasn't changed
+			keptDocked = false;
+			showContents();
+		}
+		else if (!docked) {
+			// putting the window back the way it was is internal to the drag, don't report it to the layout timing listeners
+			LayoutTimingRecorder timings = DockingInternal.get(docking).getLayoutTimings();
+			timings.suppressReports();
+			try {
+				docking.getDockingState().restoreWindowLayout(originalWindow, originalWindowLayout);
+			}
+			finally {
+				timings.resumeReports();
+			}
 		}
 
+		JFrame frame = floatingFrame;
+		floatingFrame = null;
+
 		SwingUtilities.invokeLater(() -> {
-            floatingFrame.dispose();
-			floatingFrame = null;
-        });
+			// return our temporary frames to the pool so that the next drag doesn't need to create a new window
+			if (frame instanceof TempFloatingFrame) {
+				DragFramePool.release((TempFloatingFrame) frame);
+			}
+			else {
+				frame.dispose();
+			}
+		});
 	}
 
 	/**
@@ -299,7 +505,7 @@ public abstract class FloatListener extends DragSourceAdapter implements DragSou
 	protected abstract Window getOriginalWindow();
 
 	/**
-	 * Undock the dockable now that a drag has started
+	 * Undock the dockable now that a drag has started, or at the drop if it was kept docked during the drag
 	 */
 	protected abstract void undock();
 
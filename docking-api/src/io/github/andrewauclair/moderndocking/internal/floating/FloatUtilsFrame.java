@@ -46,17 +46,18 @@ import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
 
 /**
- * A special invisible frame that's used to provide docking handles and overlays
+ * A special invisible frame that's used to provide docking handles and overlays. A single frame is shared by all
+ * windows, it's moved to the window that the drag is over
  */
 public class FloatUtilsFrame extends JFrame implements DragSourceMotionListener, ComponentListener, WindowListener {
     /**
-     * The window this utility frame is tied to
+     * The window this utility frame is currently tied to
      */
-    private final Window referenceDockingWindow;
+    private Window referenceDockingWindow;
     /**
      * The internal root of the reference docking window
      */
-    private final InternalRootDockingPanel root;
+    private InternalRootDockingPanel root;
     /**
      * The root docking handles to render
      */
@@ -85,7 +86,15 @@ public class FloatUtilsFrame extends JFrame implements DragSourceMotionListener,
     /**
      * Handles to display on target dockables
      */
-    private DockableHandles dockableHandles;
+    private final DockableHandles dockableHandles;
+    /**
+     * Drag motion waiting to be processed on the EDT
+     */
+    private final CoalescedDragMotion motion = new CoalescedDragMotion(this::mouseMoved, true);
+    /**
+     * Scratch rectangle for repainting the dockable handles
+     */
+    private final Rectangle handleBounds = new Rectangle();
 
     private List<Window> windowStack = new ArrayList<>();
 
@@ -102,9 +111,7 @@ public class FloatUtilsFrame extends JFrame implements DragSourceMotionListener,
             Graphics2D g2 = (Graphics2D) g.create();
             rootHandles.paint(g2);
 
-            if (dockableHandles != null) {
-                dockableHandles.paint(g2);
-            }
+            dockableHandles.paint(g2);
 
             overlay.paint(g);
             g2.dispose();
@@ -112,26 +119,15 @@ public class FloatUtilsFrame extends JFrame implements DragSourceMotionListener,
     };
 
     /**
-     * Create a new instance for a specific window
-     *
-     * @param docking The docking instance
-     * @param referenceDockingWindow The window that this utils frame is tied to
-     * @param root The root within the reference window
+     * Create a new instance. The frame has to be tied to a window with setReferenceWindow before it's activated
      */
-    public FloatUtilsFrame(DockingAPI docking, Window referenceDockingWindow, InternalRootDockingPanel root) {
-        this.referenceDockingWindow = referenceDockingWindow;
-        this.root = root;
-        this.rootHandles = new RootDockingHandles(this, root);
-        this.overlay = new FloatingOverlay(docking, this);
+    public FloatUtilsFrame() {
+        this.rootHandles = new RootDockingHandles(this, null);
+        this.dockableHandles = new DockableHandles(this);
+        this.overlay = new FloatingOverlay(null, this);
 
         setTitle("Utils Frame");
 
-        this.referenceDockingWindow.addComponentListener(this);
-        SwingUtilities.invokeLater(this::setSizeAndLocation);
-
-        orderFrames();
-
-        referenceDockingWindow.addWindowListener(this);
         addWindowListener(this);
 
         setLayout(null); // don't use a layout manager for this custom painted frame
@@ -168,6 +164,30 @@ public class FloatUtilsFrame extends JFrame implements DragSourceMotionListener,
         }
     }
 
+    /**
+     * Tie this frame to a window. Must only be called while the frame isn't active
+     *
+     * @param docking The docking instance of the window
+     * @param referenceDockingWindow The window the drag is over
+     * @param root The root within the window
+     */
+    public void setReferenceWindow(DockingAPI docking, Window referenceDockingWindow, InternalRootDockingPanel root) {
+        this.referenceDockingWindow = referenceDockingWindow;
+        this.root = root;
+
+        rootHandles.setRootPanel(root);
+        overlay.setDocking(docking);
+    }
+
+    /**
+     * Get the window this frame is currently tied to
+     *
+     * @return Reference window, or null if not tied to a window
+     */
+    public Window getReferenceWindow() {
+        return referenceDockingWindow;
+    }
+
     /**
      * Activate this utilities frame and display it
      *
@@ -184,6 +204,13 @@ public class FloatUtilsFrame extends JFrame implements DragSourceMotionListener,
 
         floatingFrame.addWindowListener(this);
 
+        // only listen to the reference window while we're active, we're moved to other windows between drags
+        referenceDockingWindow.addComponentListener(this);
+        referenceDockingWindow.addWindowListener(this);
+
+        // we're shared by all windows and stay hidden between drags, so make sure we match the current size and location of the reference window
+        setSizeAndLocation();
+
         mouseMoved(mousePosOnScreen);
 
         if (floatListener instanceof DisplayPanelFloatListener) {
@@ -210,6 +237,7 @@ public class FloatUtilsFrame extends JFrame implements DragSourceMotionListener,
      */
     public void deactivate() {
         setVisible(false);
+        motion.cancel();
 
         if (dragSource != null) {
             dragSource.removeDragSourceMotionListener(this);
@@ -217,16 +245,40 @@ public class FloatUtilsFrame extends JFrame implements DragSourceMotionListener,
         if (floatingFrame != null) {
             floatingFrame.removeWindowListener(this);
         }
+        if (referenceDockingWindow != null) {
+            referenceDockingWindow.removeComponentListener(this);
+            referenceDockingWindow.removeWindowListener(this);
+        }
+        // don't hold on to the windows of this drag while we're hidden
+        windowStack.clear();
+
         floatListener = null;
         floatingFrame = null;
         dragSource = null;
         currentDockable = null;
-        dockableHandles = null;
+        dockableHandles.setTarget(null, null);
     }
 
     @Override
     public void dragMouseMoved(DragSourceDragEvent event) {
-        SwingUtilities.invokeLater(() -> mouseMoved(event.getLocation()));
+        motion.post(event.getX(), event.getY());
+    }
+
+    /**
+     * Supply a mouse position for a replayed drag, which has no drag source events
+     *
+     * @param x The mouse X position on screen
+     * @param y The mouse Y position on screen
+     */
+    void replayMotion(int x, int y) {
+        motion.post(x, y);
+    }
+
+    /**
+     * Process any drag motion that is still waiting for the EDT
+     */
+    void flushMotion() {
+        motion.flush();
     }
 
     private void mouseMoved(Point mousePosOnScreen) {
@@ -236,20 +288,17 @@ public class FloatUtilsFrame extends JFrame implements DragSourceMotionListener,
 
         rootHandles.mouseMoved(mousePosOnScreen);
 
-        if (dockableHandles != null) {
-            dockableHandles.mouseMoved(mousePosOnScreen);
-        }
-
-        boolean prevVisible = overlay.isVisible();
+        dockableHandles.mouseMoved(mousePosOnScreen);
 
         // hide the overlay. it will be marked visible again if we update it
         overlay.setVisible(false);
 
-        if (!referenceDockingWindow.getBounds().contains(mousePosOnScreen)) {
+        if (!DockingComponentUtils.contains(referenceDockingWindow, mousePosOnScreen)) {
+            overlay.repaintChanges();
             return;
         }
 
-        Dockable dockable = DockingComponentUtils.findDockableAtScreenPos(mousePosOnScreen, referenceDockingWindow);
+        Dockable dockable = floatListener.getDropTargets().findDockableAtScreenPos(mousePosOnScreen, referenceDockingWindow);
 
         Dockable floatingDockable = null;
 
@@ -258,15 +307,12 @@ public class FloatUtilsFrame extends JFrame implements DragSourceMotionListener,
         }
 
         if (dockable != currentDockable) {
-            if (dockable == null) {
-                dockableHandles = null;
-            }
-            else if (floatListener instanceof DisplayPanelFloatListener) {
-                dockableHandles = new DockableHandles(this, dockable, floatingDockable);
-            }
-            else {
-                dockableHandles = new DockableHandles(this, dockable);
-            }
+            // erase the old handles, the new handles are painted below
+            repaintHandles();
+
+            dockableHandles.setTarget(dockable, floatingDockable);
+
+            repaintHandles();
         }
         currentDockable = dockable;
 
@@ -276,14 +322,14 @@ public class FloatUtilsFrame extends JFrame implements DragSourceMotionListener,
             }
             overlay.updateForRoot(root, rootHandles.getRegion());
         }
-        else if (dockableHandles != null) {
+        else if (dockableHandles.hasTarget()) {
             if (!floatingFrame.isVisible()) {
                 changeVisibility(floatingFrame, true);
             }
             overlay.updateForDockable(currentDockable, floatingDockable, mousePosOnScreen, dockableHandles.getRegion());
         }
         else if (currentDockable == null && floatListener instanceof DisplayPanelFloatListener) {
-            CustomTabbedPane tabbedPane = DockingComponentUtils.findTabbedPaneAtPos(mousePosOnScreen, referenceDockingWindow);
+            CustomTabbedPane tabbedPane = floatListener.getDropTargets().findTabbedPaneAtPos(mousePosOnScreen, referenceDockingWindow);
 
             changeVisibility(floatingFrame, tabbedPane == null);
 
@@ -294,10 +340,14 @@ public class FloatUtilsFrame extends JFrame implements DragSourceMotionListener,
         else if (!floatingFrame.isVisible()) {
             changeVisibility(floatingFrame, true);
         }
-        repaint();
-        if (overlay.requiresRedraw() || prevVisible != overlay.isVisible()) {
-            repaint();
-            overlay.clearRedraw();
+        // only repaint the parts of this frame that the overlay has changed
+        overlay.repaintChanges();
+    }
+
+    private void repaintHandles() {
+        if (dockableHandles.hasTarget()) {
+            dockableHandles.getPaintBounds(handleBounds);
+            repaint(handleBounds.x, handleBounds.y, handleBounds.width, handleBounds.height);
         }
     }
 
@@ -334,9 +384,7 @@ public class FloatUtilsFrame extends JFrame implements DragSourceMotionListener,
 
         rootHandles.paint(g2);
 
-        if (dockableHandles != null) {
-            dockableHandles.paint(g2);
-        }
+        dockableHandles.paint(g2);
 
         overlay.paint(g);
 
@@ -404,9 +452,6 @@ public class FloatUtilsFrame extends JFrame implements DragSourceMotionListener,
      * @return Is the mouse over a dockable handle?
      */
     public boolean isOverDockableHandle() {
-        if (dockableHandles == null) {
-            return false;
-        }
         return dockableHandles.getRegion() != null;
     }
 
@@ -425,9 +470,6 @@ public class FloatUtilsFrame extends JFrame implements DragSourceMotionListener,
      * @return Region in the target dockable or null
      */
     public DockingRegion dockableHandle() {
-        if (dockableHandles == null) {
-            return null;
-        }
         return dockableHandles.getRegion();
     }
 
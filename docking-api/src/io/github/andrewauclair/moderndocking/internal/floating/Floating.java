@@ -32,10 +32,24 @@ import javax.swing.SwingUtilities;
  * Small utility class for floating feature
  */
 public class Floating {
-    private static final Map<Window, FloatUtilsFrame> utilFrames = new HashMap<>();
+    private static final Map<Window, DockingWindow> dockingWindows = new HashMap<>();
+    private static FloatUtilsFrame utilFrame = null;
     private static boolean isFloating = false;
     private static boolean isFloatingTabbedPane = false;
 
+    /**
+     * The information we need to move the utility frame to a window when a drag reaches it
+     */
+    private static class DockingWindow {
+        private final DockingAPI docking;
+        private final InternalRootDockingPanel root;
+
+        private DockingWindow(DockingAPI docking, InternalRootDockingPanel root) {
+            this.docking = docking;
+            this.root = root;
+        }
+    }
+
     /**
      * Unused. All methods are static
      */
@@ -43,37 +57,55 @@ public class Floating {
     }
 
     /**
-     * Register a new docking window and create a utility frame for it
+     * Register a new docking window. A single utility frame is shared by all windows, it's created the first time a drag
+     * passes over a window and moved to each window that the drag reaches
      *
      * @param docking The docking instance this window is for
      * @param window The window being registered
      * @param root The internal root in the window
      */
     public static void registerDockingWindow(DockingAPI docking, Window window, InternalRootDockingPanel root) {
-        SwingUtilities.invokeLater(() -> utilFrames.put(window, new FloatUtilsFrame(docking, window, root)));
+        SwingUtilities.invokeLater(() -> dockingWindows.put(window, new DockingWindow(docking, root)));
     }
 
     /**
-     * Deregister a window. Used when a window is closed
+     * Deregister a window. Used when a window is closed. The utility frame is disposed if it's tied to the window, or if
+     * there are no windows left, so that it never holds on to a closed window
      *
      * @param window The window to deregister
      */
     public static void deregisterDockingWindow(Window window) {
-        FloatUtilsFrame frame = utilFrames.remove(window);
-        if (frame != null) {
-            frame.dispose();
+        dockingWindows.remove(window);
+
+        if (utilFrame != null && (utilFrame.getReferenceWindow() == window || dockingWindows.isEmpty())) {
+            utilFrame.deactivate();
+            utilFrame.dispose();
+            utilFrame = null;
         }
     }
 
     /**
-     * Lookup the utility frame for a window
+     * Move the shared utility frame to a window, creating the frame the first time a drag reaches any window
      *
-     * @param window The window to search for
+     * @param window The window the drag has reached
      *
-     * @return Utility frame or null
+     * @return Utility frame or null if the window isn't registered
      */
     public static FloatUtilsFrame frameForWindow(Window window) {
-        return utilFrames.get(window);
+        DockingWindow dockingWindow = dockingWindows.get(window);
+
+        if (dockingWindow == null) {
+            return null;
+        }
+
+        if (utilFrame == null) {
+            utilFrame = new FloatUtilsFrame();
+        }
+
+        if (utilFrame.getReferenceWindow() != window) {
+            utilFrame.setReferenceWindow(dockingWindow.docking, window, dockingWindow.root);
+        }
+        return utilFrame;
     }
 
     /**
@@ -30,13 +30,12 @@ import io.github.andrewauclair.moderndocking.internal.DockingInternal;
 import io.github.andrewauclair.moderndocking.internal.InternalRootDockingPanel;
 import io.github.andrewauclair.moderndocking.ui.DockingSettings;
 import java.awt.Component;
-import java.awt.Dimension;
+import java.awt.Container;
 import java.awt.Graphics;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.awt.Window;
 import javax.swing.JComponent;
-import javax.swing.JFrame;
-import javax.swing.SwingUtilities;
 
 /**
  * Utility for displaying the overlay highlight over the target frame while floating a dockable
@@ -51,20 +50,27 @@ public class FloatingOverlay {
     private boolean visible = false;
 
     /**
-     * the top left location where the overlay starts
+     * the area of the overlay, used for drawing
      */
-    private Point location = new Point(0, 0);
+    private final Rectangle bounds = new Rectangle();
     /**
-     * the total size of the overlay, used for drawing
+     * the area of the target tab, only drawn when we're over a tab
      */
-    private Dimension size = new Dimension(0, 0);
-    private Rectangle targetTab = null;
+    private final Rectangle targetTab = new Rectangle();
+    private boolean overTab = false;
 
-    private final DockingAPI docking;
-    private final JFrame utilFrame;
+    private DockingAPI docking;
+    private final Container utilFrame;
 
-    private Point prevLocation = location;
-    private Dimension prevSize = size;
+    /**
+     * The areas that were covered by the overlay and the target tab the last time we repainted
+     */
+    private final Rectangle paintedOverlay = new Rectangle();
+    private final Rectangle paintedTab = new Rectangle();
+
+    // scratch geometry, reused for every mouse move
+    private final Point framePoint = new Point();
+    private final Point componentPoint = new Point();
 
     /**
      * Create a new overlay, attached to a utility frame
@@ -72,27 +78,51 @@ public class FloatingOverlay {
      * @param docking The docking instance this overlay belongs to
      * @param utilFrame The utility frame this overlay is tied to
      */
-    public FloatingOverlay(DockingAPI docking, JFrame utilFrame) {
+    public FloatingOverlay(DockingAPI docking, Container utilFrame) {
         this.docking = docking;
         this.utilFrame = utilFrame;
     }
 
     /**
-     * Check if the overlay needs to be redrawn
+     * Change the docking instance of the overlay. Used when the utility frame is moved to another window
      *
-     * @return True if the overlay requires a redraw
+     * @param docking The docking instance of the new window
      */
-    public boolean requiresRedraw() {
-        return !location.equals(prevLocation) ||
-                !size.equals(prevSize);
+    public void setDocking(DockingAPI docking) {
+        this.docking = docking;
     }
 
     /**
-     * Overlay has been redrawn. Clear the flag
+     * Repaint the areas of the utility frame that the overlay has changed since the last call. Both the previous and
+     * the current bounds are repainted, so that the old overlay is erased
      */
-    public void clearRedraw() {
-        prevLocation = location;
-        prevSize = size;
+    public void repaintChanges() {
+        if (visible) {
+            repaintChange(paintedOverlay, bounds.x, bounds.y, bounds.width, bounds.height);
+        }
+        else {
+            repaintChange(paintedOverlay, 0, 0, 0, 0);
+        }
+
+        if (visible && overTab) {
+            repaintChange(paintedTab, targetTab.x, targetTab.y, targetTab.width, targetTab.height);
+        }
+        else {
+            repaintChange(paintedTab, 0, 0, 0, 0);
+        }
+    }
+
+    private void repaintChange(Rectangle painted, int x, int y, int width, int height) {
+        if (painted.x == x && painted.y == y && painted.width == width && painted.height == height) {
+            return;
+        }
+        if (!painted.isEmpty()) {
+            utilFrame.repaint(painted.x, painted.y, painted.width, painted.height);
+        }
+        if (width > 0 && height > 0) {
+            utilFrame.repaint(x, y, width, height);
+        }
+        painted.setBounds(x, y, width, height);
     }
 
     /**
@@ -104,41 +134,32 @@ public class FloatingOverlay {
     public void updateForRoot(InternalRootDockingPanel rootPanel, DockingRegion region) {
         setVisible(true);
 
-        targetTab = null;
-
-        Point point = rootPanel.getLocation();
-        Dimension size = rootPanel.getSize();
+        overTab = false;
 
-        point = SwingUtilities.convertPoint(rootPanel.getParent(), point, utilFrame);
+        setBoundsInFrame(rootPanel);
 
         final double DROP_SIZE = 4;
 
-        prevLocation = new Point(this.location);
-        prevSize = new Dimension(this.size);
-
         switch (region) {
             case WEST: {
-                size = new Dimension((int) (size.width / DROP_SIZE), size.height);
+                bounds.width = (int) (bounds.width / DROP_SIZE);
                 break;
             }
             case NORTH: {
-                size = new Dimension(size.width, (int) (size.height / DROP_SIZE));
+                bounds.height = (int) (bounds.height / DROP_SIZE);
                 break;
             }
             case EAST: {
-                point.x += size.width - (size.width / DROP_SIZE);
-                size = new Dimension((int) (size.width / DROP_SIZE), size.height);
+                bounds.x += bounds.width - (bounds.width / DROP_SIZE);
+                bounds.width = (int) (bounds.width / DROP_SIZE);
                 break;
             }
             case SOUTH: {
-                point.y += size.height - (size.height / DROP_SIZE);
-                size = new Dimension(size.width, (int) (size.height / DROP_SIZE));
+                bounds.y += bounds.height - (bounds.height / DROP_SIZE);
+                bounds.height = (int) (bounds.height / DROP_SIZE);
                 break;
             }
         }
-
-        this.location = point;
-        this.size = size;
     }
 
     /**
@@ -152,47 +173,36 @@ public class FloatingOverlay {
     public void updateForDockable(Dockable targetDockable, Dockable floatingDockable, Point mousePosOnScreen, DockingRegion region) {
         setVisible(true);
 
-        prevLocation = new Point(this.location);
-        prevSize = new Dimension(this.size);
-
-        targetTab = null;
+        overTab = false;
 
         if (region == null) {
             region = getRegion(targetDockable, floatingDockable, mousePosOnScreen);
         }
 
-        JComponent component = DockingInternal.get(docking).getWrapper(targetDockable).getDisplayPanel();
-
-        Point point = component.getLocation();
-        Dimension size = component.getSize();
-
-        point = SwingUtilities.convertPoint(component.getParent(), point, utilFrame);
+        setBoundsInFrame(DockingInternal.get(docking).getWrapper(targetDockable).getDisplayPanel());
 
         final double DROP_SIZE = 2;
 
         switch (region) {
             case WEST: {
-                size.width /= (int) DROP_SIZE;
+                bounds.width /= (int) DROP_SIZE;
                 break;
             }
             case NORTH: {
-                size = new Dimension(size.width, (int) (size.height / DROP_SIZE));
+                bounds.height = (int) (bounds.height / DROP_SIZE);
                 break;
             }
             case EAST: {
-                point.x += size.width / DROP_SIZE;
-                size = new Dimension((int) (size.width / DROP_SIZE), size.height);
+                bounds.x += bounds.width / DROP_SIZE;
+                bounds.width = (int) (bounds.width / DROP_SIZE);
                 break;
             }
             case SOUTH: {
-                point.y += size.height / DROP_SIZE;
-                size = new Dimension(size.width, (int) (size.height / DROP_SIZE));
+                bounds.y += bounds.height / DROP_SIZE;
+                bounds.height = (int) (bounds.height / DROP_SIZE);
                 break;
             }
         }
-
-        this.location = point;
-        this.size = size;
     }
 
     /**
@@ -204,51 +214,71 @@ public class FloatingOverlay {
     public void updateForTab(CustomTabbedPane tabbedPane, Point mousePosOnScreen) {
         setVisible(true);
 
-        prevLocation = new Point(this.location);
-        prevSize = new Dimension(this.size);
-
-        Component componentAt = tabbedPane.getComponentAt(0);
-
-        location = componentAt.getLocation();
-        SwingUtilities.convertPointToScreen(location, tabbedPane);
-        SwingUtilities.convertPointFromScreen(location, utilFrame);
-
-        size = componentAt.getSize();
+        // only the selected tab is guaranteed to have a full size component
+        Component selected = tabbedPane.getSelectedComponent();
+        setBoundsInFrame(selected != null ? selected : tabbedPane);
 
         int targetTabIndex = tabbedPane.getTargetTabIndex(mousePosOnScreen, true);
 
-        if (targetTabIndex != -1) {
-            targetTab = tabbedPane.getBoundsAt(targetTabIndex);
+        overTab = true;
 
-            Point p = new Point(targetTab.x, targetTab.y);
-            SwingUtilities.convertPointToScreen(p, tabbedPane);
-            SwingUtilities.convertPointFromScreen(p, utilFrame);
+        if (targetTabIndex != -1) {
+            Rectangle tab = tabbedPane.getBoundsAt(targetTabIndex);
 
-            targetTab.x = p.x;
-            targetTab.y = p.y;
+            componentPoint.setLocation(tab.x, tab.y);
+            toFrame(tabbedPane, componentPoint);
 
-            targetTab.width /= 2;
+            targetTab.setBounds(componentPoint.x, componentPoint.y, tab.width / 2, tab.height);
         }
         else {
-            targetTab = tabbedPane.getBoundsAt(tabbedPane.getTabCount() - 1);
+            Rectangle tab = tabbedPane.getBoundsAt(tabbedPane.getTabCount() - 1);
 
-            Point tabPoint = new Point(tabbedPane.getX(), tabbedPane.getY());
-            SwingUtilities.convertPointToScreen(tabPoint, tabbedPane.getParent());
+            // both of these are relative to the tabbed pane, we only need to convert to the frame at the end
+            int tabbedPaneRight = tabbedPane.getWidth();
+            int width = tab.width;
 
-            Point boundsPoint = new Point(targetTab.x, targetTab.y);
-            SwingUtilities.convertPointToScreen(boundsPoint, tabbedPane);
+            if (tab.x + (tab.width * 2) >= tabbedPaneRight) {
+                width = Math.abs(tabbedPaneRight - (tab.x + tab.width));
+            }
 
-            int widthToAdd = targetTab.width;
+            componentPoint.setLocation(tab.x + tab.width, tab.y);
+            toFrame(tabbedPane, componentPoint);
 
-            if (boundsPoint.x + (targetTab.width * 2) >= tabPoint.x + tabbedPane.getWidth()) {
-                targetTab.width = Math.abs((tabPoint.x + tabbedPane.getWidth()) - (boundsPoint.x + targetTab.width));
-            }
+            targetTab.setBounds(componentPoint.x, componentPoint.y, width, tab.height);
+        }
+    }
 
-            SwingUtilities.convertPointFromScreen(boundsPoint, utilFrame);
+    // set the overlay bounds to the bounds of the component, in the utility frame
+    private void setBoundsInFrame(Component component) {
+        componentPoint.setLocation(0, 0);
+        toFrame(component, componentPoint);
 
-            targetTab.x = boundsPoint.x + widthToAdd;
-            targetTab.y = boundsPoint.y;
+        bounds.setBounds(componentPoint.x, componentPoint.y, component.getWidth(), component.getHeight());
+    }
+
+    /**
+     * Convert a point from a component to the utility frame. Unlike SwingUtilities, this doesn't allocate any objects
+     *
+     * @param component The component the point is relative to
+     * @param point The point to convert in place
+     */
+    private void toFrame(Component component, Point point) {
+        Component c = component;
+
+        // accumulate the location of each parent until we get to the window, which is located on screen
+        while (c != null) {
+            point.x += c.getX();
+            point.y += c.getY();
+
+            if (c instanceof Window) {
+                break;
+            }
+            c = c.getParent();
         }
+
+        // the utility frame is also top level
+        point.x -= utilFrame.getX();
+        point.y -= utilFrame.getY();
     }
 
     /**
@@ -272,16 +302,14 @@ public class FloatingOverlay {
     public DockingRegion getRegion(Dockable targetDockable, Dockable floatingDockable, Point mousePosOnScreen) {
         JComponent component = DockingInternal.get(docking).getWrapper(targetDockable).getDisplayPanel();
 
-        Point framePoint = new Point(mousePosOnScreen);
-        SwingUtilities.convertPointFromScreen(framePoint, utilFrame);
-
-        Point point = (component).getLocation();
-        Dimension size = component.getSize();
+        // the mouse position relative to the top left of the target display panel
+        componentPoint.setLocation(0, 0);
+        toFrame(component, componentPoint);
 
-        point = SwingUtilities.convertPoint(component.getParent(), point, utilFrame);
+        framePoint.setLocation(mousePosOnScreen.x - utilFrame.getX(), mousePosOnScreen.y - utilFrame.getY());
 
-        double horizontalPct = (framePoint.x - point.x) / (double) size.width;
-        double verticalPct = (framePoint.y - point.y) / (double) size.height;
+        double horizontalPct = (framePoint.x - componentPoint.x) / (double) component.getWidth();
+        double verticalPct = (framePoint.y - componentPoint.y) / (double) component.getHeight();
 
         double horizontalEdgeDist = horizontalPct > 0.5 ? 1.0 - horizontalPct : horizontalPct;
         double verticalEdgeDist = verticalPct > 0.5 ? 1.0 - verticalPct : verticalPct;
@@ -310,7 +338,7 @@ public class FloatingOverlay {
      * @return Over tab
      */
     public boolean isOverTab() {
-        return targetTab != null;
+        return overTab;
     }
 
     /**
@@ -323,9 +351,9 @@ public class FloatingOverlay {
             return;
         }
         g.setColor(DockingSettings.getOverlayBackground());
-        g.fillRect(location.x, location.y, size.width, size.height);
+        g.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
 
-        if (targetTab != null) {
+        if (overTab) {
             g.fillRect(targetTab.x, targetTab.y, targetTab.width, targetTab.height);
         }
     }
@@ -0,0 +1,92 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal.floating;
+
+import io.github.andrewauclair.moderndocking.ui.DockingSettings;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of pre-rendered docking handle artwork.
+ * <p>
+ * The handles look the same for every window, so each variation is drawn once and then copied to the utility frames.
+ * The cache is thrown away when the handle colors or the display scale change.
+ */
+final class HandleSprites {
+    private static final Map<Integer, BufferedImage> sprites = new HashMap<>();
+
+    private static int colorsVersion = -1;
+    private static double scale;
+
+    /**
+     * Unused. All methods are static
+     */
+    private HandleSprites() {
+    }
+
+    /**
+     * Get the sprite for a handle, rendering it if we don't have it yet
+     *
+     * @param g2 The graphics that the sprite will be drawn to
+     * @param handle The handle to get the sprite for
+     * @param size The size of the sprite, including padding
+     *
+     * @return Handle sprite
+     */
+    static BufferedImage getSprite(Graphics2D g2, DockingHandle handle, int size) {
+        int currentColorsVersion = DockingSettings.getColorsVersion();
+        double currentScale = g2.getTransform().getScaleX();
+
+        if (colorsVersion != currentColorsVersion || scale != currentScale) {
+            sprites.clear();
+
+            colorsVersion = currentColorsVersion;
+            scale = currentScale;
+        }
+
+        BufferedImage sprite = sprites.get(handle.getSpriteKey());
+
+        if (sprite == null) {
+            sprite = render(g2.getDeviceConfiguration(), handle, size);
+            sprites.put(handle.getSpriteKey(), sprite);
+        }
+        return sprite;
+    }
+
+    private static BufferedImage render(GraphicsConfiguration config, DockingHandle handle, int size) {
+        // render at the device resolution so that the sprite is as sharp as painting the handle directly
+        int scaledSize = (int) Math.ceil(size * scale);
+
+        BufferedImage sprite = config.createCompatibleImage(scaledSize, scaledSize, Transparency.TRANSLUCENT);
+
+        Graphics2D g2 = sprite.createGraphics();
+        g2.scale(scale, scale);
+        handle.drawHandle(g2, DockingHandle.PAINT_PADDING, DockingHandle.PAINT_PADDING);
+        g2.dispose();
+
+        return sprite;
+    }
+}
@@ -28,10 +28,11 @@ import io.github.andrewauclair.moderndocking.api.RootDockingPanelAPI;
 import io.github.andrewauclair.moderndocking.internal.InternalRootDockingPanel;
 import io.github.andrewauclair.moderndocking.ui.ToolbarLocation;
 import java.awt.Component;
+import java.awt.Container;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Point;
-import javax.swing.JFrame;
+import java.awt.Rectangle;
 import javax.swing.JLabel;
 import javax.swing.SwingUtilities;
 
@@ -51,8 +52,12 @@ public class RootDockingHandles {
     private final DockingHandle pinEast = new DockingHandle(DockingRegion.EAST);
     private final DockingHandle pinSouth = new DockingHandle(DockingRegion.SOUTH);
 
-    private final JFrame frame;
-    private final InternalRootDockingPanel rootPanel;
+    private final Container frame;
+    private InternalRootDockingPanel rootPanel;
+
+    // scratch geometry, reused for every mouse move
+    private final Point framePoint = new Point();
+    private final Rectangle paintBounds = new Rectangle();
 
     private DockingRegion mouseOverRegion = null;
     private DockingRegion mouseOverPin = null;
@@ -63,7 +68,7 @@ public class RootDockingHandles {
      * @param frame The frame this root docking handle belongs to
      * @param rootPanel The root panel for the frame
      */
-    public RootDockingHandles(JFrame frame, InternalRootDockingPanel rootPanel) {
+    public RootDockingHandles(Container frame, InternalRootDockingPanel rootPanel) {
         this.frame = frame;
         this.rootPanel = rootPanel;
         setupHandle(frame, rootCenter);
@@ -77,6 +82,15 @@ public class RootDockingHandles {
         setupHandle(frame, pinSouth);
     }
 
+    /**
+     * Change the root panel that the handles are for. Used when the frame is moved to another window
+     *
+     * @param rootPanel The root panel of the new window
+     */
+    public void setRootPanel(InternalRootDockingPanel rootPanel) {
+        this.rootPanel = rootPanel;
+    }
+
     /**
      * Update the handle positions within the frame
      */
@@ -121,14 +135,14 @@ public class RootDockingHandles {
      * @param mousePosOnScreen New mouse position on screen
      */
     public void mouseMoved(Point mousePosOnScreen) {
-        Point framePoint = new Point(mousePosOnScreen);
-        SwingUtilities.convertPointFromScreen(framePoint, frame);
+        // the frame is undecorated and top level, its location is its location on screen
+        framePoint.setLocation(mousePosOnScreen.x - frame.getX(), mousePosOnScreen.y - frame.getY());
 
-        rootCenter.mouseMoved(framePoint);
-        rootWest.mouseMoved(framePoint);
-        rootNorth.mouseMoved(framePoint);
-        rootEast.mouseMoved(framePoint);
-        rootSouth.mouseMoved(framePoint);
+        mouseMoved(rootCenter, framePoint);
+        mouseMoved(rootWest, framePoint);
+        mouseMoved(rootNorth, framePoint);
+        mouseMoved(rootEast, framePoint);
+        mouseMoved(rootSouth, framePoint);
 
         mouseOverRegion = null;
         if (rootCenter.isMouseOver()) mouseOverRegion = DockingRegion.CENTER;
@@ -137,9 +151,9 @@ public class RootDockingHandles {
         if (rootEast.isMouseOver()) mouseOverRegion = DockingRegion.EAST;
         if (rootSouth.isMouseOver()) mouseOverRegion = DockingRegion.SOUTH;
 
-        pinWest.mouseMoved(framePoint);
-        pinEast.mouseMoved(framePoint);
-        pinSouth.mouseMoved(framePoint);
+        mouseMoved(pinWest, framePoint);
+        mouseMoved(pinEast, framePoint);
+        mouseMoved(pinSouth, framePoint);
 
         mouseOverPin = null;
         if (pinWest.isMouseOver()) mouseOverPin = DockingRegion.WEST;
@@ -147,7 +161,15 @@ public class RootDockingHandles {
         if (pinSouth.isMouseOver()) mouseOverPin = DockingRegion.SOUTH;
     }
 
-    private void setupHandle(JFrame frame, DockingHandle label) {
+    private void mouseMoved(DockingHandle handle, Point framePoint) {
+        // only repaint the handles that have changed
+        if (handle.mouseMoved(framePoint)) {
+            handle.getPaintBounds(paintBounds);
+            frame.repaint(paintBounds.x, paintBounds.y, paintBounds.width, paintBounds.height);
+        }
+    }
+
+    private void setupHandle(Container frame, DockingHandle label) {
         label.setVisible(true);
         frame.add(label);
     }
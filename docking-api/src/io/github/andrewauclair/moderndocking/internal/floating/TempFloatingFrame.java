@@ -27,10 +27,14 @@ import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Cursor;
 import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
 import java.awt.Point;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
 import java.util.Collections;
 import java.util.List;
 import javax.swing.BorderFactory;
@@ -50,43 +54,83 @@ public class TempFloatingFrame extends JFrame {
 	/**
 	 * The dockables that we are currently floating
 	 */
-	private final List<DockableWrapper> dockables;
+	private List<DockableWrapper> dockables = Collections.emptyList();
 	/**
 	 * The selected index in the group of dockables
 	 */
-	private final int selectedIndex;
+	private int selectedIndex = 0;
+	/**
+	 * Panel that holds the contents of the frame, with a border around it
+	 */
+	private final JPanel panel = new JPanel(new GridBagLayout());
+	/**
+	 * Snapshot of the dragged component. Reused by every drag that uses this frame
+	 */
+	private final DragPreview preview = new DragPreview();
+
+	/**
+	 * Create a new, empty and hidden temporary floating frame. Frames are created by DragFramePool
+	 */
+	TempFloatingFrame() {
+		setDefaultCloseOperation(WindowConstants.HIDE_ON_CLOSE);
+		setTitle("Temp Floating Frame");
+
+		setLayout(new BorderLayout()); // keep it simple, just use border layout
+		setUndecorated(true); // hide the frame
+		setType(Type.UTILITY); // keeps the frame from appearing in the task bar frames
+		setCursor(Cursor.getPredefinedCursor(Cursor.MOVE_CURSOR)); //  this frame is only showing while moving
+
+		// put the dockable in a panel with a border around it to make it look better
+		add(panel, BorderLayout.CENTER);
+	}
 
 	/**
-	 * Create a new temporary floating frame for a floating dockable
+	 * Display a floating dockable in a frame from the pool
 	 *
 	 * @param dockable The dockable that we are currently floating
 	 * @param dragSrc The source of the drag. Used to assign the frame to the proper screen location
 	 * @param size The desired size of the frame
+	 *
+	 * @return The frame displaying the dockable
 	 */
-	public TempFloatingFrame(DockableWrapper dockable, JComponent dragSrc, Dimension size) {
-		setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
-		setTitle("Temp Floating Frame");
-		dockables = Collections.emptyList();
-		selectedIndex = 0;
+	public static TempFloatingFrame display(DockableWrapper dockable, JComponent dragSrc, Dimension size) {
+		TempFloatingFrame frame = DragFramePool.obtain();
 
-		build(dockable.getDisplayPanel(), dragSrc, size);
+		frame.dockables = Collections.emptyList();
+		frame.selectedIndex = 0;
+
+		if (Settings.isDragPreviewEnabled()) {
+			frame.preview.capture(dragSrc, size);
+			frame.build(frame.preview, dragSrc, size);
+		}
+		else {
+			frame.build(dockable.getDisplayPanel(), dragSrc, size);
+		}
+		return frame;
 	}
 
 	/**
-	 * Create a new temporary floating frame for a floating dockable
+	 * Display a group of floating dockables in a frame from the pool
 	 *
 	 * @param dockables The dockables that we are currently floating
 	 * @param selectedIndex The selected index in the group of dockables
 	 * @param dragSrc The source of the drag. Used to assign the frame to the proper screen location
 	 * @param size The desired size of the frame
+	 *
+	 * @return The frame displaying the dockables
 	 */
-	public TempFloatingFrame(List<DockableWrapper> dockables, int selectedIndex, JComponent dragSrc, Dimension size) {
-		setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+	public static TempFloatingFrame display(List<DockableWrapper> dockables, int selectedIndex, JComponent dragSrc, Dimension size) {
+		TempFloatingFrame frame = DragFramePool.obtain();
 
-		setTitle("Temp Floating Frame");
+		frame.dockables = dockables;
+		frame.selectedIndex = selectedIndex;
 
-		this.dockables = dockables;
-		this.selectedIndex = selectedIndex;
+		// leave the display panels where they are and drag a picture of them instead
+		if (Settings.isDragPreviewEnabled()) {
+			frame.preview.capture(dragSrc, size);
+			frame.build(frame.preview, dragSrc, size);
+			return frame;
+		}
 
 		JTabbedPane tabs = new JTabbedPane();
 
@@ -105,21 +149,18 @@ public class TempFloatingFrame extends JFrame {
 		}
 		tabs.setSelectedIndex(selectedIndex);
 
-		build(tabs, dragSrc, size);
+		frame.build(tabs, dragSrc, size);
+
+		return frame;
 	}
 
 	/**
-	 * Create a new temporary floating frame to contain a dockable that has started to float
+	 * Fill this frame with a dockable that has started to float and display it
 	 *
 	 * @param dockable Dockable in the floating frame
 	 * @param dragSrc The source of the drag
 	 */
 	private void build(JComponent dockable, JComponent dragSrc, Dimension size) {
-		setLayout(new BorderLayout()); // keep it simple, just use border layout
-		setUndecorated(true); // hide the frame
-		setType(Type.UTILITY); // keeps the frame from appearing in the task bar frames
-		setCursor(Cursor.getPredefinedCursor(Cursor.MOVE_CURSOR)); //  this frame is only showing while moving
-
 		// size the frame to the dockable size
 		setSize(size);
 
@@ -133,9 +174,6 @@ public class TempFloatingFrame extends JFrame {
 
 		setLocation(newPoint);
 
-		// put the dockable in a panel with a border around it to make it look better
-		JPanel panel = new JPanel(new GridBagLayout());
-
 		GridBagConstraints gbc = new GridBagConstraints();
 		gbc.insets = new Insets(0, 0, 0, 0);
 		gbc.gridy = 0;
@@ -149,11 +187,24 @@ public class TempFloatingFrame extends JFrame {
 		panel.setBorder(BorderFactory.createLineBorder(color, BORDER_SIZE));
 		panel.add(dockable, gbc);
 
-		add(panel, BorderLayout.CENTER);
+		validate();
 
 		setVisible(true);
 	}
 
+	/**
+	 * Hide this frame and remove its contents so that it can be returned to the pool
+	 */
+	void reset() {
+		setVisible(false);
+
+		// anything left here was not docked by the drop, drop our references to it
+		panel.removeAll();
+
+		dockables = Collections.emptyList();
+		selectedIndex = 0;
+	}
+
 	/**
 	 * The dockables that are in this temporary floating frame
 	 *
@@ -171,4 +222,83 @@ public class TempFloatingFrame extends JFrame {
 	public int getSelectedIndex() {
 		return selectedIndex;
 	}
+
+	/**
+	 * Snapshot of the dragged component, rendered once at the start of the drag and stretched to fill the frame.
+	 * <p>
+	 * The stretched image is cached on the first paint, so repainting the frame while it follows the mouse only copies
+	 * the image. The images are kept between drags and only reallocated when the size changes.
+	 */
+	static class DragPreview extends JComponent {
+		private BufferedImage snapshot;
+		private BufferedImage stretched;
+		private boolean stretchedValid = false;
+
+		/**
+		 * Render a new snapshot of the dragged component
+		 *
+		 * @param source The component being dragged
+		 * @param size The size to display the snapshot at
+		 */
+		void capture(JComponent source, Dimension size) {
+			double scale = Settings.getDragPreviewScale();
+
+			int width = Math.max(1, (int) Math.ceil(size.width * scale));
+			int height = Math.max(1, (int) Math.ceil(size.height * scale));
+
+			snapshot = reuse(snapshot, width, height);
+
+			Graphics2D g2 = snapshot.createGraphics();
+			g2.setColor(source.getBackground());
+			g2.fillRect(0, 0, width, height);
+			g2.scale(scale, scale);
+			source.paint(g2);
+			g2.dispose();
+
+			stretchedValid = false;
+
+			setPreferredSize(size);
+		}
+
+		/**
+		 * Get the image that is painted at the given size, stretching the snapshot if it hasn't been stretched to this size yet
+		 *
+		 * @param width Width to paint at
+		 * @param height Height to paint at
+		 *
+		 * @return The image to paint
+		 */
+		BufferedImage imageFor(int width, int height) {
+			if (snapshot.getWidth() == width && snapshot.getHeight() == height) {
+				return snapshot;
+			}
+
+			if (!stretchedValid || stretched.getWidth() != width || stretched.getHeight() != height) {
+				stretched = reuse(stretched, width, height);
+
+				Graphics2D g2 = stretched.createGraphics();
+				g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				g2.drawImage(snapshot, 0, 0, width, height, null);
+				g2.dispose();
+
+				stretchedValid = true;
+			}
+			return stretched;
+		}
+
+		private static BufferedImage reuse(BufferedImage image, int width, int height) {
+			if (image != null && image.getWidth() == width && image.getHeight() == height) {
+				return image;
+			}
+			return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		}
+
+		@Override
+		protected void paintComponent(Graphics g) {
+			if (snapshot == null || getWidth() <= 0 || getHeight() <= 0) {
+				return;
+			}
+			g.drawImage(imageFor(getWidth(), getHeight()), 0, 0, null);
+		}
+	}
 }
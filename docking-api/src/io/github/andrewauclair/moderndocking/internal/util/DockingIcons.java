@@ -0,0 +1,67 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal.util;
+
+import java.net.URL;
+import javax.swing.Icon;
+import javax.swing.ImageIcon;
+
+/**
+ * Icons shared by every header and tab group. The icons are decoded once, the first time this class is used
+ */
+public final class DockingIcons {
+	private static final Icon SETTINGS = load("/api_icons/settings.png");
+	private static final Icon CLOSE = load("/api_icons/close.png");
+
+	/**
+	 * Unused. All methods are static
+	 */
+	private DockingIcons() {
+	}
+
+	/**
+	 * Get the settings icon
+	 *
+	 * @return Settings icon, null if the resource is missing
+	 */
+	public static Icon settings() {
+		return SETTINGS;
+	}
+
+	/**
+	 * Get the close icon
+	 *
+	 * @return Close icon, null if the resource is missing
+	 */
+	public static Icon close() {
+		return CLOSE;
+	}
+
+	private static Icon load(String path) {
+		URL resource = DockingIcons.class.getResource(path);
+
+		if (resource == null) {
+			return null;
+		}
+		return new ImageIcon(resource);
+	}
+}
@@ -8,9 +8,12 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.Toolkit;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.util.Map;
+import java.util.Objects;
 import javax.swing.Icon;
 import javax.swing.JComponent;
 
@@ -76,6 +79,17 @@ public class TextIcon implements Icon, PropertyChangeListener
 	private String[] strings;
 	private int[] stringWidths;
 
+	//  The text is rendered once into an image at the scale of the device
+	//  and the image is reused until the text, font, color or scale changes.
+	//  Hovering over a button repaints it often, drawing the image is much
+	//  cheaper than drawing the text
+
+	private BufferedImage cachedImage;
+	private Font cachedFont;
+	private Color cachedForeground;
+	private double cachedScaleX;
+	private double cachedScaleY;
+
 	/**
 	 *  Convenience constructor to create a TextIcon with a HORIZONTAL layout.
 	 *
@@ -222,6 +236,8 @@ public class TextIcon implements Icon, PropertyChangeListener
 	 */
 	private void calculateIconDimensions()
 	{
+		cachedImage = null;
+
 		Font font = getFont();
 		FontMetrics fm = component.getFontMetrics( font );
 
@@ -295,8 +311,58 @@ public class TextIcon implements Icon, PropertyChangeListener
 	@Override
 	public void paintIcon(Component c, Graphics g, int x, int y)
 	{
+		if (iconWidth <= 0 || iconHeight <= 0) {
+			return;
+		}
+
 		Graphics2D g2 = (Graphics2D)g.create();
 
+		//  Find the scale of the device, the transform might also include
+		//  the rotation of a RotatedIcon
+
+		AffineTransform transform = g2.getTransform();
+		double scaleX = Math.hypot(transform.getScaleX(), transform.getShearY());
+		double scaleY = Math.hypot(transform.getShearX(), transform.getScaleY());
+
+		if (scaleX <= 0 || scaleY <= 0) {
+			scaleX = 1;
+			scaleY = 1;
+		}
+
+		Font font = getFont();
+		Color foreground = getForeground();
+
+		if (cachedImage == null || !Objects.equals(font, cachedFont) || !Objects.equals(foreground, cachedForeground)
+				|| scaleX != cachedScaleX || scaleY != cachedScaleY)
+		{
+			cachedImage = renderText(font, foreground, scaleX, scaleY);
+			cachedFont = font;
+			cachedForeground = foreground;
+			cachedScaleX = scaleX;
+			cachedScaleY = scaleY;
+		}
+
+		//  Draw the image pixel for pixel
+
+		g2.translate(x, y);
+		g2.scale(1 / scaleX, 1 / scaleY);
+		g2.drawImage(cachedImage, 0, 0, null);
+
+		g2.dispose();
+	}
+
+	/**
+	 *  Render the text into a new image at the given scale
+	 */
+	private BufferedImage renderText(Font font, Color foreground, double scaleX, double scaleY)
+	{
+		int width = (int) Math.ceil(iconWidth * scaleX);
+		int height = (int) Math.ceil(iconHeight * scaleY);
+
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2 = image.createGraphics();
+		g2.scale(scaleX, scaleY);
+
 		//  The "desktophints" is supported in JDK6
 
 		Toolkit toolkit = Toolkit.getDefaultToolkit();
@@ -310,14 +376,13 @@ public class TextIcon implements Icon, PropertyChangeListener
 					RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 		}
 
-		g2.setFont( getFont() );
-		g2.setColor( getForeground() );
+		g2.setFont( font );
+		g2.setColor( foreground );
 		FontMetrics fm = g2.getFontMetrics();
 
 		if (layout == Layout.HORIZONTAL)
 		{
-			g2.translate(x, y +	fm.getAscent());
-			g2.drawString(text, padding, 0);
+			g2.drawString(text, padding, fm.getAscent());
 		}
 		else if (layout == Layout.VERTICAL)
 		{
@@ -327,12 +392,14 @@ public class TextIcon implements Icon, PropertyChangeListener
 			for (int i = 0; i < text.length(); i++)
 			{
 				int offsetX = Math.round((getIconWidth() - stringWidths[i]) / 2.0f);
-				g2.drawString(strings[i], x + offsetX, y + offsetY);
+				g2.drawString(strings[i], offsetX, offsetY);
 				offsetY += incrementY;
 			}
 		}
 
 		g2.dispose();
+
+		return image;
 	}
 //
 //  Implement the PropertyChangeListener interface
@@ -344,5 +411,8 @@ public class TextIcon implements Icon, PropertyChangeListener
 		if (font == null) {
 			calculateIconDimensions();
 		}
+		else {
+			cachedImage = null;
+		}
 	}
 }
\ No newline at end of file
@@ -26,17 +26,19 @@ import io.github.andrewauclair.moderndocking.api.DockingAPI;
 import io.github.andrewauclair.moderndocking.api.RootDockingPanelAPI;
 import io.github.andrewauclair.moderndocking.event.DockingLayoutEvent;
 import io.github.andrewauclair.moderndocking.event.DockingLayoutListener;
+import io.github.andrewauclair.moderndocking.event.LayoutTimingReport;
 import io.github.andrewauclair.moderndocking.exception.RootDockingPanelNotFoundException;
 import io.github.andrewauclair.moderndocking.internal.DockableProperties;
 import io.github.andrewauclair.moderndocking.internal.DockableWrapper;
 import io.github.andrewauclair.moderndocking.internal.DockedAnchorPanel;
+import io.github.andrewauclair.moderndocking.internal.DockedMultiSplitPanel;
 import io.github.andrewauclair.moderndocking.internal.DockedSimplePanel;
 import io.github.andrewauclair.moderndocking.internal.DockedSplitPanel;
 import io.github.andrewauclair.moderndocking.internal.DockedTabbedPanel;
-import io.github.andrewauclair.moderndocking.internal.DockingComponentUtils;
 import io.github.andrewauclair.moderndocking.internal.DockingInternal;
 import io.github.andrewauclair.moderndocking.internal.DockingPanel;
 import io.github.andrewauclair.moderndocking.internal.InternalRootDockingPanel;
+import io.github.andrewauclair.moderndocking.internal.LayoutTimingRecorder;
 import java.awt.Dimension;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -147,20 +149,19 @@ public class DockingLayouts {
 	 * @return Layout of the window
 	 */
 	public static WindowLayout layoutFromRoot(DockingAPI docking, RootDockingPanelAPI root) {
-		InternalRootDockingPanel internalRoot = DockingInternal.get(docking).getRootPanels().entrySet().stream()
-				.filter(entry -> entry.getValue().getRootPanel() == root)
-				.findFirst()
-				.map(Map.Entry::getValue)
-				.orElseThrow(() -> new IllegalArgumentException("Root docking panel is not registered"));
+		DockingInternal internal = DockingInternal.get(docking);
+		InternalRootDockingPanel internalRoot = internal.getInternalRoot(root);
+
+		if (internalRoot == null) {
+			throw new IllegalArgumentException("Root docking panel is not registered");
+		}
 
-		WindowLayout layout = new WindowLayout(DockingComponentUtils.windowForRoot(docking, root), panelToNode(docking, internalRoot.getPanel()));
+		WindowLayout layout = new WindowLayout(internal.getWindowForRoot(root), panelToNode(docking, internalRoot.getPanel()));
 
 		layout.setWestAutoHideToolbarIDs(internalRoot.getWestAutoHideToolbarIDs());
 		layout.setEastAutoHideToolbarIDs(internalRoot.getEastAutoHideToolbarIDs());
 		layout.setSouthAutoHideToolbarIDs(internalRoot.getSouthAutoHideToolbarIDs());
 
-		DockingInternal internal = DockingInternal.get(docking);
-
 		Dimension size = root.getSize();
 
 		for (String id : internalRoot.getWestAutoHideToolbarIDs()) {
@@ -191,13 +192,23 @@ public class DockingLayouts {
 		if (panel instanceof DockedSimplePanel) {
 			DockableWrapper wrapper = ((DockedSimplePanel) panel).getWrapper();
 
+			LayoutTimingRecorder timings = DockingInternal.get(docking).getLayoutTimings();
+			long dockableStart = timings.start();
+
 			Map<String, Property> properties = DockableProperties.saveProperties(wrapper);
 
+			timings.phase(LayoutTimingReport.Phase.PROPERTY_SAVE, dockableStart);
+
 			node = new DockingSimplePanelNode(docking, wrapper.getDockable().getPersistentID(), wrapper.getDockable().getClass().getTypeName(), panel.getAnchor(), wrapper.getDockable().getTitleText(), wrapper.getDockable().getTabText(), properties);
+
+			timings.dockable(wrapper.getDockable().getPersistentID(), dockableStart);
 		}
 		else if (panel instanceof DockedSplitPanel) {
 			node = splitPanelToNode(docking, (DockedSplitPanel) panel);
 		}
+		else if (panel instanceof DockedMultiSplitPanel) {
+			node = multiSplitPanelToNode(docking, (DockedMultiSplitPanel) panel);
+		}
 		else if (panel instanceof DockedTabbedPanel) {
 			node = tabbedPanelToNode(docking, (DockedTabbedPanel) panel);
 		}
@@ -230,13 +241,36 @@ public class DockingLayouts {
 		return new DockingSplitPanelNode(docking, panelToNode(docking, panel.getLeft()), panelToNode(docking, panel.getRight()), splitPane.getOrientation(), dividerProportion, panel.getAnchor());
 	}
 
+	private static DockingLayoutNode multiSplitPanelToNode(DockingAPI docking, DockedMultiSplitPanel panel) {
+		List<DockingLayoutNode> children = new ArrayList<>();
+
+		for (DockingPanel child : panel.getChildren()) {
+			children.add(panelToNode(docking, child));
+		}
+
+		return new DockingMultiSplitPanelNode(docking, children, panel.getProportions(), panel.getOrientation(), panel.getAnchor());
+	}
+
 	private static DockingLayoutNode tabbedPanelToNode(DockingAPI docking, DockedTabbedPanel panel) {
 		DockableWrapper wrapper = DockingInternal.get(docking).getWrapper(DockingInternal.get(docking).getDockable(panel.getSelectedTabID()));
 
+		LayoutTimingRecorder timings = DockingInternal.get(docking).getLayoutTimings();
+		long selectedStart = timings.start();
+
 		DockingTabPanelNode node = new DockingTabPanelNode(docking, panel.getSelectedTabID(), "", panel.getAnchor(), wrapper.getDockable().getTitleText(), wrapper.getDockable().getTabText(), DockableProperties.saveProperties(wrapper));
 
+		timings.phase(LayoutTimingReport.Phase.PROPERTY_SAVE, selectedStart);
+
 		for (DockableWrapper dockable : panel.getDockables()) {
-			node.addTab(dockable.getDockable().getPersistentID(), dockable.getClass().getTypeName(), dockable.getAnchor(), dockable.getDockable().getTitleText(), dockable.getDockable().getTabText(), DockableProperties.saveProperties(dockable));
+			long dockableStart = timings.start();
+
+			Map<String, Property> properties = DockableProperties.saveProperties(dockable);
+
+			timings.phase(LayoutTimingReport.Phase.PROPERTY_SAVE, dockableStart);
+
+			node.addTab(dockable.getDockable().getPersistentID(), dockable.getClass().getTypeName(), dockable.getAnchor(), dockable.getDockable().getTitleText(), dockable.getDockable().getTabText(), properties);
+
+			timings.dockable(dockable.getDockable().getPersistentID(), dockableStart);
 		}
 		return node;
 	}
@@ -0,0 +1,195 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.layouts;
+
+import io.github.andrewauclair.moderndocking.Dockable;
+import io.github.andrewauclair.moderndocking.DockingRegion;
+import io.github.andrewauclair.moderndocking.api.DockingAPI;
+import io.github.andrewauclair.moderndocking.internal.DockingInternal;
+import io.github.andrewauclair.moderndocking.settings.Settings;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.swing.JSplitPane;
+
+/**
+ * Layout node that represents a split with any number of children along one axis
+ */
+public class DockingMultiSplitPanelNode implements DockingLayoutNode {
+	private final DockingAPI docking;
+	private final List<DockingLayoutNode> children = new ArrayList<>();
+	private final List<Double> proportions = new ArrayList<>();
+	private final int orientation;
+	private final String anchor;
+
+	private DockingLayoutNode parent;
+
+	/**
+	 * Create a new DockingMultiSplitPanelNode for a layout
+	 *
+	 * @param docking The docking instance this node belongs to
+	 * @param children The children of the split, in order from left to right or top to bottom
+	 * @param proportions The share of the split given to each child
+	 * @param orientation The orientation of the split
+	 * @param anchor The anchor associated with this node
+	 */
+	public DockingMultiSplitPanelNode(DockingAPI docking, List<DockingLayoutNode> children, List<Double> proportions, int orientation, String anchor) {
+		if (children.size() != proportions.size()) {
+			throw new IllegalArgumentException("illegal proportions: expected " + children.size() + " but got " + proportions.size());
+		}
+
+		this.docking = docking;
+		this.children.addAll(children);
+		this.proportions.addAll(proportions);
+		this.orientation = orientation;
+		this.anchor = anchor;
+
+		for (DockingLayoutNode child : this.children) {
+			if (child != null) {
+				child.setParent(this);
+			}
+		}
+	}
+
+	@Override
+	public DockingLayoutNode getParent() {
+		return parent;
+	}
+
+	@Override
+	public void setParent(DockingLayoutNode parent) {
+		this.parent = parent;
+	}
+
+	@Override
+	public DockingLayoutNode findNode(String persistentID) {
+		for (DockingLayoutNode child : children) {
+			if (child == null) {
+				continue;
+			}
+
+			DockingLayoutNode node = child.findNode(persistentID);
+
+			if (node != null) {
+				return node;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void dock(String persistentID, DockingRegion region, double dividerProportion) {
+		if (region == DockingRegion.CENTER) {
+			return;
+		}
+
+		Dockable dockable = DockingInternal.get(docking).getDockable(persistentID);
+		String className = dockable.getClass().getTypeName();
+
+		DockingLayoutNode node;
+
+		if (Settings.alwaysDisplayTabsMode()) {
+			node = new DockingTabPanelNode(docking, persistentID, className, anchor, dockable.getTitleText(), dockable.getTabText());
+		}
+		else {
+			node = new DockingSimplePanelNode(docking, persistentID, className, anchor, dockable.getTitleText(), dockable.getTabText());
+		}
+
+		boolean horizontalRegion = region == DockingRegion.EAST || region == DockingRegion.WEST;
+		boolean first = region == DockingRegion.NORTH || region == DockingRegion.WEST;
+
+		if (horizontalRegion == (orientation == JSplitPane.HORIZONTAL_SPLIT)) {
+			// docking along our axis, the new node becomes another child and takes its share from the existing children
+			double total = 0;
+
+			for (double proportion : proportions) {
+				total += proportion;
+			}
+
+			for (int i = 0; i < proportions.size(); i++) {
+				double proportion = total > 0 ? proportions.get(i) / total : 1.0 / proportions.size();
+				proportions.set(i, proportion * (1.0 - dividerProportion));
+			}
+
+			int index = first ? 0 : children.size();
+
+			children.add(index, node);
+			proportions.add(index, dividerProportion);
+			node.setParent(this);
+			return;
+		}
+
+		if (!first) {
+			dividerProportion = 1.0 - dividerProportion;
+		}
+
+		DockingLayoutNode oldParent = parent;
+		DockingSplitPanelNode split = new DockingSplitPanelNode(docking, first ? node : this, first ? this : node, horizontalRegion ? JSplitPane.HORIZONTAL_SPLIT : JSplitPane.VERTICAL_SPLIT, dividerProportion, anchor);
+		oldParent.replaceChild(this, split);
+	}
+
+	@Override
+	public void replaceChild(DockingLayoutNode child, DockingLayoutNode newChild) {
+		int index = children.indexOf(child);
+
+		if (index != -1) {
+			children.set(index, newChild);
+			newChild.setParent(this);
+		}
+	}
+
+	/**
+	 * Get the children of the split
+	 *
+	 * @return Children, in order from left to right or top to bottom
+	 */
+	public List<DockingLayoutNode> getChildren() {
+		return Collections.unmodifiableList(children);
+	}
+
+	/**
+	 * Get the share of the split given to each child
+	 *
+	 * @return Proportions, in the same order as the children
+	 */
+	public List<Double> getProportions() {
+		return Collections.unmodifiableList(proportions);
+	}
+
+	/**
+	 * Get the orientation
+	 *
+	 * @return The orientation of the split, JSplitPane.HORIZONTAL_SPLIT or JSplitPane.VERTICAL_SPLIT
+	 */
+	public int getOrientation() {
+		return orientation;
+	}
+
+	/**
+	 * Get the anchor
+	 *
+	 * @return The anchor associated with this node
+	 */
+	public String getAnchor() {
+		return anchor;
+	}
+}
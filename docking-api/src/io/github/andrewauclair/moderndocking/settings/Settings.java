@@ -31,12 +31,21 @@ public class Settings {
     private static DockableTabPreference defaultTabPreference = DockableTabPreference.BOTTOM;
 
     private static int tabLayoutPolicy = JTabbedPane.SCROLL_TAB_LAYOUT;
+    private static boolean virtualTabsEnabled = false;
 
     private static boolean enableActiveHighlighter = true;
 
     private static int dragThreshold = 20;
     private static boolean useExistingDragThreshold = false;
 
+    private static boolean dragPreviewEnabled = false;
+    private static double dragPreviewScale = 0.5;
+
+    private static int dragFramePoolSize = 2;
+
+    private static boolean autoHideAnimationEnabled = false;
+    private static int autoHideAnimationDuration = 150;
+
     /**
      * Unused. All methods are static
      */
@@ -91,6 +100,28 @@ public class Settings {
         Settings.tabLayoutPolicy = tabLayoutPolicy;
     }
 
+    /**
+     * Check if tab groups only attach the component of the selected tab
+     *
+     * @return Are virtual tabs enabled?
+     */
+    public static boolean isVirtualTabsEnabled() {
+        return virtualTabsEnabled;
+    }
+
+    /**
+     * Only attach the component of the selected tab to tab groups. The other dockables in the group are removed from
+     * the component hierarchy until their tab is selected, which keeps tab groups with hundreds of dockables cheap to
+     * lay out and paint.
+     * <p>
+     * Only applies to tab groups created after this is changed
+     *
+     * @param enabled New flag state
+     */
+    public static void setVirtualTabsEnabled(boolean enabled) {
+        virtualTabsEnabled = enabled;
+    }
+
     /**
      * Check if the active dockable highlighter is enabled
      *
@@ -140,4 +171,109 @@ public class Settings {
     public static void useExistingDragThreshold(boolean useExisting) {
         useExistingDragThreshold = useExisting;
     }
+
+    /**
+     * Check if dockables are dragged as a snapshot image instead of moving the live components into the drag frame
+     *
+     * @return Is the drag preview image enabled?
+     */
+    public static boolean isDragPreviewEnabled() {
+        return dragPreviewEnabled;
+    }
+
+    /**
+     * Drag a snapshot image of the dockable instead of moving its live components into the drag frame. Useful for
+     * dockables that are expensive to lay out and paint. The dockable stays docked, with its contents hidden, until it
+     * is dropped, and it is only moved if the drop docks it somewhere else
+     *
+     * @param enabled New flag state
+     */
+    public static void setDragPreviewEnabled(boolean enabled) {
+        dragPreviewEnabled = enabled;
+    }
+
+    /**
+     * Get the scale that drag preview images are rendered at
+     *
+     * @return Drag preview scale
+     */
+    public static double getDragPreviewScale() {
+        return dragPreviewScale;
+    }
+
+    /**
+     * Set the scale that drag preview images are rendered at. The image is stretched to the size of the dockable
+     * while dragging, so smaller scales are cheaper to render but blurrier. Defaults to 0.5
+     *
+     * @param scale New scale, greater than 0 and at most 1
+     */
+    public static void setDragPreviewScale(double scale) {
+        if (scale <= 0 || scale > 1) {
+            throw new IllegalArgumentException("illegal drag preview scale: must be greater than 0 and at most 1");
+        }
+        dragPreviewScale = scale;
+    }
+
+    /**
+     * Get the maximum number of drag frames that are kept for reuse
+     *
+     * @return Drag frame pool size
+     */
+    public static int getDragFramePoolSize() {
+        return dragFramePoolSize;
+    }
+
+    /**
+     * Set the maximum number of drag frames that are kept for reuse after a drag ends. Defaults to 2, use 0 to
+     * dispose the drag frame after every drag
+     *
+     * @param size New pool size
+     */
+    public static void setDragFramePoolSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("illegal drag frame pool size: must not be negative");
+        }
+        dragFramePoolSize = size;
+    }
+
+    /**
+     * Check if auto hide panels slide in from their toolbar when displayed
+     *
+     * @return Is the auto hide animation enabled?
+     */
+    public static boolean isAutoHideAnimationEnabled() {
+        return autoHideAnimationEnabled;
+    }
+
+    /**
+     * Slide auto hide panels in from their toolbar when they are displayed. The animation moves a snapshot image of
+     * the panel and the live dockable is only displayed once the panel reaches its final size. Dragging the slide
+     * border also resizes the snapshot until the mouse is released
+     *
+     * @param enabled New flag state
+     */
+    public static void setAutoHideAnimationEnabled(boolean enabled) {
+        autoHideAnimationEnabled = enabled;
+    }
+
+    /**
+     * Get the length of the auto hide slide in animation
+     *
+     * @return Animation duration in milliseconds
+     */
+    public static int getAutoHideAnimationDuration() {
+        return autoHideAnimationDuration;
+    }
+
+    /**
+     * Set the length of the auto hide slide in animation. Defaults to 150 milliseconds
+     *
+     * @param millis New animation duration in milliseconds, greater than 0
+     */
+    public static void setAutoHideAnimationDuration(int millis) {
+        if (millis <= 0) {
+            throw new IllegalArgumentException("illegal auto hide animation duration: must be greater than 0");
+        }
+        autoHideAnimationDuration = millis;
+    }
 }
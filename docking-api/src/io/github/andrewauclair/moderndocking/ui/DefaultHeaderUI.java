@@ -21,6 +21,8 @@ SOFTWARE.
  */
 package io.github.andrewauclair.moderndocking.ui;
 
+import io.github.andrewauclair.moderndocking.internal.LookAndFeelDispatcher;
+import io.github.andrewauclair.moderndocking.internal.util.DockingIcons;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
@@ -29,9 +31,7 @@ import java.awt.GridBagLayout;
 import java.awt.Insets;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.util.Objects;
 import javax.swing.BorderFactory;
-import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JCheckBoxMenuItem;
 import javax.swing.JComponent;
@@ -41,7 +41,6 @@ import javax.swing.JMenuItem;
 import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
 import javax.swing.SwingUtilities;
-import javax.swing.UIManager;
 import javax.swing.event.AncestorEvent;
 import javax.swing.event.AncestorListener;
 
@@ -76,23 +75,47 @@ public class DefaultHeaderUI extends JPanel implements DockingHeaderUI, Ancestor
 	protected final JLabel maximizedIndicator = new JLabel("Maximized");
 
 	/**
-	 * Popup menu that is displayed when the settings button is pressed
+	 * Shared by the settings and close buttons of every header to fill the button while the mouse is over it
 	 */
-	private final JPopupMenu settingsMenu = new JPopupMenu();
+	private static final MouseAdapter buttonHoverListener = new MouseAdapter() {
+		@Override
+		public void mouseEntered(MouseEvent e) {
+			JButton button = (JButton) e.getSource();
+			button.setContentAreaFilled(true);
+			button.setOpaque(true);
+		}
+
+		@Override
+		public void mouseExited(MouseEvent e) {
+			JButton button = (JButton) e.getSource();
+			button.setContentAreaFilled(false);
+			button.setOpaque(false);
+		}
+	};
+
+	/**
+	 * Popup menu that is displayed when the settings button is pressed. Created the first time it's displayed
+	 */
+	private JPopupMenu settingsMenu = null;
 
 	/**
 	 * Menu option to auto hide the dockable. Available when the dockable is auto hide enabled
 	 */
-	private final JCheckBoxMenuItem autoHide = new JCheckBoxMenuItem("Auto Hide");
+	private JCheckBoxMenuItem autoHide = null;
 
 	/**
 	 * Option to move the dockable to its own window
 	 */
-	private final JMenuItem window = new JMenuItem("Window");
+	private JMenuItem window = null;
 	/**
 	 * Option to maximize the dockable
 	 */
-	private final JCheckBoxMenuItem maximizeOption = new JCheckBoxMenuItem("Maximize");
+	private JCheckBoxMenuItem maximizeOption = null;
+
+	/**
+	 * Flag indicating that the settings menu contains the view mode and maximize options
+	 */
+	private boolean hasOptions = false;
 
 	/**
 	 * Used to ensure that the header UI is only initialized once when added to its parent
@@ -108,6 +131,11 @@ public class DefaultHeaderUI extends JPanel implements DockingHeaderUI, Ancestor
 	 */
 	private Color foregroundOverride = null;
 
+	/**
+	 * Updates the colors of this header when the look and feel changes. The dispatcher only keeps a weak reference
+	 */
+	private final LookAndFeelDispatcher.Listener lookAndFeelListener = this::lookAndFeelChanged;
+
 	/**
 	 * Create a new DefaultHeaderUI
 	 *
@@ -127,7 +155,12 @@ public class DefaultHeaderUI extends JPanel implements DockingHeaderUI, Ancestor
 
 	@Override
 	public void displaySettingsMenu(JButton settings) {
-		SwingUtilities.updateComponentTreeUI(settingsMenu);
+		if (settingsMenu == null) {
+			createSettingsMenu();
+		}
+		else {
+			SwingUtilities.updateComponentTreeUI(settingsMenu);
+		}
 		settingsMenu.show(settings, settings.getWidth(), settings.getHeight());
 	}
 
@@ -140,15 +173,10 @@ public class DefaultHeaderUI extends JPanel implements DockingHeaderUI, Ancestor
 		}
 		initialized = true;
 
-		try {
-			settings.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/api_icons/settings.png"))));
-			close.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/api_icons/close.png"))));
-		}
-		catch (Exception ignored) {
-		}
+		settings.setIcon(DockingIcons.settings());
+		close.setIcon(DockingIcons.close());
 
 		settings.addActionListener(e -> displaySettingsMenu(settings));
-		settings.addActionListener(e -> this.settingsMenu.show(settings, settings.getWidth(), settings.getHeight()));
 		close.addActionListener(e -> headerController.close());
 
 		setupButton(settings);
@@ -192,7 +220,7 @@ public class DefaultHeaderUI extends JPanel implements DockingHeaderUI, Ancestor
 		gbc.weightx = 0;
 
 		if (headerModel.hasMoreOptions() || headerModel.isMaximizeAllowed() || headerModel.isAutoHideAllowed() || (headerModel.isFloatingAllowed() && !headerModel.isDockableAloneInWindow())) {
-			addOptions();
+			hasOptions = true;
 
 			add(settings, gbc);
 			gbc.gridx++;
@@ -214,25 +242,37 @@ public class DefaultHeaderUI extends JPanel implements DockingHeaderUI, Ancestor
 
 		setBorder(BorderFactory.createMatteBorder(0, 0, 1, 0, DockingSettings.getHighlighterNotSelectedBorder()));
 
-		UIManager.addPropertyChangeListener(e -> {
-			if ("lookAndFeel".equals(e.getPropertyName())) {
-				Color bg = DockingSettings.getHeaderBackground();
-				SwingUtilities.invokeLater(() -> {
-					setBackground(bg);
+		LookAndFeelDispatcher.addColorListener(lookAndFeelListener);
+	}
 
-					setBorder(BorderFactory.createMatteBorder(0, 0, 1, 0, DockingSettings.getHighlighterNotSelectedBorder()));
-				});
+	private void lookAndFeelChanged() {
+		setBackground(DockingSettings.getHeaderBackground());
+		setForeground(DockingSettings.getHeaderForeground());
 
-				SwingUtilities.updateComponentTreeUI(settingsMenu);
-			}
-			else if (e.getPropertyName().equals("ModernDocking.titlebar.background")) {
-				Color bg = DockingSettings.getHeaderBackground();
-				SwingUtilities.invokeLater(() -> setBackground(bg));
-			}
-		});
+		setBorder(BorderFactory.createMatteBorder(0, 0, 1, 0, DockingSettings.getHighlighterNotSelectedBorder()));
+
+		if (settingsMenu != null) {
+			SwingUtilities.updateComponentTreeUI(settingsMenu);
+		}
+	}
+
+	/**
+	 * Create the settings menu. Most headers never display their menu, so it's only created when first needed
+	 */
+	private void createSettingsMenu() {
+		settingsMenu = new JPopupMenu();
+
+		if (hasOptions) {
+			addOptions();
+			updateOptions();
+		}
 	}
 
 	private void addOptions() {
+		autoHide = new JCheckBoxMenuItem("Auto Hide");
+		window = new JMenuItem("Window");
+		maximizeOption = new JCheckBoxMenuItem("Maximize");
+
 		headerModel.addMoreOptions(settingsMenu);
 
 		if (settingsMenu.getComponentCount() > 0) {
@@ -273,19 +313,7 @@ public class DefaultHeaderUI extends JPanel implements DockingHeaderUI, Ancestor
 		button.setOpaque(false);
 		button.setContentAreaFilled(false);
 
-		button.addMouseListener(new MouseAdapter() {
-			@Override
-			public void mouseEntered(MouseEvent e) {
-				button.setContentAreaFilled(true);
-				button.setOpaque(true);
-			}
-
-			@Override
-			public void mouseExited(MouseEvent e) {
-				button.setContentAreaFilled(false);
-				button.setOpaque(false);
-			}
-		});
+		button.addMouseListener(buttonHoverListener);
 	}
 
 	@Override
@@ -329,6 +357,16 @@ public class DefaultHeaderUI extends JPanel implements DockingHeaderUI, Ancestor
 		titleLabel.setText(headerModel.titleText());
 
 		maximizedIndicator.setVisible(headerModel.isMaximized());
+
+		if (maximizeOption != null) {
+			updateOptions();
+		}
+	}
+
+	/**
+	 * Update the state of the menu options from the header model
+	 */
+	private void updateOptions() {
 		maximizeOption.setSelected(headerModel.isMaximized());
 		maximizeOption.setEnabled(headerModel.isMaximizeAllowed());
 
@@ -60,12 +60,14 @@ public class DockingSettings {
     private static final String themeHandleForeground = "TableHeader.foreground";
     private static final String themeHighlighterSelectedBorder = "Component.focusColor";
     private static final String themeHighlighterNotSelectedBorder = "Component.borderColor";
+    private static final String basicHighlighterNotSelectedBorder = "controlShadow";
     private static final String themeHeaderBackground = "TableHeader.background";
     private static final String themeHeaderForeground = "TableHeader.foreground";
 
     private static final Color defaultHandleBackground = Color.white;
     private static final Color defaultHandleForeground = Color.black;
     private static final Color defaultHighlightColor = Color.BLUE;
+    private static final Color defaultNotSelectedBorderColor = Color.GRAY;
     private static final Color overlayBackgroundOpaque = new Color(0x42c0ff);
     private static final Color defaultOverlayBackground = new Color(overlayBackgroundOpaque.getRed() / 255f, overlayBackgroundOpaque.getGreen() / 255f, overlayBackgroundOpaque.getBlue() / 255f, 85 / 255f);
     private static final Color defaultHeaderBackground = Color.white;
@@ -79,12 +81,71 @@ public class DockingSettings {
     private static String currentHeaderBackground = themeHeaderBackground;
     private static String currentHeaderForeground = themeHeaderForeground;
 
+    // colors resolved from the look and feel, updated when the look and feel or a property name changes
+    private static boolean colorsResolved = false;
+    private static int colorsVersion = 0;
+    private static Color resolvedHandleBackground;
+    private static Color resolvedHandleForeground;
+    private static Color resolvedOverlayBackground;
+    private static Color resolvedHighlighterSelectedBorder;
+    private static Color resolvedHighlighterNotSelectedBorder;
+    private static Color resolvedHeaderBackground;
+    private static Color resolvedHeaderForeground;
+
     /**
      * Unused. All methods are static
      */
     private DockingSettings() {
     }
 
+    /**
+     * Resolve the colors from the current look and feel. This is done automatically on the EDT when the look and feel
+     * or a ModernDocking property in the UIManager defaults changes, and when a property name is set here
+     */
+    public static void updateColors() {
+        // the ModernDocking handle properties take priority over the configured handle properties
+        resolvedHandleBackground = resolve(handleBackground, currentHandleBackground, defaultHandleBackground);
+        resolvedHandleForeground = resolve(handleForeground, currentHandleForeground, defaultHandleForeground);
+        resolvedOverlayBackground = resolve(currentOverlayBackground, overlayBackground, defaultOverlayBackground);
+        resolvedHighlighterSelectedBorder = resolve(currentHighlightSelectedBorder, highlighterSelectedBorder, defaultHighlightColor);
+        // only FlatLaf has a border color. the not selected border is around every panel, use the basic shadow color instead of the highlight color
+        Color notSelectedBorderColor = UIManager.getColor(basicHighlighterNotSelectedBorder) != null ? UIManager.getColor(basicHighlighterNotSelectedBorder) : defaultNotSelectedBorderColor;
+        resolvedHighlighterNotSelectedBorder = resolve(currentHighlightNotSelectedBorder, highlighterNotSelectedBorder, notSelectedBorderColor);
+        resolvedHeaderBackground = resolve(currentHeaderBackground, headerBackground, defaultHeaderBackground);
+        resolvedHeaderForeground = resolve(currentHeaderForeground, headerForeground, defaultHeaderForeground);
+
+        colorsResolved = true;
+        colorsVersion++;
+    }
+
+    /**
+     * Get the version of the resolved colors. The version changes every time the colors are resolved again, allowing
+     * anything derived from the colors to be cached until it changes
+     *
+     * @return Colors version
+     */
+    public static int getColorsVersion() {
+        ensureColorsResolved();
+        return colorsVersion;
+    }
+
+    private static void ensureColorsResolved() {
+        if (!colorsResolved) {
+            updateColors();
+        }
+    }
+
+    private static Color resolve(String property, String fallbackProperty, Color defaultColor) {
+        if (UIManager.get(property) != null) {
+            return UIManager.getColor(property);
+        }
+        if (UIManager.get(fallbackProperty) != null) {
+            return UIManager.getColor(fallbackProperty);
+        }
+        // TODO I wonder if we should attempt the theme property again here, assuming the user has changd the current property
+        return defaultColor;
+    }
+
     /**
      * Set a new property to use for the background color on Docking Handles
      *
@@ -92,6 +153,7 @@ public class DockingSettings {
      */
     public static void setHandleBackgroundProperty(String property) {
         currentHandleBackground = property;
+        updateColors();
     }
 
     /**
@@ -100,14 +162,8 @@ public class DockingSettings {
      * @return Handle background color
      */
     public static Color getHandleBackground() {
-        if (UIManager.get(handleBackground) != null) {
-            return UIManager.getColor(handleBackground);
-        }
-        if (UIManager.get(currentHandleBackground) != null) {
-            return UIManager.getColor(currentHandleBackground);
-        }
-        // TODO I wonder if we should attempt the theme property again here, assuming the user has changd the current property
-        return defaultHandleBackground;
+        ensureColorsResolved();
+        return resolvedHandleBackground;
     }
 
     /**
@@ -117,6 +173,7 @@ public class DockingSettings {
      */
     public static void setHandleForegroundProperty(String property) {
         currentHandleForeground = property;
+        updateColors();
     }
 
     /**
@@ -125,13 +182,8 @@ public class DockingSettings {
      * @return Handle foreground color
      */
     public static Color getHandleForeground() {
-        if (UIManager.get(handleForeground) != null) {
-            return UIManager.getColor(handleForeground);
-        }
-        if (UIManager.get(currentHandleForeground) != null) {
-            return UIManager.getColor(currentHandleForeground);
-        }
-        return defaultHandleForeground;
+        ensureColorsResolved();
+        return resolvedHandleForeground;
     }
 
     /**
@@ -141,6 +193,7 @@ public class DockingSettings {
      */
     public static void setOverlayBackgroundProperty(String property) {
         currentOverlayBackground = property;
+        updateColors();
     }
 
     /**
@@ -149,13 +202,8 @@ public class DockingSettings {
      * @return Overlay background color
      */
     public static Color getOverlayBackground() {
-        if (UIManager.get(currentOverlayBackground) != null) {
-            return UIManager.getColor(currentOverlayBackground);
-        }
-        if (UIManager.get(overlayBackground) != null) {
-            return UIManager.getColor(overlayBackground);
-        }
-        return defaultOverlayBackground;
+        ensureColorsResolved();
+        return resolvedOverlayBackground;
     }
 
     /**
@@ -165,6 +213,7 @@ public class DockingSettings {
      */
     public static void setHighlighterSelectedBorderProperty(String property) {
         currentHighlightSelectedBorder = property;
+        updateColors();
     }
 
     /**
@@ -173,13 +222,8 @@ public class DockingSettings {
      * @return Selected border color
      */
     public static Color getHighlighterSelectedBorder() {
-        if (UIManager.get(currentHighlightSelectedBorder) != null) {
-            return UIManager.getColor(currentHighlightSelectedBorder);
-        }
-        if (UIManager.get(highlighterSelectedBorder) != null) {
-            return UIManager.getColor(highlighterSelectedBorder);
-        }
-        return defaultHighlightColor;
+        ensureColorsResolved();
+        return resolvedHighlighterSelectedBorder;
     }
 
     /**
@@ -189,6 +233,7 @@ public class DockingSettings {
      */
     public static void setHighlighterNotSelectedBorderProperty(String property) {
         currentHighlightNotSelectedBorder = property;
+        updateColors();
     }
 
     /**
@@ -197,13 +242,8 @@ public class DockingSettings {
      * @return Highlighter not selected border color
      */
     public static Color getHighlighterNotSelectedBorder() {
-        if (UIManager.get(currentHighlightNotSelectedBorder) != null) {
-            return UIManager.getColor(currentHighlightNotSelectedBorder);
-        }
-        if (UIManager.get(highlighterNotSelectedBorder) != null) {
-            return UIManager.getColor(highlighterNotSelectedBorder);
-        }
-        return defaultHighlightColor;
+        ensureColorsResolved();
+        return resolvedHighlighterNotSelectedBorder;
     }
 
     /**
@@ -213,6 +253,7 @@ public class DockingSettings {
      */
     public static void setHeaderBackgroundProperty(String property) {
         currentHeaderBackground = property;
+        updateColors();
     }
 
     /**
@@ -221,13 +262,8 @@ public class DockingSettings {
      * @return Current header background color
      */
     public static Color getHeaderBackground() {
-        if (UIManager.get(currentHeaderBackground) != null) {
-            return UIManager.getColor(currentHeaderBackground);
-        }
-        if (UIManager.get(headerBackground) != null) {
-            return UIManager.getColor(headerBackground);
-        }
-        return defaultHeaderBackground;
+        ensureColorsResolved();
+        return resolvedHeaderBackground;
     }
 
     /**
@@ -237,6 +273,7 @@ public class DockingSettings {
      */
     public static void setHeaderForegroundProperty(String property) {
         currentHeaderForeground = property;
+        updateColors();
     }
 
     /**
@@ -245,12 +282,7 @@ public class DockingSettings {
      * @return Current header foreground color
      */
     public static Color getHeaderForeground() {
-        if (UIManager.get(currentHeaderForeground) != null) {
-            return UIManager.getColor(currentHeaderForeground);
-        }
-        if (UIManager.get(headerForeground) != null) {
-            return UIManager.getColor(headerForeground);
-        }
-        return defaultHeaderForeground;
+        ensureColorsResolved();
+        return resolvedHeaderForeground;
     }
 }
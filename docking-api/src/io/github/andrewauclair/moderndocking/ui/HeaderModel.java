@@ -148,7 +148,8 @@ public class HeaderModel {
 	}
 
 	/**
-	 * Add the extra options to the context menu
+	 * Add the extra options to the context menu. Called when the header's menu is first opened, not when the header
+	 * is created
 	 *
 	 * @param menu Menu to add options to
 	 */
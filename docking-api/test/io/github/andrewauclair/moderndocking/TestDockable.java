@@ -0,0 +1,65 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking;
+
+import javax.swing.JPanel;
+
+/**
+ * Minimal dockable for tests
+ */
+public class TestDockable extends JPanel implements Dockable {
+    private final String persistentID;
+    private int type = 0;
+
+    /**
+     * Create a new test dockable
+     *
+     * @param persistentID The persistent ID, also used as the tab text
+     */
+    public TestDockable(String persistentID) {
+        this.persistentID = persistentID;
+    }
+
+    @Override
+    public String getPersistentID() {
+        return persistentID;
+    }
+
+    @Override
+    public String getTabText() {
+        return persistentID;
+    }
+
+    @Override
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * Change the type of this dockable
+     *
+     * @param type The new type
+     */
+    public void setType(int type) {
+        this.type = type;
+    }
+}
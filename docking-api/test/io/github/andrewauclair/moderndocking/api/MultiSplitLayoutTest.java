@@ -0,0 +1,141 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.andrewauclair.moderndocking.TestDockable;
+import io.github.andrewauclair.moderndocking.layouts.DockingLayoutNode;
+import io.github.andrewauclair.moderndocking.layouts.DockingMultiSplitPanelNode;
+import io.github.andrewauclair.moderndocking.layouts.DockingSimplePanelNode;
+import io.github.andrewauclair.moderndocking.layouts.DockingSplitPanelNode;
+import io.github.andrewauclair.moderndocking.layouts.WindowLayout;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.swing.JSplitPane;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MultiSplitLayoutTest {
+    private DockingAPI docking;
+
+    @TempDir
+    File tempDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            docking = new DockingAPI(null) {};
+
+            for (String id : new String[] { "a", "b", "c", "d" }) {
+                docking.registerDockable(new TestDockable(id));
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        SwingUtilities.invokeAndWait(() -> docking.uninitialize());
+    }
+
+    @Test
+    void flatteningKeepsTheShareOfEachChild() {
+        // a | (b | (c | d)) with a nested multi split, all along the same axis
+        DockingLayoutNode inner = new DockingMultiSplitPanelNode(docking, Arrays.asList(simple("c"), simple("d")), Arrays.asList(1.0, 3.0), JSplitPane.HORIZONTAL_SPLIT, "");
+        DockingLayoutNode middle = new DockingSplitPanelNode(docking, simple("b"), inner, JSplitPane.HORIZONTAL_SPLIT, 0.5, "");
+        DockingLayoutNode root = new DockingSplitPanelNode(docking, simple("a"), middle, JSplitPane.HORIZONTAL_SPLIT, 0.2, "");
+
+        List<DockingLayoutNode> children = new ArrayList<>();
+        List<Double> proportions = new ArrayList<>();
+
+        DockingStateAPI.flattenSplit(root, JSplitPane.HORIZONTAL_SPLIT, 1.0, children, proportions);
+
+        assertEquals(Arrays.asList("a", "b", "c", "d"), ids(children));
+        assertProportions(proportions, 0.2, 0.4, 0.1, 0.3);
+    }
+
+    @Test
+    void flatteningStopsAtSplitsAcrossTheAxis() {
+        DockingLayoutNode a = simple("a");
+        DockingLayoutNode across = new DockingSplitPanelNode(docking, simple("b"), simple("c"), JSplitPane.VERTICAL_SPLIT, 0.5, "");
+        DockingLayoutNode root = new DockingSplitPanelNode(docking, a, across, JSplitPane.HORIZONTAL_SPLIT, 0.3, "");
+
+        List<DockingLayoutNode> children = new ArrayList<>();
+        List<Double> proportions = new ArrayList<>();
+
+        DockingStateAPI.flattenSplit(root, JSplitPane.HORIZONTAL_SPLIT, 1.0, children, proportions);
+
+        assertEquals(Arrays.asList(a, across), children);
+        assertProportions(proportions, 0.3, 0.7);
+    }
+
+    @Test
+    void multiSplitSurvivesXmlRoundTrip() {
+        DockingLayoutNode across = new DockingSplitPanelNode(docking, simple("c"), simple("d"), JSplitPane.VERTICAL_SPLIT, 0.5, "");
+        DockingMultiSplitPanelNode node = new DockingMultiSplitPanelNode(docking, Arrays.asList(simple("a"), simple("b"), across), Arrays.asList(0.2, 0.3, 0.5), JSplitPane.HORIZONTAL_SPLIT, "");
+
+        File file = new File(tempDir, "layout.xml");
+
+        assertTrue(docking.getLayoutPersistence().saveWindowLayoutToFile(file, new WindowLayout(node)));
+
+        WindowLayout loaded = docking.getLayoutPersistence().loadWindowLayoutFromFile(file);
+
+        DockingMultiSplitPanelNode loadedNode = assertInstanceOf(DockingMultiSplitPanelNode.class, loaded.getRootNode());
+
+        assertEquals(JSplitPane.HORIZONTAL_SPLIT, loadedNode.getOrientation());
+        assertProportions(loadedNode.getProportions(), 0.2, 0.3, 0.5);
+        assertEquals(Arrays.asList("a", "b"), ids(loadedNode.getChildren().subList(0, 2)));
+
+        DockingSplitPanelNode loadedAcross = assertInstanceOf(DockingSplitPanelNode.class, loadedNode.getChildren().get(2));
+
+        assertEquals(JSplitPane.VERTICAL_SPLIT, loadedAcross.getOrientation());
+        assertEquals(Arrays.asList("c", "d"), ids(Arrays.asList(loadedAcross.getLeft(), loadedAcross.getRight())));
+    }
+
+    private DockingSimplePanelNode simple(String persistentID) {
+        return new DockingSimplePanelNode(docking, persistentID, TestDockable.class.getTypeName(), "", persistentID, persistentID);
+    }
+
+    private static List<String> ids(List<DockingLayoutNode> nodes) {
+        List<String> ids = new ArrayList<>();
+
+        for (DockingLayoutNode node : nodes) {
+            ids.add(((DockingSimplePanelNode) node).getPersistentID());
+        }
+        return ids;
+    }
+
+    private static void assertProportions(List<Double> actual, double... expected) {
+        assertEquals(expected.length, actual.size());
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual.get(i), 1e-9);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import io.github.andrewauclair.moderndocking.TestDockable;
+import io.github.andrewauclair.moderndocking.api.DockingAPI;
+import io.github.andrewauclair.moderndocking.ui.DockingSettings;
+import java.awt.Color;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+import javax.swing.border.Border;
+import javax.swing.border.CompoundBorder;
+import javax.swing.border.LineBorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ActiveDockableHighlighterTest {
+    private static final String NOT_SELECTED_PROPERTY = "ModernDocking.highlighterNotSelectedBorder";
+
+    private DockingAPI docking;
+    private DockableWrapper wrapper;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            docking = new DockingAPI(null) {};
+
+            TestDockable dockable = new TestDockable("one");
+            docking.registerDockable(dockable);
+
+            wrapper = DockingInternal.get(docking).getWrapper(dockable);
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            UIManager.put(NOT_SELECTED_PROPERTY, null);
+
+            // the panel was never docked in a window, there's nothing to undock
+            wrapper.setParent(null);
+            docking.uninitialize();
+        });
+        flushEDT();
+    }
+
+    @Test
+    void notSelectedBorderIsNeutralWithoutFlatLaf() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            DockingSettings.updateColors();
+
+            assertNotEquals(DockingSettings.getHighlighterSelectedBorder(), DockingSettings.getHighlighterNotSelectedBorder());
+            assertEquals(UIManager.getColor("controlShadow"), DockingSettings.getHighlighterNotSelectedBorder());
+        });
+    }
+
+    @Test
+    void colorChangeUpdatesNotSelectedPanels() throws Exception {
+        DockingPanel[] panel = new DockingPanel[1];
+
+        SwingUtilities.invokeAndWait(() -> panel[0] = new DockedTabbedPanel(docking, wrapper, ""));
+
+        SwingUtilities.invokeAndWait(() -> UIManager.put(NOT_SELECTED_PROPERTY, Color.RED));
+        flushEDT();
+
+        SwingUtilities.invokeAndWait(() -> assertEquals(Color.RED, lineColor(panel[0].getBorder())));
+    }
+
+    private static Color lineColor(Border border) {
+        return ((LineBorder) ((CompoundBorder) border).getInsideBorder()).getLineColor();
+    }
+
+    // the color listeners are notified in a later EDT event
+    private static void flushEDT() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {});
+        SwingUtilities.invokeAndWait(() -> {});
+    }
+}
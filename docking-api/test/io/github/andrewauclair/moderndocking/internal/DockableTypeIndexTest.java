@@ -0,0 +1,100 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import io.github.andrewauclair.moderndocking.Dockable;
+import io.github.andrewauclair.moderndocking.TestDockable;
+import io.github.andrewauclair.moderndocking.api.DockingAPI;
+import java.awt.GraphicsEnvironment;
+import java.util.Optional;
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.Test;
+
+class DockableTypeIndexTest {
+    @Test
+    void isBeforeFollowsLayoutOrder() {
+        JPanel root = new JPanel();
+        JPanel left = new JPanel();
+        JPanel right = new JPanel();
+        JPanel first = new JPanel();
+        JPanel second = new JPanel();
+        JPanel third = new JPanel();
+
+        root.add(left);
+        root.add(right);
+        left.add(first);
+        right.add(second);
+        right.add(third);
+
+        assertTrue(DockableTypeIndex.isBefore(first, second));
+        assertTrue(DockableTypeIndex.isBefore(first, third));
+        assertTrue(DockableTypeIndex.isBefore(second, third));
+        assertFalse(DockableTypeIndex.isBefore(third, second));
+        assertFalse(DockableTypeIndex.isBefore(third, first));
+    }
+
+    @Test
+    void findFirstUsesLayoutOrderAndCurrentType() throws Exception {
+        assumeFalse(GraphicsEnvironment.isHeadless());
+
+        SwingUtilities.invokeAndWait(() -> {
+            JFrame frame = new JFrame();
+            DockingAPI docking = new DockingAPI(frame) {};
+
+            TestDockable one = new TestDockable("one");
+            TestDockable two = new TestDockable("two");
+            TestDockable three = new TestDockable("three");
+
+            docking.registerDockable(one);
+            docking.registerDockable(two);
+            docking.registerDockable(three);
+
+            DockingPanel parent = new DockedSplitPanel(docking, frame, "");
+
+            // docked in the opposite order of the layout
+            for (TestDockable dockable : new TestDockable[] { three, two, one }) {
+                DockableWrapper wrapper = DockingInternal.get(docking).getWrapper(dockable);
+                frame.getContentPane().add(wrapper.getDisplayPanel(), 0);
+                wrapper.setWindow(frame);
+                wrapper.setParent(parent);
+            }
+
+            DockableTypeIndex index = DockingInternal.get(docking).getTypeIndex();
+
+            assertEquals(Optional.<Dockable>of(one), index.findFirst(0, frame));
+
+            two.setType(1);
+
+            assertEquals(Optional.<Dockable>of(two), index.findFirst(1, frame));
+            assertEquals(Optional.empty(), index.findFirst(2, frame));
+
+            frame.dispose();
+        });
+    }
+}
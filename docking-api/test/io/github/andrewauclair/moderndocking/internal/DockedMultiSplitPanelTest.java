@@ -0,0 +1,149 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.github.andrewauclair.moderndocking.DockingRegion;
+import io.github.andrewauclair.moderndocking.TestDockable;
+import io.github.andrewauclair.moderndocking.api.DockingAPI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.swing.JSplitPane;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DockedMultiSplitPanelTest {
+    private DockingAPI docking;
+    private final List<TestDockable> dockables = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SwingUtilities.invokeAndWait(() -> docking = new DockingAPI(null) {});
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            // the panels were never docked in a window, there's nothing to undock
+            for (TestDockable dockable : dockables) {
+                DockingInternal.get(docking).getWrapper(dockable).setParent(null);
+            }
+            docking.uninitialize();
+        });
+    }
+
+    @Test
+    void dockingAlongTheAxisMergesSplits() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            DockedSimplePanel a = panel("a");
+            DockedSimplePanel b = panel("b");
+            DockedSplitPanel outer = split(JSplitPane.VERTICAL_SPLIT, split(JSplitPane.HORIZONTAL_SPLIT, a, b, 0.5), panel("bottom"), 0.5);
+
+            TestDockable c = dockable("c");
+            b.dock(c, DockingRegion.EAST, 0.5);
+
+            DockedMultiSplitPanel multiSplit = assertInstanceOf(DockedMultiSplitPanel.class, outer.getLeft());
+
+            assertEquals(JSplitPane.HORIZONTAL_SPLIT, multiSplit.getOrientation());
+            assertEquals(Arrays.asList(a, b, wrapper(c).getParent()), multiSplit.getChildren());
+            assertProportions(multiSplit.getProportions(), 0.5, 0.25, 0.25);
+        });
+    }
+
+    @Test
+    void dockingAcrossTheAxisKeepsBinarySplits() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            DockedSimplePanel b = panel("b");
+            DockedSplitPanel outer = split(JSplitPane.VERTICAL_SPLIT, split(JSplitPane.HORIZONTAL_SPLIT, panel("a"), b, 0.5), panel("bottom"), 0.5);
+
+            b.dock(dockable("c"), DockingRegion.SOUTH, 0.5);
+
+            DockedSplitPanel split = assertInstanceOf(DockedSplitPanel.class, outer.getLeft());
+            assertInstanceOf(DockedSplitPanel.class, split.getRight());
+        });
+    }
+
+    @Test
+    void undockingMergesSplitsLeftAlongTheAxis() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            DockedSimplePanel a = panel("a");
+            DockedSimplePanel b = panel("b");
+            DockedSimplePanel c = panel("c");
+            DockedSimplePanel d = panel("d");
+
+            // undocking b leaves [c, d] in place of the vertical split, along the axis of the split around it
+            DockedSplitPanel vertical = split(JSplitPane.VERTICAL_SPLIT, b, split(JSplitPane.HORIZONTAL_SPLIT, c, d, 0.5), 0.5);
+            DockedSplitPanel outer = split(JSplitPane.VERTICAL_SPLIT, split(JSplitPane.HORIZONTAL_SPLIT, a, vertical, 0.25), panel("bottom"), 0.5);
+
+            b.undock(b.getWrapper().getDockable());
+
+            DockedMultiSplitPanel multiSplit = assertInstanceOf(DockedMultiSplitPanel.class, outer.getLeft());
+
+            assertEquals(Arrays.asList(a, c, d), multiSplit.getChildren());
+            assertProportions(multiSplit.getProportions(), 0.25, 0.375, 0.375);
+
+            // down to a single child, the multi split is replaced by it
+            c.undock(c.getWrapper().getDockable());
+            a.undock(a.getWrapper().getDockable());
+
+            assertSame(d, outer.getLeft());
+        });
+    }
+
+    private TestDockable dockable(String persistentID) {
+        TestDockable dockable = new TestDockable(persistentID);
+        docking.registerDockable(dockable);
+        dockables.add(dockable);
+        return dockable;
+    }
+
+    private DockableWrapper wrapper(TestDockable dockable) {
+        return DockingInternal.get(docking).getWrapper(dockable);
+    }
+
+    private DockedSimplePanel panel(String persistentID) {
+        return new DockedSimplePanel(docking, wrapper(dockable(persistentID)), "");
+    }
+
+    private DockedSplitPanel split(int orientation, DockingPanel left, DockingPanel right, double proportion) {
+        DockedSplitPanel split = new DockedSplitPanel(docking, null, "");
+        split.setLeft(left);
+        split.setRight(right);
+        split.setOrientation(orientation);
+        split.setDividerLocation(proportion);
+        return split;
+    }
+
+    private static void assertProportions(List<Double> actual, double... expected) {
+        assertEquals(expected.length, actual.size());
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual.get(i), 1e-9);
+        }
+    }
+}
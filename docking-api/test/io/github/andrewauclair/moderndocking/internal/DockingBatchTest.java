@@ -0,0 +1,148 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.andrewauclair.moderndocking.TestDockable;
+import io.github.andrewauclair.moderndocking.api.DockingAPI;
+import io.github.andrewauclair.moderndocking.event.DockingEvent;
+import io.github.andrewauclair.moderndocking.event.DockingListener;
+import java.awt.Component;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DockingBatchTest {
+    private DockingAPI first;
+    private DockingAPI second;
+    private final List<DockingEvent> events = new ArrayList<>();
+    private final DockingListener listener = events::add;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            first = new DockingAPI(null) {};
+            second = new DockingAPI(null) {};
+        });
+        DockingListeners.addDockingListener(listener);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        DockingListeners.removeDockingListener(listener);
+        SwingUtilities.invokeAndWait(() -> {
+            first.uninitialize();
+            second.uninitialize();
+        });
+    }
+
+    @Test
+    void eventsAreHeldUntilTheOutermostBatchEnds() throws Exception {
+        SwingUtilities.invokeAndWait(() -> first.batch(() -> {
+            second.batch(() -> DockingListeners.fireDockedEvent(new TestDockable("one")));
+
+            assertTrue(events.isEmpty());
+        }));
+
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void batchDepthIsPerInstance() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            DockingBatch firstBatch = DockingInternal.get(first).getBatch();
+            DockingBatch secondBatch = DockingInternal.get(second).getBatch();
+
+            firstBatch.begin();
+            secondBatch.begin();
+            secondBatch.end();
+            // ending a batch that was never started doesn't end the other instance's batch
+            secondBatch.end();
+
+            assertTrue(firstBatch.isActive());
+            assertFalse(secondBatch.isActive());
+
+            DockingListeners.fireDockedEvent(new TestDockable("one"));
+            assertTrue(events.isEmpty());
+
+            firstBatch.end();
+
+            assertFalse(firstBatch.isActive());
+            assertEquals(1, events.size());
+        });
+    }
+
+    @Test
+    void dockingPanelsDeferLayoutDuringABatch() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            List<Component> revalidated = new ArrayList<>();
+            List<Component> repainted = new ArrayList<>();
+            RepaintManager previous = RepaintManager.currentManager(null);
+
+            RepaintManager.setCurrentManager(new RepaintManager() {
+                @Override
+                public void addInvalidComponent(JComponent invalidComponent) {
+                    revalidated.add(invalidComponent);
+                }
+
+                @Override
+                public void addDirtyRegion(JComponent c, int x, int y, int w, int h) {
+                    repainted.add(c);
+                }
+            });
+
+            try {
+                JPanel parent = new JPanel();
+                DockedSplitPanel panel = new DockedSplitPanel(first, null, "");
+                parent.add(panel);
+                revalidated.clear();
+                repainted.clear();
+
+                first.batch(() -> {
+                    panel.revalidate();
+                    panel.repaint();
+                });
+
+                assertFalse(revalidated.contains(panel));
+                assertFalse(repainted.contains(panel));
+
+                panel.revalidate();
+                panel.repaint();
+
+                assertTrue(revalidated.contains(panel));
+                assertTrue(repainted.contains(panel));
+            }
+            finally {
+                RepaintManager.setCurrentManager(previous);
+            }
+        });
+    }
+}
@@ -0,0 +1,155 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal.floating;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.github.andrewauclair.moderndocking.TestDockable;
+import io.github.andrewauclair.moderndocking.api.DockingAPI;
+import io.github.andrewauclair.moderndocking.internal.DisplayPanel;
+import io.github.andrewauclair.moderndocking.internal.DockingInternal;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Point;
+import java.lang.management.ManagementFactory;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Regression test for the allocations of the drag motion path: moving the mouse over the dockable handles and
+ * updating the overlay must not allocate per event
+ */
+class DragMotionAllocationTest {
+    // the limit is per motion event. it leaves room for the occasional allocation inside of Swing, but a single
+    // Point or Rectangle per event (24 to 32 bytes) will fail
+    private static final long MAX_BYTES_PER_EVENT = 16;
+
+    private static final int WARMUP_PASSES = 200;
+    private static final int MEASURED_PASSES = 1000;
+
+    private DockingAPI docking;
+    private TestDockable target;
+    private TestDockable floating;
+
+    // stands in for the utility frame. the handles and overlay only need its location and repaint
+    private final JPanel frame = new JPanel(null);
+    // stands in for the window that contains the target
+    private final JPanel window = new JPanel(null);
+
+    private final Point[] path = new Point[400];
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            docking = new DockingAPI(null) {};
+
+            target = new TestDockable("target");
+            floating = new TestDockable("floating");
+
+            docking.registerDockable(target);
+            docking.registerDockable(floating);
+
+            frame.setBounds(0, 0, 800, 600);
+            window.setBounds(0, 0, 800, 600);
+
+            DisplayPanel displayPanel = DockingInternal.get(docking).getWrapper(target).getDisplayPanel();
+            displayPanel.setBounds(100, 100, 400, 300);
+            window.add(displayPanel);
+            layout(displayPanel);
+
+            // a path that crosses the target, its handles and the space around it
+            for (int i = 0; i < path.length; i++) {
+                path[i] = new Point(50 + i, 80 + ((i * 3) % 360));
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        SwingUtilities.invokeAndWait(() -> docking.uninitialize());
+    }
+
+    @Test
+    void dragMotionDoesNotAllocate() throws Exception {
+        assumeTrue(threadBean().isThreadAllocatedMemorySupported());
+
+        long[] bytesPerEvent = new long[1];
+
+        SwingUtilities.invokeAndWait(() -> {
+            threadBean().setThreadAllocatedMemoryEnabled(true);
+
+            RootDockingHandles rootHandles = new RootDockingHandles(frame, null);
+            DockableHandles dockableHandles = new DockableHandles(frame);
+            FloatingOverlay overlay = new FloatingOverlay(docking, frame);
+
+            dockableHandles.setTarget(target, floating);
+
+            for (int i = 0; i < WARMUP_PASSES; i++) {
+                replay(rootHandles, dockableHandles, overlay);
+            }
+
+            long threadId = Thread.currentThread().getId();
+            long before = threadBean().getThreadAllocatedBytes(threadId);
+
+            for (int i = 0; i < MEASURED_PASSES; i++) {
+                replay(rootHandles, dockableHandles, overlay);
+            }
+
+            long allocated = threadBean().getThreadAllocatedBytes(threadId) - before;
+
+            bytesPerEvent[0] = allocated / ((long) MEASURED_PASSES * path.length);
+        });
+
+        assertTrue(bytesPerEvent[0] <= MAX_BYTES_PER_EVENT, "drag motion allocated " + bytesPerEvent[0] + " bytes per event, the limit is " + MAX_BYTES_PER_EVENT);
+    }
+
+    // the same steps that FloatUtilsFrame takes for each motion event over a dockable
+    private void replay(RootDockingHandles rootHandles, DockableHandles dockableHandles, FloatingOverlay overlay) {
+        for (Point point : path) {
+            rootHandles.mouseMoved(point);
+            dockableHandles.mouseMoved(point);
+
+            overlay.setVisible(false);
+            overlay.updateForDockable(target, floating, point, dockableHandles.getRegion());
+            overlay.repaintChanges();
+        }
+    }
+
+    private static void layout(Component component) {
+        // there are no peers in a headless environment, so validate() won't lay anything out
+        if (component instanceof Container) {
+            component.doLayout();
+
+            for (Component child : ((Container) component).getComponents()) {
+                layout(child);
+            }
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        return (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+}
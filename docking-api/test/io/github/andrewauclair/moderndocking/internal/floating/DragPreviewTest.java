@@ -0,0 +1,94 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal.floating;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.github.andrewauclair.moderndocking.settings.Settings;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DragPreviewTest {
+    private final double scale = Settings.getDragPreviewScale();
+
+    @AfterEach
+    void tearDown() {
+        Settings.setDragPreviewScale(scale);
+    }
+
+    @Test
+    void stretchedImageIsCachedUntilTheNextCapture() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            Settings.setDragPreviewScale(0.5);
+
+            JPanel source = new JPanel();
+            source.setSize(200, 100);
+            source.setBackground(Color.RED);
+
+            Dimension size = new Dimension(200, 100);
+
+            TempFloatingFrame.DragPreview preview = new TempFloatingFrame.DragPreview();
+            preview.capture(source, size);
+
+            BufferedImage image = preview.imageFor(200, 100);
+
+            // painting again while the frame moves doesn't stretch the snapshot again
+            assertSame(image, preview.imageFor(200, 100));
+            assertEquals(Color.RED.getRGB(), image.getRGB(100, 50));
+
+            // the next drag renders a new snapshot into the same images
+            source.setBackground(Color.BLUE);
+            preview.capture(source, size);
+
+            assertSame(image, preview.imageFor(200, 100));
+            assertEquals(Color.BLUE.getRGB(), image.getRGB(100, 50));
+
+            assertNotSame(image, preview.imageFor(300, 150));
+        });
+    }
+
+    @Test
+    void fullScaleSnapshotIsPaintedDirectly() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            Settings.setDragPreviewScale(1.0);
+
+            JPanel source = new JPanel();
+            source.setSize(200, 100);
+
+            TempFloatingFrame.DragPreview preview = new TempFloatingFrame.DragPreview();
+            preview.capture(source, new Dimension(200, 100));
+
+            BufferedImage image = preview.imageFor(200, 100);
+
+            preview.capture(source, new Dimension(200, 100));
+
+            assertSame(image, preview.imageFor(200, 100));
+        });
+    }
+}
@@ -0,0 +1,82 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal.floating;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import io.github.andrewauclair.moderndocking.api.DockingAPI;
+import java.awt.GraphicsEnvironment;
+import java.util.Arrays;
+import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.Test;
+
+class FloatingTest {
+    @Test
+    void windowsShareOneUtilityFrame() throws Exception {
+        assumeFalse(GraphicsEnvironment.isHeadless());
+
+        JFrame[] frames = new JFrame[2];
+
+        SwingUtilities.invokeAndWait(() -> {
+            frames[0] = new JFrame();
+            frames[1] = new JFrame();
+
+            DockingAPI docking = new DockingAPI(frames[0]) {};
+
+            // roots aren't needed until a drag is activated
+            Floating.registerDockingWindow(docking, frames[0], null);
+            Floating.registerDockingWindow(docking, frames[1], null);
+        });
+
+        SwingUtilities.invokeAndWait(() -> {
+            FloatUtilsFrame first = Floating.frameForWindow(frames[0]);
+            FloatUtilsFrame second = Floating.frameForWindow(frames[1]);
+
+            assertSame(first, second);
+            assertSame(frames[1], second.getReferenceWindow());
+
+            // the frame only listens to a window while a drag is active
+            for (JFrame frame : frames) {
+                assertFalse(Arrays.asList(frame.getComponentListeners()).contains(second));
+                assertFalse(Arrays.asList(frame.getWindowListeners()).contains(second));
+            }
+
+            // closing the window the frame is tied to disposes the frame
+            Floating.deregisterDockingWindow(frames[1]);
+
+            FloatUtilsFrame next = Floating.frameForWindow(frames[0]);
+
+            assertNotSame(second, next);
+            assertNull(Floating.frameForWindow(frames[1]));
+
+            Floating.deregisterDockingWindow(frames[0]);
+
+            frames[0].dispose();
+            frames[1].dispose();
+        });
+    }
+}
@@ -0,0 +1,121 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.internal.floating;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import io.github.andrewauclair.moderndocking.DockingRegion;
+import io.github.andrewauclair.moderndocking.TestDockable;
+import io.github.andrewauclair.moderndocking.api.DockingAPI;
+import io.github.andrewauclair.moderndocking.api.RootDockingPanelAPI;
+import io.github.andrewauclair.moderndocking.internal.DisplayPanel;
+import io.github.andrewauclair.moderndocking.internal.DockableWrapper;
+import io.github.andrewauclair.moderndocking.internal.DockingInternal;
+import io.github.andrewauclair.moderndocking.internal.DockingPanel;
+import io.github.andrewauclair.moderndocking.settings.Settings;
+import java.awt.BorderLayout;
+import java.awt.Component;
+import java.awt.GraphicsEnvironment;
+import java.awt.Point;
+import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.Test;
+
+class PreviewDragTest {
+    @Test
+    void previewDragKeepsTheDockableDockedUntilTheDrop() throws Exception {
+        assumeFalse(GraphicsEnvironment.isHeadless());
+
+        JFrame[] frame = new JFrame[1];
+        DockingAPI[] docking = new DockingAPI[1];
+        TestDockable left = new TestDockable("left");
+        TestDockable right = new TestDockable("right");
+
+        SwingUtilities.invokeAndWait(() -> {
+            Settings.setDragPreviewEnabled(true);
+
+            frame[0] = new JFrame();
+            frame[0].setBounds(100, 100, 800, 600);
+
+            docking[0] = new DockingAPI(frame[0]) {};
+            frame[0].add(new RootDockingPanelAPI(docking[0], frame[0]) {}, BorderLayout.CENTER);
+
+            docking[0].registerDockable(left);
+            docking[0].registerDockable(right);
+
+            docking[0].dock(left, frame[0]);
+            docking[0].dock(right, left, DockingRegion.EAST);
+
+            frame[0].setVisible(true);
+        });
+
+        try {
+            SwingUtilities.invokeAndWait(() -> {
+                DockableWrapper wrapper = DockingInternal.get(docking[0]).getWrapper(right);
+                DisplayPanel panel = wrapper.getDisplayPanel();
+                DockingPanel parent = wrapper.getParent();
+
+                Point center = new Point(panel.getWidth() / 2, panel.getHeight() / 2);
+                SwingUtilities.convertPointToScreen(center, panel);
+
+                Point leftCenter = new Point(40, 40);
+                SwingUtilities.convertPointToScreen(leftCenter, DockingInternal.get(docking[0]).getWrapper(left).getDisplayPanel());
+
+                assertTrue(DragReplay.begin(docking[0], right, center));
+
+                // still docked in the same place, with its contents hidden and out of the drop targets
+                assertTrue(docking[0].isDocked(right));
+                assertSame(parent, wrapper.getParent());
+
+                for (Component component : panel.getComponents()) {
+                    assertFalse(component.isVisible());
+                }
+
+                DropTargetIndex targets = wrapper.getFloatListener().getDropTargets();
+
+                assertNull(targets.findDockableAtScreenPos(center, frame[0]));
+                assertSame(left, targets.findDockableAtScreenPos(leftCenter, frame[0]));
+
+                // dropping it back on itself leaves it where it was
+                DragReplay.end(center);
+
+                assertSame(parent, wrapper.getParent());
+
+                for (Component component : panel.getComponents()) {
+                    assertTrue(component.isVisible());
+                }
+            });
+        }
+        finally {
+            SwingUtilities.invokeAndWait(() -> {
+                Settings.setDragPreviewEnabled(false);
+
+                docking[0].uninitialize();
+                frame[0].dispose();
+            });
+        }
+    }
+}
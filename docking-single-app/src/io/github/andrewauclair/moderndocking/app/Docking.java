@@ -26,6 +26,8 @@ import io.github.andrewauclair.moderndocking.DockingRegion;
 import io.github.andrewauclair.moderndocking.api.DockingAPI;
 import io.github.andrewauclair.moderndocking.api.RootDockingPanelAPI;
 import io.github.andrewauclair.moderndocking.event.DockingListener;
+import io.github.andrewauclair.moderndocking.event.DragFramePoolMetrics;
+import io.github.andrewauclair.moderndocking.event.DragMotionListener;
 import io.github.andrewauclair.moderndocking.event.MaximizeListener;
 import io.github.andrewauclair.moderndocking.event.NewFloatingFrameListener;
 import io.github.andrewauclair.moderndocking.internal.DockingInternal;
@@ -567,6 +569,17 @@ public class Docking {
         instance.updateTabInfo(dockable);
     }
 
+    /**
+     * Apply a group of docking operations, such as dock, undock, autoHideDockable and display, as a single change.
+     * Docking events are held back until all the operations have run and the layout is persisted once at the end.
+     * Must be called on the EDT
+     *
+     * @param operations The docking operations to apply
+     */
+    public static void batch(Runnable operations) {
+        instance.batch(operations);
+    }
+
     /**
      * Add a new maximize listener. Will be called when a dockable is maximized
      *
@@ -603,6 +616,43 @@ public class Docking {
         instance.removeDockingListener(listener);
     }
 
+    /**
+     * Add a new drag motion listener. Will be called each time the docking handles and overlay are updated during a drag
+     *
+     * @param listener Listener to add
+     */
+    public static void addDragMotionListener(DragMotionListener listener) {
+        instance.addDragMotionListener(listener);
+    }
+
+    /**
+     * Remove a drag motion listener
+     *
+     * @param listener Listener to remove
+     */
+    public static void removeDragMotionListener(DragMotionListener listener) {
+        instance.removeDragMotionListener(listener);
+    }
+
+    /**
+     * Create the frames used for dragging dockables ahead of time. Creating native windows is slow on some platforms,
+     * calling this at startup keeps that cost out of the first drags. Limited to Settings.getDragFramePoolSize()
+     *
+     * @param count Number of frames to create
+     */
+    public static void prewarmDragFramePool(int count) {
+        instance.prewarmDragFramePool(count);
+    }
+
+    /**
+     * Get the current metrics of the pool of frames used for dragging dockables
+     *
+     * @return Drag frame pool metrics
+     */
+    public static DragFramePoolMetrics getDragFramePoolMetrics() {
+        return instance.getDragFramePoolMetrics();
+    }
+
     /**
      * Add a new floating frame listener
      *
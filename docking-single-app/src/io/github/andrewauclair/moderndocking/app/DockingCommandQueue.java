@@ -0,0 +1,111 @@
+/*
+Copyright (c) 2025 Andrew Auclair
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package io.github.andrewauclair.moderndocking.app;
+
+import io.github.andrewauclair.moderndocking.DockingRegion;
+import io.github.andrewauclair.moderndocking.api.DockingCommandQueueAPI;
+import io.github.andrewauclair.moderndocking.event.DockingCommandQueueMetrics;
+import java.awt.Window;
+
+/**
+ * Submit docking commands from any thread. The commands are run in order on the EDT
+ */
+public class DockingCommandQueue {
+    /**
+     * This class should not be instantiated
+     */
+    private DockingCommandQueue() {
+    }
+
+    private static DockingCommandQueueAPI instance() {
+        return Docking.getSingleInstance().getCommandQueue();
+    }
+
+    /**
+     * Queue a dock into the specified region of the root of the window
+     *
+     * @param persistentID The persistentID of the dockable to dock
+     * @param window The window to dock into
+     * @param region The region to dock into
+     * @param dividerProportion The proportion to use if docking in a split pane
+     */
+    public static void dock(String persistentID, Window window, DockingRegion region, double dividerProportion) {
+        instance().dock(persistentID, window, region, dividerProportion);
+    }
+
+    /**
+     * Queue a dock into the specified region of another dockable
+     *
+     * @param sourcePersistentID The persistentID of the dockable to dock
+     * @param targetPersistentID The persistentID of the dockable to dock to
+     * @param region The region on the target dockable to dock into
+     * @param dividerProportion The proportion to use if docking in a split pane
+     */
+    public static void dock(String sourcePersistentID, String targetPersistentID, DockingRegion region, double dividerProportion) {
+        instance().dock(sourcePersistentID, targetPersistentID, region, dividerProportion);
+    }
+
+    /**
+     * Queue an undock
+     *
+     * @param persistentID The persistentID of the dockable to undock
+     */
+    public static void undock(String persistentID) {
+        instance().undock(persistentID);
+    }
+
+    /**
+     * Queue a display, docking the dockable if it isn't already docked and bringing it to the front
+     *
+     * @param persistentID The persistentID of the dockable to display
+     */
+    public static void display(String persistentID) {
+        instance().display(persistentID);
+    }
+
+    /**
+     * Queue an update of the tab text of a dockable
+     *
+     * @param persistentID The persistentID of the dockable to update
+     */
+    public static void updateTabInfo(String persistentID) {
+        instance().updateTabInfo(persistentID);
+    }
+
+    /**
+     * Set the maximum time spent running commands in a single pass on the EDT
+     *
+     * @param millis Maximum time in milliseconds
+     */
+    public static void setMaxDrainMillis(long millis) {
+        instance().setMaxDrainMillis(millis);
+    }
+
+    /**
+     * Take a snapshot of the queue
+     *
+     * @return The current queue metrics
+     */
+    public static DockingCommandQueueMetrics getMetrics() {
+        return instance().getMetrics();
+    }
+}
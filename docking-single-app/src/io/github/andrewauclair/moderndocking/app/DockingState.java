@@ -22,6 +22,8 @@ SOFTWARE.
 package io.github.andrewauclair.moderndocking.app;
 
 import io.github.andrewauclair.moderndocking.api.DockingStateAPI;
+import io.github.andrewauclair.moderndocking.event.LayoutTimingListener;
+import io.github.andrewauclair.moderndocking.event.LayoutTimingReport;
 import io.github.andrewauclair.moderndocking.layouts.ApplicationLayout;
 import io.github.andrewauclair.moderndocking.layouts.WindowLayout;
 import java.awt.Window;
@@ -83,4 +85,32 @@ public class DockingState {
     public static void restoreWindowLayout_PreserveSizeAndPos(Window window, WindowLayout layout) {
         instance.restoreWindowLayout_PreserveSizeAndPos(window, layout);
     }
+
+    /**
+     * Add a listener that receives a timing report after every timed layout operation: restores, snapshots, loads
+     * and saves of layout files, and look and feel updates
+     *
+     * @param listener Listener to add
+     */
+    public static void addLayoutTimingListener(LayoutTimingListener listener) {
+        instance.addLayoutTimingListener(listener);
+    }
+
+    /**
+     * Remove a previously added layout timing listener
+     *
+     * @param listener Listener to remove
+     */
+    public static void removeLayoutTimingListener(LayoutTimingListener listener) {
+        instance.removeLayoutTimingListener(listener);
+    }
+
+    /**
+     * Get the timing report of the last timed layout operation
+     *
+     * @return Last timing report or null if no layout operation has completed
+     */
+    public static LayoutTimingReport getLastLayoutTimingReport() {
+        return instance.getLastLayoutTimingReport();
+    }
 }
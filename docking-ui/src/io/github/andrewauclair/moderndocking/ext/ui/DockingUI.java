@@ -24,9 +24,8 @@ package io.github.andrewauclair.moderndocking.ext.ui;
 import com.formdev.flatlaf.extras.FlatSVGIcon;
 import io.github.andrewauclair.moderndocking.internal.DockedTabbedPanel;
 import io.github.andrewauclair.moderndocking.internal.DockingInternal;
+import io.github.andrewauclair.moderndocking.internal.LookAndFeelDispatcher;
 import java.awt.Color;
-import java.beans.PropertyChangeListener;
-import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 
 /**
@@ -34,8 +33,12 @@ import javax.swing.UIManager;
  */
 public class DockingUI {
     private static boolean initialized = false;
-    private static PropertyChangeListener propertyChangeListener;
     private static final FlatSVGIcon settingsIcon = new FlatSVGIcon(DockingUI.class.getResource("/ui_ext_icons/settings.svg"));
+    private static String settingsIconColorProperty = "TableHeader.foreground";
+    private static final LookAndFeelDispatcher.Listener lookAndFeelListener = () -> {
+        Color foreground = UIManager.getColor(settingsIconColorProperty);
+        settingsIcon.setColorFilter(new FlatSVGIcon.ColorFilter(color -> foreground));
+    };
 
     /**
      * This class should not be instantiated
@@ -60,19 +63,11 @@ public class DockingUI {
 
         DockedTabbedPanel.setSettingsIcon(settingsIcon);
 
-        Color foreground = UIManager.getColor("TableHeader.foreground");
+        Color foreground = UIManager.getColor(settingsIconColorProperty);
 
         settingsIcon.setColorFilter(new FlatSVGIcon.ColorFilter(color -> foreground));
 
-        propertyChangeListener = e -> {
-            if ("lookAndFeel".equals(e.getPropertyName())) {
-                SwingUtilities.invokeLater(() -> {
-                    Color newForeground = UIManager.getColor("TableHeader.foreground");
-                    settingsIcon.setColorFilter(new FlatSVGIcon.ColorFilter(color -> newForeground));
-                });
-            }
-        };
-        UIManager.addPropertyChangeListener(propertyChangeListener);
+        LookAndFeelDispatcher.addListener(lookAndFeelListener);
     }
 
     /**
@@ -93,16 +88,6 @@ public class DockingUI {
 
         settingsIcon.setColorFilter(new FlatSVGIcon.ColorFilter(color -> foreground));
 
-        UIManager.removePropertyChangeListener(propertyChangeListener);
-
-        propertyChangeListener = e -> {
-            if ("lookAndFeel".equals(e.getPropertyName())) {
-                SwingUtilities.invokeLater(() -> {
-                    Color newForeground = UIManager.getColor("TableHeader.foreground");
-                    settingsIcon.setColorFilter(new FlatSVGIcon.ColorFilter(color -> newForeground));
-                });
-            }
-        };
-        UIManager.addPropertyChangeListener(propertyChangeListener);
+        settingsIconColorProperty = property;
     }
 }
@@ -27,21 +27,20 @@ import io.github.andrewauclair.moderndocking.ui.DockingHeaderUI;
 import io.github.andrewauclair.moderndocking.ui.DockingSettings;
 import io.github.andrewauclair.moderndocking.ui.HeaderController;
 import io.github.andrewauclair.moderndocking.ui.HeaderModel;
-import java.awt.Color;
 
 /**
  * Custom DefaultHeaderUI that uses SVG Icons for settings and close when using FlatLaf
  */
 public class FlatLafHeaderUI extends DefaultHeaderUI implements DockingHeaderUI {
 	/**
-	 * Settings icon for the header. Uses an SVG icon for sharper icons
+	 * Settings icon for the header. Uses an SVG icon for sharper icons. Shared by every header
 	 */
-	private final FlatSVGIcon settingsIcon = new FlatSVGIcon(FlatLafHeaderUI.class.getResource("/ui_ext_icons/settings.svg"));
+	private static final FlatSVGIcon settingsIcon = createIcon("/ui_ext_icons/settings.svg");
 
 	/**
-	 * Close icon for the header. Uses an SVG icon for sharper icons
+	 * Close icon for the header. Uses an SVG icon for sharper icons. Shared by every header
 	 */
-	private final FlatSVGIcon closeIcon = new FlatSVGIcon(FlatLafHeaderUI.class.getResource("/ui_ext_icons/close.svg"));
+	private static final FlatSVGIcon closeIcon = createIcon("/ui_ext_icons/close.svg");
 
 	/**
 	 * Construct a new FlatLafHeaderUI
@@ -61,10 +60,6 @@ public class FlatLafHeaderUI extends DefaultHeaderUI implements DockingHeaderUI
 		}
 
 		setBackground(DockingSettings.getHeaderBackground());
-		Color foreground = DockingSettings.getHeaderForeground();
-
-		settingsIcon.setColorFilter(new FlatSVGIcon.ColorFilter(color -> foreground));
-		closeIcon.setColorFilter(new FlatSVGIcon.ColorFilter(color -> foreground));
 	}
 
 	@Override
@@ -75,15 +70,13 @@ public class FlatLafHeaderUI extends DefaultHeaderUI implements DockingHeaderUI
 		close.setIcon(closeIcon);
 	}
 
-	@Override
-	public void setForeground(Color fg) {
-		super.setForeground(fg);
+	private static FlatSVGIcon createIcon(String path) {
+		FlatSVGIcon icon = new FlatSVGIcon(FlatLafHeaderUI.class.getResource(path));
 
-		if (settingsIcon != null) {
-			settingsIcon.setColorFilter(new FlatSVGIcon.ColorFilter(color -> fg));
-		}
-		if (closeIcon != null) {
-			closeIcon.setColorFilter(new FlatSVGIcon.ColorFilter(color -> fg));
-		}
+		// the header sets the foreground of its buttons, including any foreground override, so each header paints
+		// the shared icon in its own color
+		icon.setColorFilter(new FlatSVGIcon.ColorFilter((component, color) -> component != null ? component.getForeground() : color));
+
+		return icon;
 	}
 }